@@ -0,0 +1,31 @@
+package cn.mindit.atom.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * 基准测试入口, 在 JMH 命令行参数的基础上默认挂载 gc profiler, 同时输出吞吐量与内存分配速率
+ * <p>
+ * 用法: {@code java -jar atom-benchmarks/target/benchmarks.jar [JMH 参数] [基准名正则]}
+ *
+ * @author Catch
+ * @since 2026-10-18
+ */
+public class BenchmarkRunner {
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        ChainedOptionsBuilder builder = new OptionsBuilder().parent(commandLine);
+        if (commandLine.getProfilers().isEmpty()) {
+            builder.addProfiler(GCProfiler.class);
+        }
+        new Runner(builder.build()).run();
+    }
+
+}
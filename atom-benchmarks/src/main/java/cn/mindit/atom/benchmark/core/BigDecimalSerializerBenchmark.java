@@ -0,0 +1,110 @@
+package cn.mindit.atom.benchmark.core;
+
+import cn.mindit.atom.core.util.JsonUtils;
+import cn.mindit.atom.core.util.json.BigDecimalSerializer;
+import cn.mindit.atom.core.util.json.JsonDecimalFormat;
+import lombok.Data;
+import org.openjdk.jmh.annotations.*;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.ValueSerializer;
+import tools.jackson.databind.annotation.JsonSerialize;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.text.DecimalFormat;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link BigDecimalSerializer} 基准测试, 对比无注解与 {@link JsonDecimalFormat} 格式化两条路径,
+ * 并以加锁共享 {@link DecimalFormat} 的写法作为格式化路径的对照
+ *
+ * @author Catch
+ * @since 2026-10-18
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BigDecimalSerializerBenchmark {
+
+    private PlainAmount plain;
+
+    private FormattedAmount formatted;
+
+    private LockedAmount locked;
+
+    @Setup
+    public void setup() {
+        BigDecimal value = new BigDecimal("1234567.891");
+        plain = new PlainAmount();
+        plain.setAmount(value);
+        formatted = new FormattedAmount();
+        formatted.setAmount(value);
+        locked = new LockedAmount();
+        locked.setAmount(value);
+    }
+
+    @Benchmark
+    public String plain() {
+        return JsonUtils.toJson(plain);
+    }
+
+    @Benchmark
+    public String formatted() {
+        return JsonUtils.toJson(formatted);
+    }
+
+    @Benchmark
+    public String lockedDecimalFormat() {
+        return JsonUtils.toJson(locked);
+    }
+
+    @Data
+    public static class PlainAmount {
+
+        private BigDecimal amount;
+
+    }
+
+    @Data
+    public static class FormattedAmount {
+
+        @JsonDecimalFormat("#,##0.00")
+        private BigDecimal amount;
+
+    }
+
+    @Data
+    public static class LockedAmount {
+
+        @JsonSerialize(using = LockedDecimalFormatSerializer.class)
+        private BigDecimal amount;
+
+    }
+
+    /**
+     * 共享同一个 {@link DecimalFormat} 并加锁保证线程安全的写法
+     */
+    public static class LockedDecimalFormatSerializer extends ValueSerializer<BigDecimal> {
+
+        private final DecimalFormat decimalFormat = new DecimalFormat("#,##0.00");
+
+        public LockedDecimalFormatSerializer() {
+            decimalFormat.setRoundingMode(RoundingMode.HALF_UP);
+        }
+
+        @Override
+        public void serialize(BigDecimal value, JsonGenerator gen, SerializationContext context) {
+            String text;
+            synchronized (decimalFormat) {
+                text = decimalFormat.format(value);
+            }
+            gen.writeString(text);
+        }
+
+    }
+
+}
@@ -0,0 +1,83 @@
+package cn.mindit.atom.benchmark.core;
+
+import cn.mindit.atom.core.util.FastInvoker;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 监听器单条消息分发路径的调用开销, 对应 {@code @MqttListener}/{@code @OpcUaListener} 的 (topic, payload) 签名
+ * <p>
+ * direct 为手写调用的基线; reflect 为改造前的 {@link Method#invoke}; methodHandle 为实例字段中已绑定目标的 MethodHandle;
+ * fastInvoker 为 {@link FastInvoker} 生成的调用器
+ *
+ * @author Catch
+ * @since 2026-10-18
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FastInvokerBenchmark {
+
+    private static final String TOPIC = "sensor/temperature";
+
+    private static final String PAYLOAD = "{\"value\":23.5}";
+
+    private final Listener listener = new Listener();
+
+    private Method method;
+
+    private MethodHandle handle;
+
+    private FastInvoker invoker;
+
+    @Setup
+    public void setup() throws Exception {
+        method = Listener.class.getMethod("onMessage", String.class, String.class);
+        handle = MethodHandles.lookup().unreflect(method).bindTo(listener)
+            .asType(MethodType.genericMethodType(2).changeReturnType(void.class));
+        invoker = FastInvoker.of(listener, method);
+    }
+
+    @Benchmark
+    public int direct() {
+        listener.onMessage(TOPIC, PAYLOAD);
+        return listener.hash;
+    }
+
+    @Benchmark
+    public int reflect() throws Exception {
+        method.invoke(listener, TOPIC, PAYLOAD);
+        return listener.hash;
+    }
+
+    @Benchmark
+    public int methodHandle() throws Throwable {
+        handle.invokeExact((Object) TOPIC, (Object) PAYLOAD);
+        return listener.hash;
+    }
+
+    @Benchmark
+    public int fastInvoker() throws Exception {
+        invoker.invoke(TOPIC, PAYLOAD);
+        return listener.hash;
+    }
+
+    public static class Listener {
+
+        private int hash;
+
+        public void onMessage(String topic, String payload) {
+            hash += topic.length() + payload.length();
+        }
+
+    }
+
+}
@@ -0,0 +1,88 @@
+package cn.mindit.atom.benchmark.core;
+
+import cn.mindit.atom.core.util.JsonUtils;
+import cn.mindit.atom.core.util.json.FixedDateTimeCodec;
+import org.openjdk.jmh.annotations.*;
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.ObjectReader;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.ext.javatime.deser.LocalDateTimeDeserializer;
+import tools.jackson.databind.ext.javatime.ser.LocalDateTimeSerializer;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.databind.module.SimpleModule;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link FixedDateTimeCodec} 基准测试, 模拟时序接口返回大量时间戳, 以 Jackson 默认的 DateTimeFormatter 编解码作为对照
+ *
+ * @author Catch
+ * @since 2026-10-18
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FixedDateTimeCodecBenchmark {
+
+    private static final TypeReference<List<LocalDateTime>> TYPE = new TypeReference<>() {
+    };
+
+    private List<LocalDateTime> timestamps;
+
+    private String json;
+
+    private ObjectWriter fixedWriter;
+
+    private ObjectReader fixedReader;
+
+    private ObjectWriter formatterWriter;
+
+    private ObjectReader formatterReader;
+
+    @Setup
+    public void setup() {
+        timestamps = new ArrayList<>(1000);
+        LocalDateTime start = LocalDateTime.of(2026, 1, 1, 0, 0, 0);
+        for (int i = 0; i < 1000; i++) {
+            timestamps.add(start.plusSeconds(i * 37L));
+        }
+        fixedWriter = JsonUtils.jsonMapper.writerFor(TYPE);
+        fixedReader = JsonUtils.jsonMapper.readerFor(TYPE);
+
+        SimpleModule module = new SimpleModule();
+        module.addSerializer(LocalDateTime.class, new LocalDateTimeSerializer(FixedDateTimeCodec.DATE_TIME_FORMATTER))
+              .addDeserializer(LocalDateTime.class, new LocalDateTimeDeserializer(FixedDateTimeCodec.DATE_TIME_FORMATTER));
+        JsonMapper formatterMapper = JsonMapper.builder().addModule(module).build();
+        formatterWriter = formatterMapper.writerFor(TYPE);
+        formatterReader = formatterMapper.readerFor(TYPE);
+
+        json = fixedWriter.writeValueAsString(timestamps);
+    }
+
+    @Benchmark
+    public String fixedSerialize() {
+        return fixedWriter.writeValueAsString(timestamps);
+    }
+
+    @Benchmark
+    public String formatterSerialize() {
+        return formatterWriter.writeValueAsString(timestamps);
+    }
+
+    @Benchmark
+    public List<LocalDateTime> fixedDeserialize() {
+        return fixedReader.readValue(json);
+    }
+
+    @Benchmark
+    public List<LocalDateTime> formatterDeserialize() {
+        return formatterReader.readValue(json);
+    }
+
+}
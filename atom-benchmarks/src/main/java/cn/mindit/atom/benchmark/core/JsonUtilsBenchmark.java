@@ -0,0 +1,89 @@
+package cn.mindit.atom.benchmark.core;
+
+import cn.mindit.atom.core.util.JsonUtils;
+import lombok.Data;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link JsonUtils#toJson(Object)} / {@link JsonUtils#toObject(String, Class)} 基准测试
+ *
+ * @author Catch
+ * @since 2026-10-18
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonUtilsBenchmark {
+
+    private Order order;
+
+    private List<Order> orders;
+
+    private String orderJson;
+
+    private String ordersJson;
+
+    @Setup
+    public void setup() {
+        order = Order.sample(1);
+        orders = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            orders.add(Order.sample(i));
+        }
+        orderJson = JsonUtils.toJson(order);
+        ordersJson = JsonUtils.toJson(orders);
+    }
+
+    @Benchmark
+    public String toJson() {
+        return JsonUtils.toJson(order);
+    }
+
+    @Benchmark
+    public String toJsonList() {
+        return JsonUtils.toJson(orders);
+    }
+
+    @Benchmark
+    public Order toObject() {
+        return JsonUtils.toObject(orderJson, Order.class);
+    }
+
+    @Benchmark
+    public List<Order> toObjectList() {
+        return JsonUtils.toObject(ordersJson, List.class, Order.class);
+    }
+
+    @Data
+    public static class Order {
+
+        private Long id;
+        private String name;
+        private Integer status;
+        private BigDecimal amount;
+        private LocalDateTime createTime;
+        private List<String> tags;
+
+        static Order sample(int i) {
+            Order order = new Order();
+            order.setId(1_000_000L + i);
+            order.setName("order-" + i);
+            order.setStatus(i % 3);
+            order.setAmount(new BigDecimal("12345.6789").add(BigDecimal.valueOf(i)));
+            order.setCreateTime(LocalDateTime.of(2026, 1, 1, 12, 30, 45).plusSeconds(i));
+            order.setTags(List.of("a", "b", "c"));
+            return order;
+        }
+
+    }
+
+}
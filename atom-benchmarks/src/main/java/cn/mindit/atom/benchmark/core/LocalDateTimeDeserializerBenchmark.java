@@ -0,0 +1,45 @@
+package cn.mindit.atom.benchmark.core;
+
+import cn.mindit.atom.core.util.JsonUtils;
+import cn.mindit.atom.core.util.json.LocalDateTimeDeserializer;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link LocalDateTimeDeserializer} 基准测试, 覆盖字符串、毫秒时间戳与数组三种输入
+ *
+ * @author Catch
+ * @since 2026-10-18
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LocalDateTimeDeserializerBenchmark {
+
+    private final String string = "\"2026-01-01 12:30:45\"";
+
+    private final String epochMillis = "1767241845000";
+
+    private final String array = "[2026,1,1,12,30,45]";
+
+    @Benchmark
+    public LocalDateTime fromString() {
+        return JsonUtils.toObject(string, LocalDateTime.class);
+    }
+
+    @Benchmark
+    public LocalDateTime fromEpochMillis() {
+        return JsonUtils.toObject(epochMillis, LocalDateTime.class);
+    }
+
+    @Benchmark
+    public LocalDateTime fromArray() {
+        return JsonUtils.toObject(array, LocalDateTime.class);
+    }
+
+}
@@ -0,0 +1,75 @@
+package cn.mindit.atom.benchmark.core;
+
+import cn.mindit.atom.core.util.JsonUtils;
+import cn.mindit.atom.core.util.MaskType;
+import cn.mindit.atom.core.util.json.JsonMask;
+import cn.mindit.atom.core.util.json.MaskSerializer;
+import lombok.Data;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link MaskSerializer} 基准测试, 覆盖列表接口中最常见的手机号、身份证、姓名、邮箱脱敏
+ *
+ * @author Catch
+ * @since 2026-10-18
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MaskSerializerBenchmark {
+
+    private User user;
+
+    private List<User> users;
+
+    @Setup
+    public void setup() {
+        user = new User();
+        user.setName("王小明");
+        user.setPhone("13812345678");
+        user.setIdCard("110101199001011234");
+        user.setEmail("xiaoming.wang@example.com");
+        users = new ArrayList<>(100);
+        for (int i = 0; i < 100; i++) {
+            users.add(user);
+        }
+    }
+
+    @Benchmark
+    public String mask() {
+        return JsonUtils.toJson(user);
+    }
+
+    /**
+     * 模拟列表接口, 每行都需脱敏
+     */
+    @Benchmark
+    public byte[] maskList() {
+        return JsonUtils.toJsonBytes(users);
+    }
+
+    @Data
+    public static class User {
+
+        @JsonMask(MaskType.NAME)
+        private String name;
+
+        @JsonMask(MaskType.PHONE)
+        private String phone;
+
+        @JsonMask(MaskType.ID_CARD)
+        private String idCard;
+
+        @JsonMask(MaskType.EMAIL)
+        private String email;
+
+    }
+
+}
@@ -0,0 +1,65 @@
+package cn.mindit.atom.benchmark.core;
+
+import cn.mindit.atom.core.util.NanoIdUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link NanoIdUtils#nanoId()} 基准测试, 该方法在每个请求与每个异步任务上生成 traceId
+ * <p>
+ * legacy* 为改造前 StringBuilder + byte[] 的实现, 作为对照组
+ *
+ * @author Catch
+ * @since 2026-10-18
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class NanoIdUtilsBenchmark {
+
+    @Benchmark
+    public String nanoId() {
+        return NanoIdUtils.nanoId();
+    }
+
+    @Benchmark
+    public String nanoId32() {
+        return NanoIdUtils.nanoId(32);
+    }
+
+    @Benchmark
+    public String[] nanoIds100() {
+        return NanoIdUtils.nanoIds(100, 15);
+    }
+
+    @Benchmark
+    public String legacyNanoId() {
+        return legacyNanoId(15);
+    }
+
+    @Benchmark
+    public String legacyNanoId32() {
+        return legacyNanoId(32);
+    }
+
+    private static final char[] LEGACY_ALPHABET = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz_".toCharArray();
+
+    private static final int LEGACY_MASK = LEGACY_ALPHABET.length - 1;
+
+    private static String legacyNanoId(int size) {
+        final StringBuilder id = new StringBuilder();
+        final byte[] bytes = new byte[size];
+        ThreadLocalRandom.current()
+                         .nextBytes(bytes);
+        for (int i = 0; i < size; ++i) {
+            id.append(LEGACY_ALPHABET[bytes[i] & LEGACY_MASK]);
+        }
+        return id.toString();
+    }
+
+}
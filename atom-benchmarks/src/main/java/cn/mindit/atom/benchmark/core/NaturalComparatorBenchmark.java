@@ -0,0 +1,62 @@
+package cn.mindit.atom.benchmark.core;
+
+import cn.mindit.atom.core.util.NaturalComparator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link NaturalComparator#compare(String, String)} / {@link NaturalComparator#sort(List)} 基准测试
+ *
+ * @author Catch
+ * @since 2026-10-18
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class NaturalComparatorBenchmark {
+
+    private final NaturalComparator comparator = new NaturalComparator();
+
+    @Param({"1000", "100000"})
+    private int size;
+
+    private List<String> names;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        names = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            names.add("IMG_" + random.nextInt(100) + "-" + random.nextInt(10_000) + ".part" + random.nextInt(20) + ".jpg");
+        }
+        Collections.shuffle(names, random);
+    }
+
+    @Benchmark
+    public int compare() {
+        return comparator.compare("photo-2026-01-15 v12.final.jpg", "photo-2026-01-15 v9.final.jpg");
+    }
+
+    @Benchmark
+    public List<String> sort() {
+        List<String> copy = new ArrayList<>(names);
+        copy.sort(comparator);
+        return copy;
+    }
+
+    @Benchmark
+    public List<String> sortWithKeys() {
+        List<String> copy = new ArrayList<>(names);
+        NaturalComparator.sort(copy);
+        return copy;
+    }
+
+}
@@ -0,0 +1,125 @@
+package cn.mindit.atom.benchmark.core;
+
+import cn.mindit.atom.core.util.BusinessException;
+import cn.mindit.atom.core.util.Result;
+import cn.mindit.atom.core.util.ResultProvider;
+import cn.mindit.atom.core.util.Should;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 校验失败占多数的接口吞吐量: {@link Should} 断言失败后由异常处理器转换为 {@link Result}
+ * <p>
+ * traced 为默认的完整堆栈; stackless 每次新建省略堆栈的异常; cached 为枚举 provider 复用的单例.
+ * 调用栈深度模拟 Controller -> Service -> 校验 的嵌套, 堆栈越深完整堆栈的开销越大
+ *
+ * @author Catch
+ * @since 2026-10-18
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class StacklessExceptionBenchmark {
+
+    private static final int DEPTH = 32;
+
+    /**
+     * 非 final 字段, 避免 JIT 把校验条件折叠为常量
+     */
+    private boolean invalid = true;
+
+    @Benchmark
+    public Result<?> traced() {
+        return endpoint(TracedFailure.INVALID);
+    }
+
+    @Benchmark
+    public Result<?> stackless() {
+        return endpoint(new StacklessProvider());
+    }
+
+    @Benchmark
+    public Result<?> cached() {
+        return endpoint(StacklessFailure.INVALID);
+    }
+
+    private Result<?> endpoint(ResultProvider provider) {
+        try {
+            return service(provider, DEPTH);
+        } catch (BusinessException e) {
+            return Result.fail(e);
+        }
+    }
+
+    private Result<?> service(ResultProvider provider, int depth) {
+        if (depth > 0) {
+            return service(provider, depth - 1);
+        }
+        Should.isFalse(invalid, provider);
+        return Result.ok();
+    }
+
+    enum TracedFailure implements ResultProvider {
+
+        INVALID;
+
+        @Override
+        public int getCode() {
+            return 4001;
+        }
+
+        @Override
+        public String getMessage() {
+            return "参数错误";
+        }
+
+    }
+
+    enum StacklessFailure implements ResultProvider {
+
+        INVALID;
+
+        @Override
+        public int getCode() {
+            return 4001;
+        }
+
+        @Override
+        public String getMessage() {
+            return "参数错误";
+        }
+
+        @Override
+        public boolean isStackless() {
+            return true;
+        }
+
+    }
+
+    /**
+     * 非枚举 provider 不会被缓存, 每次都新建异常
+     */
+    static final class StacklessProvider implements ResultProvider {
+
+        @Override
+        public int getCode() {
+            return 4001;
+        }
+
+        @Override
+        public String getMessage() {
+            return "参数错误";
+        }
+
+        @Override
+        public boolean isStackless() {
+            return true;
+        }
+
+    }
+
+}
@@ -0,0 +1,102 @@
+package cn.mindit.atom.benchmark.core;
+
+import cn.mindit.atom.core.core.CoreConstants;
+import cn.mindit.atom.core.core.TraceContext;
+import cn.mindit.atom.core.core.TraceIdTaskDecorator;
+import cn.mindit.atom.core.util.NanoIdUtils;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.MDC;
+import org.springframework.core.task.TaskDecorator;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link TraceIdTaskDecorator} 基准测试, 在同一线程上完成装饰与执行以排除线程池调度开销
+ * <p>
+ * mdcCopy 为改造前复制整个 MDC 的实现; traceContext 为提交线程只持有 {@link TraceContext} 的场景,
+ * legacyMdc 为调用方仍把链路 ID 写在 MDC 中的兼容场景, webRequest 为 Web 请求线程上同时持有两者时提交任务的场景, 此时不复制 MDC
+ *
+ * @author Catch
+ * @since 2026-10-18
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TraceIdTaskDecoratorBenchmark {
+
+    private static final Runnable TASK = () -> {
+    };
+
+    private final TraceIdTaskDecorator decorator = new TraceIdTaskDecorator();
+
+    private final TaskDecorator mdcCopyDecorator = new MdcCopyDecorator();
+
+    private final TraceContext context = TraceContext.of(NanoIdUtils.nanoId());
+
+    @Benchmark
+    public void mdcCopy() {
+        MDC.put(CoreConstants.TRACE_ID, context.traceId());
+        mdcCopyDecorator.decorate(TASK).run();
+    }
+
+    @Benchmark
+    public void traceContext() {
+        TraceContext.set(context);
+        decorator.decorate(TASK).run();
+    }
+
+    @Benchmark
+    public void legacyMdc() {
+        MDC.put(CoreConstants.TRACE_ID, context.traceId());
+        decorator.decorate(TASK).run();
+    }
+
+    @Benchmark
+    public void webRequest() {
+        TraceContext.set(context);
+        MDC.put(CoreConstants.TRACE_ID, context.traceId());
+        decorator.decorate(TASK).run();
+    }
+
+    @TearDown
+    public void tearDown() {
+        TraceContext.clear();
+        MDC.clear();
+    }
+
+    /**
+     * 改造前的实现, 每次提交复制 MDC 并在执行线程上重新构建 HashMap
+     */
+    private static class MdcCopyDecorator implements TaskDecorator {
+
+        @Override
+        public Runnable decorate(Runnable runnable) {
+            Map<String, String> context = MDC.getCopyOfContextMap();
+            return () -> {
+                if (context == null) {
+                    Map<String, String> ctx = new HashMap<>();
+                    ctx.put(CoreConstants.TRACE_ID, NanoIdUtils.nanoId());
+                    MDC.setContextMap(ctx);
+                } else if (context.containsKey(CoreConstants.TRACE_ID)) {
+                    MDC.setContextMap(context);
+                } else {
+                    Map<String, String> ctx = new HashMap<>(context);
+                    ctx.put(CoreConstants.TRACE_ID, NanoIdUtils.nanoId());
+                    MDC.setContextMap(ctx);
+                }
+                try {
+                    runnable.run();
+                } finally {
+                    MDC.clear();
+                }
+            };
+        }
+
+    }
+
+}
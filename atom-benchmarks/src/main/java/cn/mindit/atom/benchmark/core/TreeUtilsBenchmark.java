@@ -0,0 +1,117 @@
+package cn.mindit.atom.benchmark.core;
+
+import cn.mindit.atom.core.util.SortTreeNode;
+import cn.mindit.atom.core.util.TreeIndex;
+import cn.mindit.atom.core.util.TreeUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link TreeUtils#buildTree} / {@link TreeUtils#buildSortTree} / {@link TreeIndex} 基准测试
+ * <p>
+ * 每次调用前重新生成节点, 避免上一轮写入的 children 影响下一轮结果
+ *
+ * @author Catch
+ * @since 2026-10-18
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TreeUtilsBenchmark {
+
+    @Param({"1000", "100000", "500000"})
+    private int size;
+
+    private List<Node> nodes;
+
+    @Setup(Level.Invocation)
+    public void setup() {
+        nodes = Node.randomTree(size, 42);
+    }
+
+    @Benchmark
+    public List<Node> buildTree() {
+        return TreeUtils.buildTree(nodes, 0L);
+    }
+
+    @Benchmark
+    public List<Node> buildSortTree() {
+        return TreeUtils.buildSortTree(nodes, 0L);
+    }
+
+    @Benchmark
+    public List<Node> parallelBuildTree() {
+        return TreeUtils.buildTree(nodes, 0L, true);
+    }
+
+    @Benchmark
+    public List<Node> parallelBuildSortTree() {
+        return TreeUtils.buildSortTree(nodes, 0L, true);
+    }
+
+    @Benchmark
+    public TreeIndex<Node, Long> sortedIndex() {
+        return TreeIndex.ofSorted(nodes);
+    }
+
+    public static class Node implements SortTreeNode<Node, Long, Integer> {
+
+        private final Long id;
+        private final Long parentId;
+        private final Integer sort;
+        private List<Node> children;
+
+        public Node(Long id, Long parentId, Integer sort) {
+            this.id = id;
+            this.parentId = parentId;
+            this.sort = sort;
+        }
+
+        /**
+         * 生成一棵随机树, 节点 i 的父节点从 [0, i) 中随机选取, 0 为虚拟根
+         */
+        public static List<Node> randomTree(int size, long seed) {
+            Random random = new Random(seed);
+            List<Node> nodes = new ArrayList<>(size);
+            for (long i = 1; i <= size; i++) {
+                long parentId = i == 1 ? 0L : random.nextLong(Math.max(1, i - 1));
+                nodes.add(new Node(i, parentId, random.nextInt(1000)));
+            }
+            return nodes;
+        }
+
+        @Override
+        public Long getId() {
+            return id;
+        }
+
+        @Override
+        public Long getParentId() {
+            return parentId;
+        }
+
+        @Override
+        public List<Node> getChildren() {
+            return children;
+        }
+
+        @Override
+        public void setChildren(List<Node> children) {
+            this.children = children;
+        }
+
+        @Override
+        public Integer getSort() {
+            return sort;
+        }
+
+    }
+
+}
@@ -0,0 +1,100 @@
+package cn.mindit.atom.benchmark.core;
+
+import cn.mindit.atom.core.util.UUIDv7;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link UUIDv7} 基准测试
+ * <p>
+ * 除吞吐量外, *Order 基准通过辅助计数器统计与同线程上一个 id 相比的乱序次数 (outOfOrder),
+ * 用于衡量作为 B-tree 主键时的插入局部性: 乱序越少, 越接近尾部追加.
+ *
+ * @author Catch
+ * @since 2026-10-18
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UUIDv7Benchmark {
+
+    @Benchmark
+    public UUID uuid() {
+        return UUIDv7.uuid();
+    }
+
+    @Benchmark
+    public String uuidStr() {
+        return UUIDv7.uuidStr();
+    }
+
+    private final UUIDv7.Generator generator = UUIDv7.generator();
+
+    private final byte[] buffer = new byte[16];
+
+    @Benchmark
+    public UUID generatorUuid() {
+        return generator.uuid();
+    }
+
+    @Benchmark
+    public byte[] generatorUuidBytes() {
+        return generator.uuidBytes();
+    }
+
+    @Benchmark
+    public byte[] generatorWriteTo() {
+        generator.writeTo(buffer, 0);
+        return buffer;
+    }
+
+    @Benchmark
+    public UUID uuidOrder(OrderCounters counters) {
+        return counters.record(UUIDv7.uuid());
+    }
+
+    @Benchmark
+    public UUID generatorUuidOrder(OrderCounters counters) {
+        return counters.record(generator.uuid());
+    }
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class OrderCounters {
+
+        public long inOrder;
+
+        public long outOfOrder;
+
+        private long previousMsb;
+
+        private long previousLsb;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            inOrder = 0;
+            outOfOrder = 0;
+        }
+
+        UUID record(UUID uuid) {
+            long msb = uuid.getMostSignificantBits();
+            long lsb = uuid.getLeastSignificantBits();
+            int cmp = Long.compareUnsigned(msb, previousMsb);
+            if (cmp > 0 || (cmp == 0 && Long.compareUnsigned(lsb, previousLsb) > 0)) {
+                inOrder++;
+            } else {
+                outOfOrder++;
+            }
+            previousMsb = msb;
+            previousLsb = lsb;
+            return uuid;
+        }
+
+    }
+
+}
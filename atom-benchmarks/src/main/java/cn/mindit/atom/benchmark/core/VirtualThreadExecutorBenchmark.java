@@ -0,0 +1,95 @@
+package cn.mindit.atom.benchmark.core;
+
+import cn.mindit.atom.core.core.TraceIdTaskDecorator;
+import cn.mindit.atom.core.util.ThreadUtils;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 阻塞 IO 任务在平台线程池与虚拟线程下的吞吐量对比, 每次调用提交一批休眠任务模拟远程调用并等待全部完成
+ * <p>
+ * 平台线程池沿用 application-core.properties 中 @Async 线程池的默认配置, 两种模式都挂载 {@link TraceIdTaskDecorator}.
+ * virtual 模式需要 JDK 21+, JDK 17 上可通过 {@code -p mode=platform} 只运行平台线程池
+ *
+ * @author Catch
+ * @since 2026-10-18
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class VirtualThreadExecutorBenchmark {
+
+    @Param({"platform", "virtual"})
+    private String mode;
+
+    @Param({"200"})
+    private int tasks;
+
+    @Param({"5"})
+    private int blockingMillis;
+
+    private Executor executor;
+
+    private AutoCloseable closeable;
+
+    @Setup
+    public void setup() {
+        StandardEnvironment environment = new StandardEnvironment();
+        environment.getPropertySources().addFirst(new MapPropertySource("benchmark", Map.of("spring.threads.virtual.enabled", "virtual".equals(mode))));
+        TraceIdTaskDecorator decorator = new TraceIdTaskDecorator();
+        if ("virtual".equals(mode)) {
+            if (!ThreadUtils.isVirtual(environment)) {
+                throw new IllegalStateException("Virtual threads require JDK 21+, run with -p mode=platform");
+            }
+            SimpleAsyncTaskExecutor virtual = new SimpleAsyncTaskExecutor("bench-virtual-");
+            virtual.setVirtualThreads(true);
+            virtual.setTaskDecorator(decorator);
+            executor = virtual;
+            closeable = virtual;
+            return;
+        }
+        ThreadPoolTaskExecutor platform = new ThreadPoolTaskExecutor();
+        platform.setCorePoolSize(8);
+        platform.setMaxPoolSize(16);
+        platform.setQueueCapacity(10000);
+        platform.setThreadNamePrefix("bench-platform-");
+        platform.setTaskDecorator(decorator);
+        platform.initialize();
+        executor = platform;
+        closeable = platform::shutdown;
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        closeable.close();
+    }
+
+    @Benchmark
+    public void blockingTasks() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(tasks);
+        for (int i = 0; i < tasks; i++) {
+            executor.execute(() -> {
+                try {
+                    Thread.sleep(blockingMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+    }
+
+}
@@ -0,0 +1,183 @@
+package cn.mindit.atom.indexer;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * 监听器索引注解处理器
+ * <p>
+ * 扫描本次编译的全部类型, 把声明了(含继承自父类与接口的)监听方法的类写入 {@value #INDEX_LOCATION}, 格式为
+ * {@code 类名=监听注解全名[,监听注解全名]}. 监听注解指被 {@value #INDEXED_ANNOTATION} 标注的注解, 组合注解按其元注解登记.
+ * <p>
+ * 没有监听方法的模块也会生成空索引, 运行时据此跳过该类路径下全部类的反射扫描.
+ * 增量编译时保留上次索引中未被重新编译且仍然存在的类型
+ *
+ * @author Catch
+ * @since 2026-10-18
+ */
+@SupportedAnnotationTypes("*")
+public class ListenerIndexProcessor extends AbstractProcessor {
+
+    public static final String INDEX_LOCATION = "META-INF/atom.listeners";
+
+    public static final String INDEXED_ANNOTATION = "cn.mindit.atom.core.util.IndexedListener";
+
+    private final Map<String, Set<String>> entries = new TreeMap<>();
+
+    private final Set<String> processedTypes = new HashSet<>();
+
+    /**
+     * 注解类型 -> 其对应的监听注解全名, 非监听注解为空集合
+     */
+    private final Map<String, Set<String>> annotationCache = new HashMap<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (Element element : roundEnv.getRootElements()) {
+            collect(element);
+        }
+        if (roundEnv.processingOver()) {
+            writeIndex();
+        }
+        return false;
+    }
+
+    private void collect(Element element) {
+        if (!(element instanceof TypeElement type)) {
+            return;
+        }
+        String name = processingEnv.getElementUtils().getBinaryName(type).toString();
+        processedTypes.add(name);
+        Set<String> found = new TreeSet<>();
+        inspect(type, found, new HashSet<>());
+        if (!found.isEmpty()) {
+            entries.put(name, found);
+        }
+        for (Element enclosed : type.getEnclosedElements()) {
+            collect(enclosed);
+        }
+    }
+
+    /**
+     * 与运行时 MethodIntrospector 的查找范围一致: 类自身、父类链以及全部接口上的方法
+     */
+    private void inspect(TypeElement type, Set<String> found, Set<String> visited) {
+        String name = type.getQualifiedName().toString();
+        if (name.startsWith("java.") || !visited.add(name)) {
+            return;
+        }
+        for (ExecutableElement method : ElementFilter.methodsIn(type.getEnclosedElements())) {
+            for (AnnotationMirror mirror : method.getAnnotationMirrors()) {
+                found.addAll(listenerAnnotations((TypeElement) mirror.getAnnotationType().asElement(), new HashSet<>()));
+            }
+        }
+        inspectSuper(type.getSuperclass(), found, visited);
+        for (TypeMirror iface : type.getInterfaces()) {
+            inspectSuper(iface, found, visited);
+        }
+    }
+
+    private void inspectSuper(TypeMirror mirror, Set<String> found, Set<String> visited) {
+        if (mirror.getKind() == TypeKind.DECLARED) {
+            inspect((TypeElement) ((DeclaredType) mirror).asElement(), found, visited);
+        }
+    }
+
+    private Set<String> listenerAnnotations(TypeElement annotationType, Set<String> visiting) {
+        String name = annotationType.getQualifiedName().toString();
+        Set<String> cached = annotationCache.get(name);
+        if (cached != null) {
+            return cached;
+        }
+        if (name.startsWith("java.lang.annotation.") || !visiting.add(name)) {
+            return Set.of();
+        }
+        Set<String> result = new TreeSet<>();
+        for (AnnotationMirror meta : annotationType.getAnnotationMirrors()) {
+            TypeElement metaType = (TypeElement) meta.getAnnotationType().asElement();
+            if (INDEXED_ANNOTATION.contentEquals(metaType.getQualifiedName())) {
+                result.add(processingEnv.getElementUtils().getBinaryName(annotationType).toString());
+            } else {
+                result.addAll(listenerAnnotations(metaType, visiting));
+            }
+        }
+        annotationCache.put(name, result);
+        return result;
+    }
+
+    private void writeIndex() {
+        Map<String, Set<String>> index = new TreeMap<>(readPreviousIndex());
+        index.putAll(entries);
+        Filer filer = processingEnv.getFiler();
+        try {
+            FileObject file = filer.createResource(StandardLocation.CLASS_OUTPUT, "", INDEX_LOCATION);
+            try (Writer writer = new OutputStreamWriter(file.openOutputStream(), StandardCharsets.UTF_8)) {
+                for (Map.Entry<String, Set<String>> entry : index.entrySet()) {
+                    writer.write(entry.getKey());
+                    writer.write('=');
+                    writer.write(String.join(",", entry.getValue()));
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Failed to write " + INDEX_LOCATION + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * 上次编译留下的索引, 去掉本次重新编译的类型以及已被删除的类型
+     */
+    private Map<String, Set<String>> readPreviousIndex() {
+        Properties previous = new Properties();
+        try {
+            FileObject file = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", INDEX_LOCATION);
+            try (InputStream in = file.openInputStream()) {
+                previous.load(in);
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            return Map.of();
+        }
+        Elements elements = processingEnv.getElementUtils();
+        Map<String, Set<String>> result = new HashMap<>();
+        for (String name : previous.stringPropertyNames()) {
+            if (processedTypes.contains(name) || elements.getTypeElement(name.replace('$', '.')) == null) {
+                continue;
+            }
+            result.put(name, new TreeSet<>(Set.of(previous.getProperty(name).split(","))));
+        }
+        return result;
+    }
+
+}
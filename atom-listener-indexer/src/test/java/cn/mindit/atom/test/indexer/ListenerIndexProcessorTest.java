@@ -0,0 +1,141 @@
+package cn.mindit.atom.test.indexer;
+
+import cn.mindit.atom.indexer.ListenerIndexProcessor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.StandardLocation;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ListenerIndexProcessorTest {
+
+    private static final String INDEXED = """
+        package cn.mindit.atom.core.util;
+        import java.lang.annotation.*;
+        @Target(ElementType.ANNOTATION_TYPE)
+        @Retention(RetentionPolicy.RUNTIME)
+        public @interface IndexedListener {}
+        """;
+
+    private static final String LISTENER = """
+        package demo;
+        import java.lang.annotation.*;
+        @Target({ElementType.METHOD, ElementType.ANNOTATION_TYPE})
+        @Retention(RetentionPolicy.RUNTIME)
+        @cn.mindit.atom.core.util.IndexedListener
+        public @interface Listener {}
+        """;
+
+    private static final String COMPOSED = """
+        package demo;
+        import java.lang.annotation.*;
+        @Target(ElementType.METHOD)
+        @Retention(RetentionPolicy.RUNTIME)
+        @Listener
+        public @interface Composed {}
+        """;
+
+    @TempDir
+    Path output;
+
+    @TempDir
+    Path sources;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        write("cn/mindit/atom/core/util/IndexedListener.java", INDEXED);
+        write("demo/Listener.java", LISTENER);
+        write("demo/Composed.java", COMPOSED);
+    }
+
+    @Test
+    void indexesDeclaredInheritedAndComposedListeners() throws IOException {
+        write("demo/Direct.java", "package demo; public class Direct { @Listener public void on() {} }");
+        write("demo/Meta.java", "package demo; public class Meta { @Composed public void on() {} }");
+        write("demo/Sub.java", "package demo; public class Sub extends Direct {}");
+        write("demo/Api.java", "package demo; public interface Api { @Listener void on(); }");
+        write("demo/Impl.java", "package demo; public class Impl implements Api { public void on() {} }");
+        write("demo/Outer.java", "package demo; public class Outer { public static class Inner { @Listener public void on() {} } }");
+        write("demo/Plain.java", "package demo; public class Plain { @Deprecated public void on() {} }");
+
+        Properties index = compile();
+
+        assertThat(index.getProperty("demo.Direct")).isEqualTo("demo.Listener");
+        assertThat(index.getProperty("demo.Meta")).isEqualTo("demo.Listener");
+        assertThat(index.getProperty("demo.Sub")).isEqualTo("demo.Listener");
+        assertThat(index.getProperty("demo.Api")).isEqualTo("demo.Listener");
+        assertThat(index.getProperty("demo.Impl")).isEqualTo("demo.Listener");
+        assertThat(index.getProperty("demo.Outer$Inner")).isEqualTo("demo.Listener");
+        assertThat(index).doesNotContainKeys("demo.Plain", "demo.Outer", "demo.Listener");
+    }
+
+    @Test
+    void writesEmptyIndexWithoutListeners() throws IOException {
+        write("demo/Plain.java", "package demo; public class Plain { public void on() {} }");
+
+        assertThat(Files.exists(output.resolve(ListenerIndexProcessor.INDEX_LOCATION))).isFalse();
+        assertThat(compile()).isEmpty();
+        assertThat(Files.exists(output.resolve(ListenerIndexProcessor.INDEX_LOCATION))).isTrue();
+    }
+
+    @Test
+    void incrementalCompilationKeepsUntouchedEntries() throws IOException {
+        write("demo/Direct.java", "package demo; public class Direct { @Listener public void on() {} }");
+        write("demo/Other.java", "package demo; public class Other { @Listener public void on() {} }");
+        compile();
+
+        // 只重新编译 Other, 且去掉了其监听方法
+        Path other = write("demo/Other.java", "package demo; public class Other { public void on() {} }");
+        Properties index = compile(List.of(other));
+
+        assertThat(index.getProperty("demo.Direct")).isEqualTo("demo.Listener");
+        assertThat(index).doesNotContainKey("demo.Other");
+    }
+
+    private Path write(String path, String content) throws IOException {
+        Path file = sources.resolve(path);
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, content);
+        return file;
+    }
+
+    private Properties compile() throws IOException {
+        List<Path> files = new ArrayList<>();
+        try (var stream = Files.walk(sources)) {
+            stream.filter(p -> p.toString().endsWith(".java")).forEach(files::add);
+        }
+        return compile(files);
+    }
+
+    private Properties compile(List<Path> files) throws IOException {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, null)) {
+            fileManager.setLocationFromPaths(StandardLocation.CLASS_OUTPUT, List.of(output));
+            // 增量编译时其余类型从上次的输出中解析
+            fileManager.setLocationFromPaths(StandardLocation.CLASS_PATH, List.of(output));
+            Iterable<? extends JavaFileObject> units = fileManager.getJavaFileObjectsFromPaths(files);
+            StringWriter diagnostics = new StringWriter();
+            JavaCompiler.CompilationTask task = compiler.getTask(diagnostics, fileManager, null, null, null, units);
+            task.setProcessors(List.of(new ListenerIndexProcessor()));
+            assertThat(task.call()).as(diagnostics::toString).isTrue();
+        }
+        Properties properties = new Properties();
+        properties.load(new StringReader(Files.readString(output.resolve(ListenerIndexProcessor.INDEX_LOCATION))));
+        return properties;
+    }
+
+}
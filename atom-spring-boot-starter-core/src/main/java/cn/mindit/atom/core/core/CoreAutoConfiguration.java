@@ -13,7 +13,9 @@ import org.springframework.boot.autoconfigure.AutoConfiguration;
 @Import({
     CoreJsonConfiguration.class,
     TraceIdTaskDecorator.class,
-    CoreTraceConfiguration.class
+    CoreTraceConfiguration.class,
+    CoreMetricsConfiguration.class,
+    ExpressionCacheRefreshListener.class
 })
 @EnableConfigurationProperties(CoreProperties.class)
 @PropertySource("classpath:application-core.properties")
@@ -0,0 +1,49 @@
+package cn.mindit.atom.core.core;
+
+import cn.mindit.atom.core.metrics.LocalMetricsRegistry;
+import cn.mindit.atom.core.metrics.Metrics;
+import cn.mindit.atom.core.metrics.MetricsRegistry;
+import cn.mindit.atom.core.metrics.MicrometerMetricsRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 指标注册表, 存在唯一的 Micrometer MeterRegistry 时桥接到 Micrometer, 否则使用进程内实现, 并安装到 {@link Metrics}
+ *
+ * @author Catch
+ * @since 2026-10-18
+ */
+@Configuration
+@ConditionalOnProperty(value = "atom.core.metrics", matchIfMissing = true)
+public class CoreMetricsConfiguration {
+
+    @Configuration
+    @ConditionalOnClass(name = "io.micrometer.core.instrument.MeterRegistry")
+    static class MicrometerConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        public MetricsRegistry metricsRegistry(ObjectProvider<MeterRegistry> meterRegistry, CoreProperties coreProperties) {
+            MeterRegistry registry = meterRegistry.getIfUnique();
+            return install(registry == null ? new LocalMetricsRegistry() : new MicrometerMetricsRegistry(registry, coreProperties.isMetricsPercentiles()));
+        }
+
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public MetricsRegistry localMetricsRegistry() {
+        return install(new LocalMetricsRegistry());
+    }
+
+    private static MetricsRegistry install(MetricsRegistry registry) {
+        Metrics.setRegistry(registry);
+        return registry;
+    }
+
+}
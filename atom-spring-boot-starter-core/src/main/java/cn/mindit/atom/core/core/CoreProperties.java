@@ -26,4 +26,14 @@ public class CoreProperties {
      */
     private boolean json = true;
 
+    /**
+     * 是否启用指标, 关闭后 Metrics 仍可使用但不会桥接到 Micrometer
+     */
+    private boolean metrics = true;
+
+    /**
+     * 桥接到 Micrometer 时是否为 Timer 与 Histogram 在客户端计算 p50/p90/p99, 每次记录都有额外开销, 默认关闭
+     */
+    private boolean metricsPercentiles = false;
+
 }
@@ -3,12 +3,16 @@ package cn.mindit.atom.core.core;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
 import org.springframework.boot.autoconfigure.task.TaskSchedulingProperties;
+import org.springframework.boot.task.SimpleAsyncTaskSchedulerBuilder;
 import org.springframework.boot.task.ThreadPoolTaskSchedulerBuilder;
+import org.springframework.boot.thread.Threading;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.SimpleAsyncTaskScheduler;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 
 import java.util.concurrent.ThreadPoolExecutor;
@@ -32,6 +36,7 @@ public class CoreTraceConfiguration {
      * 定时任务线程池
      */
     @Bean
+    @ConditionalOnThreading(Threading.PLATFORM)
     public ThreadPoolTaskScheduler threadPoolTaskScheduler() {
         TaskSchedulingProperties.Pool pool = taskSchedulingProperties.getPool();
         TaskSchedulingProperties.Shutdown shutdown = taskSchedulingProperties.getShutdown();
@@ -50,4 +55,21 @@ public class CoreTraceConfiguration {
         return scheduler;
     }
 
+    /**
+     * 虚拟线程定时任务调度器, 仅由单个平台线程负责触发, 每次执行都在新的虚拟线程中运行
+     */
+    @Bean
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public SimpleAsyncTaskScheduler simpleAsyncTaskScheduler() {
+        TaskSchedulingProperties.Shutdown shutdown = taskSchedulingProperties.getShutdown();
+
+        return new SimpleAsyncTaskSchedulerBuilder()
+            .virtualThreads(true)
+            .concurrencyLimit(taskSchedulingProperties.getSimple().getConcurrencyLimit())
+            .taskTerminationTimeout(shutdown.isAwaitTermination() ? shutdown.getAwaitTerminationPeriod() : null)
+            .threadNamePrefix(taskSchedulingProperties.getThreadNamePrefix())
+            .taskDecorator(traceIdTaskDecorator)
+            .build();
+    }
+
 }
@@ -0,0 +1,46 @@
+package cn.mindit.atom.core.core;
+
+import cn.mindit.atom.core.util.ExpressionResolverUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.NonNull;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.event.GenericApplicationListener;
+import org.springframework.core.ResolvableType;
+
+import java.util.Set;
+
+/**
+ * 配置刷新后清空 {@link ExpressionResolverUtils} 的解析缓存
+ * <p>
+ * 按类名匹配 Spring Cloud 的刷新事件, 不引入 spring-cloud-context 依赖; 未使用 Spring Cloud 时不会收到这些事件
+ *
+ * @author Catch
+ * @since 2026-10-18
+ */
+@Slf4j
+public class ExpressionCacheRefreshListener implements GenericApplicationListener {
+
+    private static final Set<String> REFRESH_EVENTS = Set.of(
+        "org.springframework.cloud.context.environment.EnvironmentChangeEvent",
+        "org.springframework.cloud.context.scope.refresh.RefreshScopeRefreshedEvent"
+    );
+
+    @Override
+    public boolean supportsEventType(@NonNull ResolvableType eventType) {
+        Class<?> type = eventType.getRawClass();
+        while (type != null && type != Object.class) {
+            if (REFRESH_EVENTS.contains(type.getName())) {
+                return true;
+            }
+            type = type.getSuperclass();
+        }
+        return false;
+    }
+
+    @Override
+    public void onApplicationEvent(@NonNull ApplicationEvent event) {
+        ExpressionResolverUtils.clearCache();
+        log.debug("Expression cache cleared on {}", event.getClass().getSimpleName());
+    }
+
+}
@@ -0,0 +1,69 @@
+package cn.mindit.atom.core.core;
+
+import cn.mindit.atom.core.util.NanoIdUtils;
+
+/**
+ * 链路上下文, 不可变, 跨线程传递时只传递引用
+ * <p>
+ * 当前线程的上下文保存在线程变量中, 日志通过 {@link TraceIdConverter} 直接读取, 不再依赖 MDC
+ *
+ * @param traceId 链路 ID
+ * @param spanId  跨度 ID, 可为空
+ * @author Catch
+ * @since 2026-10-18
+ */
+public record TraceContext(String traceId, String spanId) {
+
+    private static final ThreadLocal<TraceContext> HOLDER = new ThreadLocal<>();
+
+    public TraceContext {
+        if (traceId == null || traceId.isEmpty()) {
+            throw new IllegalArgumentException("traceId must not be empty");
+        }
+    }
+
+    public static TraceContext of(String traceId) {
+        return new TraceContext(traceId, null);
+    }
+
+    /**
+     * 以新生成的链路 ID 开启一条链路
+     */
+    public static TraceContext root() {
+        return new TraceContext(NanoIdUtils.nanoId(), null);
+    }
+
+    public TraceContext withSpanId(String spanId) {
+        return new TraceContext(traceId, spanId);
+    }
+
+    /**
+     * 当前线程的上下文, 未设置时返回 null
+     */
+    public static TraceContext current() {
+        return HOLDER.get();
+    }
+
+    /**
+     * 当前线程的链路 ID, 未设置时返回 null
+     */
+    public static String currentTraceId() {
+        TraceContext context = HOLDER.get();
+        return context == null ? null : context.traceId;
+    }
+
+    /**
+     * 设置当前线程的上下文, 传入 null 表示清空但保留线程变量槽位, 适合在线程池中频繁切换
+     */
+    public static void set(TraceContext context) {
+        HOLDER.set(context);
+    }
+
+    /**
+     * 移除当前线程的上下文, 用于请求结束等不再复用该线程变量的场景
+     */
+    public static void clear() {
+        HOLDER.remove();
+    }
+
+}
@@ -0,0 +1,27 @@
+package cn.mindit.atom.core.core;
+
+import ch.qos.logback.classic.pattern.ClassicConverter;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+
+/**
+ * Logback 链路 ID 转换器, 对应 logback-spring.xml 中的 {@code %traceId}
+ * <p>
+ * 优先读取当前线程的 {@link TraceContext}, 没有时回退到事件中 MDC 的 {@link CoreConstants#TRACE_ID}, 兼容仍写入 MDC 的调用方.
+ * 转换在打日志的线程上执行才能读到 TraceContext, 异步 Appender 只能取到 MDC 中的值
+ *
+ * @author Catch
+ * @since 2026-10-18
+ */
+public class TraceIdConverter extends ClassicConverter {
+
+    @Override
+    public String convert(ILoggingEvent event) {
+        String traceId = TraceContext.currentTraceId();
+        if (traceId != null) {
+            return traceId;
+        }
+        traceId = event.getMDCPropertyMap().get(CoreConstants.TRACE_ID);
+        return traceId == null ? "" : traceId;
+    }
+
+}
@@ -1,16 +1,27 @@
 package cn.mindit.atom.core.core;
 
-import cn.mindit.atom.core.util.NanoIdUtils;
+import ch.qos.logback.classic.util.LogbackMDCAdapter;
 import lombok.extern.slf4j.Slf4j;
 import org.jspecify.annotations.NonNull;
 import org.slf4j.MDC;
+import org.slf4j.spi.MDCAdapter;
 import org.springframework.core.task.TaskDecorator;
 import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
 
 import java.util.HashMap;
 import java.util.Map;
 
 /**
+ * 将提交线程的 {@link TraceContext} 按引用传递给执行线程, 提交线程没有链路时在执行线程上开启新链路
+ * <p>
+ * MDC 仅在提交线程确有内容时才复制到执行线程, 此时同时写入链路 ID 以兼容 {@code %X{Trace-Id}};
+ * Logback 下读取的是其缓存的只读快照, 提交时不产生拷贝, 执行时 {@link MDC#setContextMap(Map)} 仍会复制一次.
+ * 提交线程的 MDC 只有与 TraceContext 相同的链路 ID 时(如 TraceIdInterceptor 处理中的 Web 请求线程)视为没有内容,
+ * 执行线程上的链路 ID 由 {@code %traceId} 从 TraceContext 读取, {@code %X{Trace-Id}} 在执行线程上为空
+ * <p>
+ * 执行结束后总是清空执行线程的 MDC, 避免任务自身写入的内容泄漏到复用该线程的下一个任务
+ *
  * @author Catch
  * @since 2025-06-02
  */
@@ -18,35 +29,70 @@ import java.util.Map;
 @Component
 public class TraceIdTaskDecorator implements TaskDecorator {
 
+    private static final boolean LOGBACK_PRESENT = ClassUtils.isPresent("ch.qos.logback.classic.util.LogbackMDCAdapter", TraceIdTaskDecorator.class.getClassLoader());
+
     @NonNull
     @Override
     public Runnable decorate(@NonNull Runnable runnable) {
-        Map<String, String> context = MDC.getCopyOfContextMap();
+        TraceContext context = TraceContext.current();
+        Map<String, String> mdc = mdcSnapshot(context);
+        if (context == null && mdc != null) {
+            String traceId = mdc.get(CoreConstants.TRACE_ID);
+            if (traceId != null && !traceId.isEmpty()) {
+                context = TraceContext.of(traceId);
+            }
+        }
+        TraceContext captured = context;
         return () -> {
-            setTraceIdIfAbsent(context);
+            TraceContext previous = TraceContext.current();
+            TraceContext current = captured == null ? TraceContext.root() : captured;
+            TraceContext.set(current);
+            if (mdc != null) {
+                setMdc(mdc, current);
+            }
             try {
                 runnable.run();
             } finally {
+                TraceContext.set(previous);
                 MDC.clear();
             }
         };
     }
 
-    private void setTraceIdIfAbsent(Map<String, String> context) {
-        Map<String, String> ctx;
-        if (context == null) {
-            ctx = new HashMap<>();
-            ctx.put(CoreConstants.TRACE_ID, NanoIdUtils.nanoId());
-            MDC.setContextMap(ctx);
-            return;
+    /**
+     * 提交线程的 MDC 内容, 为空或只有与 context 相同的链路 ID 时返回 null
+     */
+    private static Map<String, String> mdcSnapshot(TraceContext context) {
+        MDCAdapter adapter = MDC.getMDCAdapter();
+        Map<String, String> map = LOGBACK_PRESENT ? LogbackMdc.propertyMap(adapter) : adapter.getCopyOfContextMap();
+        if (map == null || map.isEmpty()) {
+            return null;
+        }
+        if (context != null && map.size() == 1 && context.traceId().equals(map.get(CoreConstants.TRACE_ID))) {
+            return null;
         }
-        if (context.containsKey(CoreConstants.TRACE_ID)) {
-            MDC.setContextMap(context);
+        return map;
+    }
+
+    private static void setMdc(Map<String, String> mdc, TraceContext context) {
+        if (context.traceId().equals(mdc.get(CoreConstants.TRACE_ID))) {
+            MDC.setContextMap(mdc);
             return;
         }
-        ctx = new HashMap<>(context);
-        ctx.put(CoreConstants.TRACE_ID, NanoIdUtils.nanoId());
+        Map<String, String> ctx = new HashMap<>(mdc);
+        ctx.put(CoreConstants.TRACE_ID, context.traceId());
         MDC.setContextMap(ctx);
     }
 
+    /**
+     * 隔离 Logback 类型, 未引入 Logback 时不会加载
+     */
+    private static final class LogbackMdc {
+
+        static Map<String, String> propertyMap(MDCAdapter adapter) {
+            return adapter instanceof LogbackMDCAdapter logback ? logback.getPropertyMap() : adapter.getCopyOfContextMap();
+        }
+
+    }
+
 }
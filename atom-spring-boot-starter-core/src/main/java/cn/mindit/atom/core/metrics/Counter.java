@@ -0,0 +1,22 @@
+package cn.mindit.atom.core.metrics;
+
+/**
+ * 单调递增计数器
+ *
+ * @author Catch
+ * @since 2026-10-18
+ */
+public interface Counter {
+
+    default void increment() {
+        increment(1L);
+    }
+
+    void increment(long amount);
+
+    /**
+     * 累计计数
+     */
+    long count();
+
+}
@@ -0,0 +1,39 @@
+package cn.mindit.atom.core.metrics;
+
+/**
+ * 数值分布, 用于记录消息大小、批量条数等非耗时类的值
+ *
+ * @author Catch
+ * @since 2026-10-18
+ */
+public interface Histogram {
+
+    /**
+     * 记录一个值, 负数按 0 处理
+     */
+    void record(long value);
+
+    /**
+     * 累计记录次数
+     */
+    long count();
+
+    /**
+     * 累计记录值之和
+     */
+    long total();
+
+    /**
+     * 最大值, Micrometer 实现下为滑动时间窗口内的最大值
+     */
+    long max();
+
+    /**
+     * 百分位值
+     *
+     * @param percentile 百分位, 取值 (0, 1], 如 0.99
+     * @return 百分位值, 无记录时返回 0; Micrometer 实现仅在开启百分位时支持 {@link Metrics#PERCENTILES} 中的百分位, 其余返回 {@link Double#NaN}
+     */
+    double percentile(double percentile);
+
+}
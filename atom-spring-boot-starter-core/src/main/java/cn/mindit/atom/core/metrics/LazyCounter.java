@@ -0,0 +1,46 @@
+package cn.mindit.atom.core.metrics;
+
+/**
+ * 按当前注册表缓存的计数器, 注册表切换后在下次使用时重新获取
+ *
+ * @author Catch
+ * @since 2026-10-18
+ */
+final class LazyCounter implements Counter {
+
+    private final MeterId id;
+
+    private final String[] tags;
+
+    private volatile Bound bound;
+
+    LazyCounter(String name, String... tags) {
+        this.id = MeterId.of(name, tags);
+        this.tags = tags.clone();
+    }
+
+    private Counter counter() {
+        MetricsRegistry registry = Metrics.registry();
+        Bound current = bound;
+        if (current == null || current.registry != registry) {
+            current = new Bound(registry, registry.counter(id.name(), tags));
+            bound = current;
+        }
+        return current.counter;
+    }
+
+    @Override
+    public void increment(long amount) {
+        counter().increment(amount);
+    }
+
+    @Override
+    public long count() {
+        return counter().count();
+    }
+
+    private record Bound(MetricsRegistry registry, Counter counter) {
+
+    }
+
+}
@@ -0,0 +1,61 @@
+package cn.mindit.atom.core.metrics;
+
+/**
+ * 按当前注册表缓存的耗时统计, 注册表切换后在下次使用时重新获取
+ *
+ * @author Catch
+ * @since 2026-10-18
+ */
+final class LazyTimer implements Timer {
+
+    private final MeterId id;
+
+    private final String[] tags;
+
+    private volatile Bound bound;
+
+    LazyTimer(String name, String... tags) {
+        this.id = MeterId.of(name, tags);
+        this.tags = tags.clone();
+    }
+
+    private Timer timer() {
+        MetricsRegistry registry = Metrics.registry();
+        Bound current = bound;
+        if (current == null || current.registry != registry) {
+            current = new Bound(registry, registry.timer(id.name(), tags));
+            bound = current;
+        }
+        return current.timer;
+    }
+
+    @Override
+    public void record(long nanos) {
+        timer().record(nanos);
+    }
+
+    @Override
+    public long count() {
+        return timer().count();
+    }
+
+    @Override
+    public long totalNanos() {
+        return timer().totalNanos();
+    }
+
+    @Override
+    public long maxNanos() {
+        return timer().maxNanos();
+    }
+
+    @Override
+    public double percentileNanos(double percentile) {
+        return timer().percentileNanos(percentile);
+    }
+
+    private record Bound(MetricsRegistry registry, Timer timer) {
+
+    }
+
+}
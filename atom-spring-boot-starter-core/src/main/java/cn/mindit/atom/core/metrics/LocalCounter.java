@@ -0,0 +1,23 @@
+package cn.mindit.atom.core.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * @author Catch
+ * @since 2026-10-18
+ */
+final class LocalCounter implements Counter {
+
+    private final LongAdder adder = new LongAdder();
+
+    @Override
+    public void increment(long amount) {
+        adder.add(amount);
+    }
+
+    @Override
+    public long count() {
+        return adder.sum();
+    }
+
+}
@@ -0,0 +1,58 @@
+package cn.mindit.atom.core.metrics;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * 进程内指标注册表, 未引入 Micrometer 时使用, 可通过 {@link #counters()} 等方法读取当前全部指标
+ *
+ * @author Catch
+ * @since 2026-10-18
+ */
+public class LocalMetricsRegistry implements MetricsRegistry {
+
+    private final ConcurrentMap<MeterId, Counter> counters = new ConcurrentHashMap<>();
+
+    private final ConcurrentMap<MeterId, Timer> timers = new ConcurrentHashMap<>();
+
+    private final ConcurrentMap<MeterId, Histogram> histograms = new ConcurrentHashMap<>();
+
+    @Override
+    public Counter counter(String name, String... tags) {
+        return get(counters, MeterId.of(name, tags), LocalCounter::new);
+    }
+
+    @Override
+    public Timer timer(String name, String... tags) {
+        return get(timers, MeterId.of(name, tags), LocalTimer::new);
+    }
+
+    @Override
+    public Histogram histogram(String name, String... tags) {
+        return get(histograms, MeterId.of(name, tags), LocalHistogram::new);
+    }
+
+    public Map<MeterId, Counter> counters() {
+        return Collections.unmodifiableMap(counters);
+    }
+
+    public Map<MeterId, Timer> timers() {
+        return Collections.unmodifiableMap(timers);
+    }
+
+    public Map<MeterId, Histogram> histograms() {
+        return Collections.unmodifiableMap(histograms);
+    }
+
+    private static <T> T get(ConcurrentMap<MeterId, T> meters, MeterId id, Supplier<T> factory) {
+        T meter = meters.get(id);
+        if (meter != null) {
+            return meter;
+        }
+        return meters.computeIfAbsent(id, key -> factory.get());
+    }
+
+}
@@ -0,0 +1,38 @@
+package cn.mindit.atom.core.metrics;
+
+/**
+ * 基于 {@link LocalHistogram} 的纳秒耗时统计
+ *
+ * @author Catch
+ * @since 2026-10-18
+ */
+final class LocalTimer implements Timer {
+
+    private final LocalHistogram histogram = new LocalHistogram();
+
+    @Override
+    public void record(long nanos) {
+        histogram.record(nanos);
+    }
+
+    @Override
+    public long count() {
+        return histogram.count();
+    }
+
+    @Override
+    public long totalNanos() {
+        return histogram.total();
+    }
+
+    @Override
+    public long maxNanos() {
+        return histogram.max();
+    }
+
+    @Override
+    public double percentileNanos(double percentile) {
+        return histogram.percentile(percentile);
+    }
+
+}
@@ -0,0 +1,25 @@
+package cn.mindit.atom.core.metrics;
+
+import java.util.List;
+
+/**
+ * 指标标识, 由名称与按传入顺序排列的标签组成
+ *
+ * @param name 指标名称
+ * @param tags 标签, key, value 交替排列
+ * @author Catch
+ * @since 2026-10-18
+ */
+public record MeterId(String name, List<String> tags) {
+
+    public static MeterId of(String name, String... tags) {
+        if (name == null || name.isEmpty()) {
+            throw new IllegalArgumentException("Meter name must not be empty");
+        }
+        if ((tags.length & 1) != 0) {
+            throw new IllegalArgumentException("Tags must be key/value pairs: " + name);
+        }
+        return new MeterId(name, List.of(tags));
+    }
+
+}
@@ -0,0 +1,65 @@
+package cn.mindit.atom.core.metrics;
+
+/**
+ * 各 starter 发布的指标名称与标签, 统一以 atom.模块.对象 命名
+ *
+ * @author Catch
+ * @since 2026-10-18
+ */
+public abstract class MetricNames {
+
+    /**
+     * 结果标签, 取值 {@link #RESULT_SUCCESS} / {@link #RESULT_ERROR}
+     */
+    public static final String TAG_RESULT = "result";
+    public static final String RESULT_SUCCESS = "success";
+    public static final String RESULT_ERROR = "error";
+
+    /**
+     * HTTP 请求耗时, 标签 method (标准请求方法, 其余为 OTHER), outcome (HttpStatus.Series 名称, 如 SUCCESSFUL / CLIENT_ERROR / SERVER_ERROR)
+     */
+    public static final String WEB_REQUEST = "atom.web.request";
+
+    /**
+     * 异步请求日志队列已满时丢弃的事件数
+     */
+    public static final String WEB_ACCESS_LOG_DROPPED = "atom.web.accesslog.dropped";
+
+    /**
+     * CacheService 读缓存次数, 标签 result (hit / miss)
+     */
+    public static final String REDIS_CACHE = "atom.redis.cache";
+    public static final String CACHE_HIT = "hit";
+    public static final String CACHE_MISS = "miss";
+
+    /**
+     * CacheService 未命中时回源加载耗时
+     */
+    public static final String REDIS_CACHE_LOAD = "atom.redis.cache.load";
+
+    /**
+     * MQTT 消息消费耗时, 标签 version, result
+     */
+    public static final String MQTT_MESSAGE = "atom.mqtt.message";
+
+    /**
+     * OPC UA 数据变化回调耗时, 标签 result
+     */
+    public static final String OPC_UA_VALUE = "atom.opcua.value";
+
+    /**
+     * OPC DA 数据变化回调耗时, 标签 result
+     */
+    public static final String OPC_DA_VALUE = "atom.opcda.value";
+
+    /**
+     * Kafka 发送到确认的耗时, 标签 result
+     */
+    public static final String KAFKA_SEND = "atom.kafka.send";
+
+    /**
+     * 动态定时任务执行耗时, 标签 class, method (任务调用的 Bean 类名与方法名), result
+     */
+    public static final String SCHEDULING_TASK = "atom.scheduling.task";
+
+}
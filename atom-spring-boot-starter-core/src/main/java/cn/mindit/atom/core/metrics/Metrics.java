@@ -0,0 +1,58 @@
+package cn.mindit.atom.core.metrics;
+
+/**
+ * 指标入口
+ * <p>
+ * 默认使用进程内的 {@link LocalMetricsRegistry}, Spring 环境下由 core 模块在存在 Micrometer MeterRegistry 时替换为 {@link MicrometerMetricsRegistry}.
+ * 应用启动完成前获取并缓存的指标实例不会随注册表切换, 需要在字段中缓存指标的组件应使用 {@link #lazyTimer} / {@link #lazyCounter}
+ *
+ * @author Catch
+ * @since 2026-10-18
+ */
+public abstract class Metrics {
+
+    /**
+     * Micrometer 实现发布的百分位
+     */
+    static final double[] PERCENTILES = {0.5, 0.9, 0.99};
+
+    private static volatile MetricsRegistry registry = new LocalMetricsRegistry();
+
+    public static MetricsRegistry registry() {
+        return registry;
+    }
+
+    public static void setRegistry(MetricsRegistry registry) {
+        if (registry == null) {
+            throw new IllegalArgumentException("MetricsRegistry must not be null");
+        }
+        Metrics.registry = registry;
+    }
+
+    public static Counter counter(String name, String... tags) {
+        return registry.counter(name, tags);
+    }
+
+    public static Timer timer(String name, String... tags) {
+        return registry.timer(name, tags);
+    }
+
+    public static Histogram histogram(String name, String... tags) {
+        return registry.histogram(name, tags);
+    }
+
+    /**
+     * 返回可缓存在字段中的耗时统计, 首次使用时从当前注册表获取, 注册表切换后自动重新获取
+     */
+    public static Timer lazyTimer(String name, String... tags) {
+        return new LazyTimer(name, tags);
+    }
+
+    /**
+     * 返回可缓存在字段中的计数器, 语义同 {@link #lazyTimer}
+     */
+    public static Counter lazyCounter(String name, String... tags) {
+        return new LazyCounter(name, tags);
+    }
+
+}
@@ -0,0 +1,19 @@
+package cn.mindit.atom.core.metrics;
+
+/**
+ * 指标注册表, 相同名称与标签返回同一个指标实例
+ * <p>
+ * 标签以 key, value 交替传入, 如 {@code timer("atom.mqtt.message", "version", "v5")}; 标签值应来自有限集合, 避免使用 ID、参数等无界取值
+ *
+ * @author Catch
+ * @since 2026-10-18
+ */
+public interface MetricsRegistry {
+
+    Counter counter(String name, String... tags);
+
+    Timer timer(String name, String... tags);
+
+    Histogram histogram(String name, String... tags);
+
+}
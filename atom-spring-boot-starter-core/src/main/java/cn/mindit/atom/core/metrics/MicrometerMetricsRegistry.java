@@ -0,0 +1,162 @@
+package cn.mindit.atom.core.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * 基于 Micrometer 的指标注册表, 指标直接注册到 MeterRegistry, 随 Actuator / Prometheus 等一起导出
+ * <p>
+ * Micrometer 按名称与标签查找时需要构建 Meter.Id, 这里按 {@link MeterId} 缓存适配后的实例.
+ * 客户端百分位需要在每次记录时维护滑动窗口, 默认关闭, 需要时通过 {@code atom.core.metrics-percentiles} 开启;
+ * 服务端聚合可改用 Micrometer 自身的 {@code management.metrics.distribution.percentiles-histogram} 直方图桶
+ *
+ * @author Catch
+ * @since 2026-10-18
+ */
+public class MicrometerMetricsRegistry implements MetricsRegistry {
+
+    private final MeterRegistry meterRegistry;
+
+    private final boolean publishPercentiles;
+
+    private final ConcurrentMap<MeterId, Counter> counters = new ConcurrentHashMap<>();
+
+    private final ConcurrentMap<MeterId, Timer> timers = new ConcurrentHashMap<>();
+
+    private final ConcurrentMap<MeterId, Histogram> histograms = new ConcurrentHashMap<>();
+
+    public MicrometerMetricsRegistry(MeterRegistry meterRegistry) {
+        this(meterRegistry, false);
+    }
+
+    /**
+     * @param meterRegistry      Micrometer 注册表
+     * @param publishPercentiles 是否在客户端计算并发布 {@link Metrics#PERCENTILES} 中的百分位
+     */
+    public MicrometerMetricsRegistry(MeterRegistry meterRegistry, boolean publishPercentiles) {
+        this.meterRegistry = meterRegistry;
+        this.publishPercentiles = publishPercentiles;
+    }
+
+    public MeterRegistry getMeterRegistry() {
+        return meterRegistry;
+    }
+
+    @Override
+    public Counter counter(String name, String... tags) {
+        return get(counters, MeterId.of(name, tags), id -> new MicrometerCounter(
+            io.micrometer.core.instrument.Counter.builder(name).tags(tags).register(meterRegistry)));
+    }
+
+    @Override
+    public Timer timer(String name, String... tags) {
+        return get(timers, MeterId.of(name, tags), id -> new MicrometerTimer(
+            io.micrometer.core.instrument.Timer.builder(name).tags(tags).publishPercentiles(percentiles()).register(meterRegistry)));
+    }
+
+    @Override
+    public Histogram histogram(String name, String... tags) {
+        return get(histograms, MeterId.of(name, tags), id -> new MicrometerHistogram(
+            DistributionSummary.builder(name).tags(tags).publishPercentiles(percentiles()).register(meterRegistry)));
+    }
+
+    private double[] percentiles() {
+        return publishPercentiles ? Metrics.PERCENTILES : null;
+    }
+
+    private static <T> T get(ConcurrentMap<MeterId, T> meters, MeterId id, Function<MeterId, T> factory) {
+        T meter = meters.get(id);
+        if (meter != null) {
+            return meter;
+        }
+        return meters.computeIfAbsent(id, factory);
+    }
+
+    private static double valueAt(ValueAtPercentile[] values, double percentile, TimeUnit unit) {
+        for (ValueAtPercentile value : values) {
+            if (value.percentile() == percentile) {
+                return unit == null ? value.value() : value.value(unit);
+            }
+        }
+        return Double.NaN;
+    }
+
+    private record MicrometerCounter(io.micrometer.core.instrument.Counter counter) implements Counter {
+
+        @Override
+        public void increment(long amount) {
+            counter.increment(amount);
+        }
+
+        @Override
+        public long count() {
+            return (long) counter.count();
+        }
+
+    }
+
+    private record MicrometerTimer(io.micrometer.core.instrument.Timer timer) implements Timer {
+
+        @Override
+        public void record(long nanos) {
+            timer.record(nanos, TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public long count() {
+            return timer.count();
+        }
+
+        @Override
+        public long totalNanos() {
+            return (long) timer.totalTime(TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public long maxNanos() {
+            return (long) timer.max(TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public double percentileNanos(double percentile) {
+            return valueAt(timer.takeSnapshot().percentileValues(), percentile, TimeUnit.NANOSECONDS);
+        }
+
+    }
+
+    private record MicrometerHistogram(DistributionSummary summary) implements Histogram {
+
+        @Override
+        public void record(long value) {
+            summary.record(Math.max(value, 0));
+        }
+
+        @Override
+        public long count() {
+            return summary.count();
+        }
+
+        @Override
+        public long total() {
+            return (long) summary.totalAmount();
+        }
+
+        @Override
+        public long max() {
+            return (long) summary.max();
+        }
+
+        @Override
+        public double percentile(double percentile) {
+            return valueAt(summary.takeSnapshot().percentileValues(), percentile, null);
+        }
+
+    }
+
+}
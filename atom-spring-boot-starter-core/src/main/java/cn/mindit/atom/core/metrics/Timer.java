@@ -0,0 +1,63 @@
+package cn.mindit.atom.core.metrics;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * 耗时统计, 以纳秒记录
+ *
+ * @author Catch
+ * @since 2026-10-18
+ */
+public interface Timer {
+
+    /**
+     * 记录一次耗时
+     *
+     * @param nanos 耗时纳秒数, 通常为两次 {@link System#nanoTime()} 之差
+     */
+    void record(long nanos);
+
+    default void record(Duration duration) {
+        record(duration.toNanos());
+    }
+
+    default void record(Runnable runnable) {
+        long start = System.nanoTime();
+        try {
+            runnable.run();
+        } finally {
+            record(System.nanoTime() - start);
+        }
+    }
+
+    default <T> T record(Supplier<T> supplier) {
+        long start = System.nanoTime();
+        try {
+            return supplier.get();
+        } finally {
+            record(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * 累计记录次数
+     */
+    long count();
+
+    /**
+     * 累计耗时纳秒数
+     */
+    long totalNanos();
+
+    /**
+     * 最大耗时纳秒数, Micrometer 实现下为滑动时间窗口内的最大值
+     */
+    long maxNanos();
+
+    /**
+     * 耗时百分位纳秒数, 语义同 {@link Histogram#percentile(double)}
+     */
+    double percentileNanos(double percentile);
+
+}
@@ -1,41 +1,33 @@
 package cn.mindit.atom.core.util;
 
 import lombok.Getter;
-import lombok.extern.slf4j.Slf4j;
-import org.jspecify.annotations.NonNull;
 import org.springframework.aop.framework.Advised;
 import org.springframework.aop.support.AopUtils;
-import org.springframework.beans.BeansException;
-import org.springframework.beans.factory.config.BeanPostProcessor;
-import org.springframework.core.MethodIntrospector;
-import org.springframework.core.Ordered;
-import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.beans.factory.SmartInitializingSingleton;
 import org.springframework.util.ReflectionUtils;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
-import java.util.Map;
-import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * Listener BeanPostProcessor 的公共骨架
+ * 单个协议的监听注解处理器, 由 {@link ListenerScanner} 统一扫描 Bean 后分发到这里生成消费者
+ * <p>
+ * 监听注解需标注 {@link IndexedListener}; 类所在的类路径根带有 {@link ListenerIndex} 且未登记该类时直接跳过反射扫描.
+ * 处理器本身不再是 BeanPostProcessor, 必须与 {@link ListenerScanner} 一起注册, 否则容器启动完成时抛出 {@link IllegalStateException}
  *
  * @param <A> 监听注解
  * @param <C> 生成的消费者类型
  * @author Catch
  * @since 2026-05-03
  */
-@Slf4j
-public abstract class AbstractListenerProcessor<A extends Annotation, C> implements BeanPostProcessor, Ordered {
+public abstract class AbstractListenerProcessor<A extends Annotation, C> implements SmartInitializingSingleton {
 
     @Getter
     private final List<C> consumers = new ArrayList<>();
 
-    private final Set<Class<?>> nonAnnotatedClasses = Collections.newSetFromMap(new ConcurrentHashMap<>(64));
+    private volatile boolean attached;
 
     protected abstract Class<A> annotationType();
 
@@ -44,35 +36,31 @@ public abstract class AbstractListenerProcessor<A extends Annotation, C> impleme
     protected void validate(Method method) {
     }
 
+    /**
+     * 没有 {@link ListenerScanner} 时监听方法不会被扫描, 启动失败而不是静默地没有消费者
+     */
     @Override
-    public Object postProcessAfterInitialization(@NonNull Object bean, @NonNull String beanName) throws BeansException {
-        if (nonAnnotatedClasses.contains(bean.getClass())) {
-            return bean;
+    public void afterSingletonsInstantiated() {
+        if (!attached) {
+            throw new IllegalStateException(getClass().getSimpleName() + " requires a " + ListenerScanner.class.getSimpleName()
+                + " bean to scan @" + annotationType().getSimpleName() + " methods, import it next to the processor");
         }
-        Class<?> targetClass = AopUtils.getTargetClass(bean);
-        Class<A> annotationType = annotationType();
-        Map<Method, A> annotatedMethods = MethodIntrospector.selectMethods(
-            targetClass,
-            (MethodIntrospector.MetadataLookup<A>) method -> AnnotatedElementUtils.findMergedAnnotation(method, annotationType)
-        );
-        if (annotatedMethods.isEmpty()) {
-            nonAnnotatedClasses.add(bean.getClass());
-            return bean;
-        }
-        for (Map.Entry<Method, A> entry : annotatedMethods.entrySet()) {
-            Method methodToUse = checkProxy(entry.getKey(), bean);
-            validate(methodToUse);
-            consumers.add(buildConsumer(bean, methodToUse, entry.getValue()));
-        }
-        if (log.isDebugEnabled()) {
-            log.debug("{} @{} methods processed on bean '{}': {}", annotatedMethods.size(), annotationType.getSimpleName(), beanName, annotatedMethods);
-        }
-        return bean;
     }
 
-    @Override
-    public int getOrder() {
-        return Ordered.LOWEST_PRECEDENCE;
+    /**
+     * 由 {@link ListenerScanner} 在获取处理器时调用
+     */
+    void attach() {
+        this.attached = true;
+    }
+
+    /**
+     * 处理扫描到的单个监听方法
+     */
+    void process(Object bean, Method method, Annotation annotation) {
+        Method methodToUse = checkProxy(method, bean);
+        validate(methodToUse);
+        consumers.add(buildConsumer(bean, methodToUse, annotationType().cast(annotation)));
     }
 
     protected Method checkProxy(Method methodArg, Object bean) {
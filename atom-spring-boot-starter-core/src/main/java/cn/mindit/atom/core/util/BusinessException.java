@@ -1,5 +1,8 @@
 package cn.mindit.atom.core.util;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * @author Catch
  * @since 2023-08-08
@@ -9,8 +12,11 @@ public class BusinessException extends RuntimeException implements ResultProvide
     public static final int DEFAULT_CODE = 400;
     public static final String DEFAULT_MESSAGE = "请求数据错误";
 
+    private static final Map<ResultProvider, BusinessException> CACHE = new ConcurrentHashMap<>();
+
     private final int code;
     private final String message;
+    private final boolean stackless;
 
     public BusinessException() {
         this(DEFAULT_CODE, DEFAULT_MESSAGE);
@@ -24,10 +30,11 @@ public class BusinessException extends RuntimeException implements ResultProvide
         super(message);
         this.code = code;
         this.message = message;
+        this.stackless = false;
     }
 
     public BusinessException(ResultProvider provider) {
-        this(provider.getCode(), provider.getMessage());
+        this(provider.getCode(), provider.getMessage(), null, provider.isStackless());
     }
 
     public BusinessException(Throwable cause) {
@@ -42,10 +49,33 @@ public class BusinessException extends RuntimeException implements ResultProvide
         super(message, cause);
         this.code = code;
         this.message = message;
+        this.stackless = false;
     }
 
     public BusinessException(ResultProvider provider, Throwable cause) {
-        this(provider.getCode(), provider.getMessage(), cause);
+        this(provider.getCode(), provider.getMessage(), cause, provider.isStackless());
+    }
+
+    /**
+     * stackless 为 true 时不填充堆栈且禁用 suppressed, 构造开销与普通对象相当
+     */
+    protected BusinessException(int code, String message, Throwable cause, boolean stackless) {
+        super(message, cause, !stackless, !stackless);
+        this.code = code;
+        this.message = message;
+        this.stackless = stackless;
+    }
+
+    /**
+     * 按 provider 获取异常, 省略堆栈的枚举 provider 返回缓存的单例, 其余情况新建实例
+     * <p>
+     * 单例没有堆栈、cause 与 suppressed, 不可变, 可在线程间共享
+     */
+    public static BusinessException of(ResultProvider provider) {
+        if (provider.isStackless() && provider instanceof Enum<?>) {
+            return CACHE.computeIfAbsent(provider, BusinessException::new);
+        }
+        return new BusinessException(provider);
     }
 
     @Override
@@ -58,4 +88,9 @@ public class BusinessException extends RuntimeException implements ResultProvide
         return message;
     }
 
+    @Override
+    public boolean isStackless() {
+        return stackless;
+    }
+
 }
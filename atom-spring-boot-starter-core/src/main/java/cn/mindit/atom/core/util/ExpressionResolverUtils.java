@@ -3,18 +3,31 @@ package cn.mindit.atom.core.util;
 import org.springframework.beans.factory.config.BeanExpressionContext;
 import org.springframework.beans.factory.config.BeanExpressionResolver;
 import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.util.ConcurrentReferenceHashMap;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * 解析字符串数组中的 SpEL / 占位符表达式
+ * <p>
+ * 解析结果按原始字符串缓存在各自的 BeanFactory 下, 不含 '{' 的字符串不是表达式, 原样返回且不进入缓存.
+ * 配置刷新后由 {@code cn.mindit.atom.core.core.ExpressionCacheRefreshListener} 调用 {@link #clearCache()} 失效
  *
  * @author Catch
  * @since 2026-05-03
  */
 public abstract class ExpressionResolverUtils {
 
+    /**
+     * 单个 BeanFactory 最多缓存的表达式数量, 超出后仍可解析但不再缓存
+     */
+    static final int MAX_CACHE_SIZE = 1024;
+
+    private static final Map<ConfigurableListableBeanFactory, Map<String, Object>> CACHE = new ConcurrentReferenceHashMap<>(4);
+
     public static String[] resolveStringArray(String[] values, ConfigurableListableBeanFactory beanFactory, String label) {
         if (values == null || values.length == 0) {
             return null;
@@ -23,10 +36,9 @@ public abstract class ExpressionResolverUtils {
         if (resolver == null) {
             return values;
         }
-        BeanExpressionContext context = new BeanExpressionContext(beanFactory, null);
         List<String> result = new ArrayList<>();
         for (String value : values) {
-            Object object = resolver.evaluate(beanFactory.resolveEmbeddedValue(value), context);
+            Object object = evaluate(value, beanFactory, resolver);
             if (object == null) {
                 throw new IllegalArgumentException(label + " must not be null");
             }
@@ -46,4 +58,77 @@ public abstract class ExpressionResolverUtils {
         return result.toArray(new String[0]);
     }
 
+    /**
+     * 解析为 int 数组, 用于 QoS、命名空间索引等配置; 每个表达式可以得到数字、数字字符串(可逗号分隔)或 int[] / Integer[]
+     */
+    public static int[] resolveIntArray(String[] values, ConfigurableListableBeanFactory beanFactory, String label) {
+        if (values == null || values.length == 0) {
+            return null;
+        }
+        BeanExpressionResolver resolver = beanFactory.getBeanExpressionResolver();
+        List<Integer> result = new ArrayList<>();
+        for (String value : values) {
+            Object object = resolver == null ? beanFactory.resolveEmbeddedValue(value) : evaluate(value, beanFactory, resolver);
+            if (object == null) {
+                throw new IllegalArgumentException(label + " must not be null");
+            }
+            if (object instanceof Number number) {
+                result.add(number.intValue());
+            } else if (object instanceof String str) {
+                for (String part : str.split(",")) {
+                    result.add(parseInt(part, label));
+                }
+            } else if (object instanceof int[] ints) {
+                for (int i : ints) {
+                    result.add(i);
+                }
+            } else if (object instanceof Number[] numbers) {
+                for (Number number : numbers) {
+                    if (number == null) {
+                        throw new IllegalArgumentException(label + " must not be null");
+                    }
+                    result.add(number.intValue());
+                }
+            } else {
+                throw new IllegalArgumentException(label + " must be a number, numeric String or int[]");
+            }
+        }
+        int[] ints = new int[result.size()];
+        for (int i = 0; i < ints.length; i++) {
+            ints[i] = result.get(i);
+        }
+        return ints;
+    }
+
+    /**
+     * 清空全部缓存的解析结果, 配置刷新后调用
+     */
+    public static void clearCache() {
+        CACHE.clear();
+    }
+
+    private static Object evaluate(String value, ConfigurableListableBeanFactory beanFactory, BeanExpressionResolver resolver) {
+        if (value == null || value.indexOf('{') < 0) {
+            return value;
+        }
+        Map<String, Object> cache = CACHE.computeIfAbsent(beanFactory, k -> new ConcurrentHashMap<>());
+        Object cached = cache.get(value);
+        if (cached != null) {
+            return cached;
+        }
+        Object result = resolver.evaluate(beanFactory.resolveEmbeddedValue(value), new BeanExpressionContext(beanFactory, null));
+        if (result != null && cache.size() < MAX_CACHE_SIZE) {
+            cache.put(value, result);
+        }
+        return result;
+    }
+
+    private static int parseInt(String value, String label) {
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(label + " must be numeric: " + value, e);
+        }
+    }
+
 }
@@ -0,0 +1,275 @@
+package cn.mindit.atom.core.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.UndeclaredThrowableException;
+
+/**
+ * 启动时把监听方法编译为直接调用, 取代每条消息一次的 {@link Method#invoke}
+ * <p>
+ * 优先通过 {@link LambdaMetafactory} 生成实现 {@link Call0}/{@link Call1}/{@link Call2} 的类, 与手写调用一样可被 JIT 内联;
+ * 目标类与本类不在同一类加载器等无法生成时回退到 {@link MethodHandle}, 再回退到反射.
+ * 三种实现抛出的都是目标方法原本的异常, 不会包装为 {@link InvocationTargetException}; 返回值被丢弃.
+ * 目标对象可以是代理, 调用按虚方法分派, 切面照常生效
+ *
+ * @author Catch
+ * @since 2026-10-18
+ */
+@Slf4j
+public abstract class FastInvoker {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private final Method method;
+
+    FastInvoker(Method method) {
+        this.method = method;
+    }
+
+    /**
+     * 为 target 上的 method 生成调用器, 静态方法时 target 传 null, 最多支持 2 个参数
+     */
+    public static FastInvoker of(Object target, Method method) {
+        int count = method.getParameterCount();
+        if (count > 2) {
+            throw new IllegalArgumentException("FastInvoker supports at most 2 parameters: " + method);
+        }
+        try {
+            return lambda(target, method);
+        } catch (Throwable e) {
+            log.debug("LambdaMetafactory unavailable for {}, falling back to MethodHandle: {}", method, e.toString());
+        }
+        try {
+            return new Handle(target, method);
+        } catch (IllegalAccessException e) {
+            log.debug("MethodHandle unavailable for {}, falling back to reflection: {}", method, e.toString());
+        }
+        return new Reflective(target, method);
+    }
+
+    public Method getMethod() {
+        return method;
+    }
+
+    public void invoke() throws Exception {
+        checkArity(0);
+    }
+
+    public void invoke(Object arg) throws Exception {
+        checkArity(1);
+    }
+
+    public void invoke(Object arg1, Object arg2) throws Exception {
+        checkArity(2);
+    }
+
+    void checkArity(int count) {
+        if (count != method.getParameterCount()) {
+            throw new IllegalArgumentException("Method " + method + " expects " + method.getParameterCount() + " arguments, but got " + count);
+        }
+    }
+
+    @FunctionalInterface
+    public interface Call0 {
+
+        void call() throws Exception;
+
+    }
+
+    @FunctionalInterface
+    public interface Call1 {
+
+        void call(Object arg) throws Exception;
+
+    }
+
+    @FunctionalInterface
+    public interface Call2 {
+
+        void call(Object arg1, Object arg2) throws Exception;
+
+    }
+
+    private static FastInvoker lambda(Object target, Method method) throws Throwable {
+        Class<?> declaringClass = method.getDeclaringClass();
+        MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(declaringClass, LOOKUP);
+        MethodHandle implementation = lookup.unreflect(method);
+        boolean isStatic = Modifier.isStatic(method.getModifiers());
+        int count = method.getParameterCount();
+        Class<?> callType = count == 0 ? Call0.class : count == 1 ? Call1.class : Call2.class;
+        MethodType factoryType = isStatic ? MethodType.methodType(callType) : MethodType.methodType(callType, declaringClass);
+        Class<?>[] boxed = new Class<?>[count];
+        for (int i = 0; i < count; i++) {
+            boxed[i] = ClassUtils.resolvePrimitiveIfNecessary(method.getParameterTypes()[i]);
+        }
+        CallSite site = LambdaMetafactory.metafactory(lookup, "call", factoryType,
+            MethodType.genericMethodType(count).changeReturnType(void.class), implementation, MethodType.methodType(void.class, boxed));
+        MethodHandle factory = site.getTarget();
+        Object call = isStatic ? factory.invoke() : factory.invoke(target);
+        return switch (count) {
+            case 0 -> new Lambda0(method, (Call0) call);
+            case 1 -> new Lambda1(method, (Call1) call);
+            default -> new Lambda2(method, (Call2) call);
+        };
+    }
+
+    private static final class Lambda0 extends FastInvoker {
+
+        private final Call0 call;
+
+        Lambda0(Method method, Call0 call) {
+            super(method);
+            this.call = call;
+        }
+
+        @Override
+        public void invoke() throws Exception {
+            call.call();
+        }
+
+    }
+
+    private static final class Lambda1 extends FastInvoker {
+
+        private final Call1 call;
+
+        Lambda1(Method method, Call1 call) {
+            super(method);
+            this.call = call;
+        }
+
+        @Override
+        public void invoke(Object arg) throws Exception {
+            call.call(arg);
+        }
+
+    }
+
+    private static final class Lambda2 extends FastInvoker {
+
+        private final Call2 call;
+
+        Lambda2(Method method, Call2 call) {
+            super(method);
+            this.call = call;
+        }
+
+        @Override
+        public void invoke(Object arg1, Object arg2) throws Exception {
+            call.call(arg1, arg2);
+        }
+
+    }
+
+    /**
+     * 目标已绑定, 参数与返回值统一为 Object 后以 invokeExact 调用
+     */
+    private static final class Handle extends FastInvoker {
+
+        private final MethodHandle handle;
+
+        Handle(Object target, Method method) throws IllegalAccessException {
+            super(method);
+            ReflectionUtils.makeAccessible(method);
+            MethodHandle handle = LOOKUP.unreflect(method);
+            if (!Modifier.isStatic(method.getModifiers())) {
+                handle = handle.bindTo(target);
+            }
+            this.handle = handle.asType(MethodType.genericMethodType(method.getParameterCount()).changeReturnType(void.class));
+        }
+
+        @Override
+        public void invoke() throws Exception {
+            checkArity(0);
+            try {
+                handle.invokeExact();
+            } catch (Exception | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new UndeclaredThrowableException(e);
+            }
+        }
+
+        @Override
+        public void invoke(Object arg) throws Exception {
+            checkArity(1);
+            try {
+                handle.invokeExact(arg);
+            } catch (Exception | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new UndeclaredThrowableException(e);
+            }
+        }
+
+        @Override
+        public void invoke(Object arg1, Object arg2) throws Exception {
+            checkArity(2);
+            try {
+                handle.invokeExact(arg1, arg2);
+            } catch (Exception | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new UndeclaredThrowableException(e);
+            }
+        }
+
+    }
+
+    /**
+     * 兜底实现, 解包 {@link InvocationTargetException} 后抛出原异常
+     */
+    private static final class Reflective extends FastInvoker {
+
+        private final Object target;
+
+        Reflective(Object target, Method method) {
+            super(method);
+            ReflectionUtils.makeAccessible(method);
+            this.target = target;
+        }
+
+        @Override
+        public void invoke() throws Exception {
+            call();
+        }
+
+        @Override
+        public void invoke(Object arg) throws Exception {
+            call(arg);
+        }
+
+        @Override
+        public void invoke(Object arg1, Object arg2) throws Exception {
+            call(arg1, arg2);
+        }
+
+        private void call(Object... args) throws Exception {
+            checkArity(args.length);
+            try {
+                getMethod().invoke(target, args);
+            } catch (InvocationTargetException e) {
+                Throwable cause = e.getTargetException();
+                if (cause instanceof Exception ex) {
+                    throw ex;
+                }
+                if (cause instanceof Error error) {
+                    throw error;
+                }
+                throw new UndeclaredThrowableException(cause);
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,16 @@
+package cn.mindit.atom.core.util;
+
+import java.lang.annotation.*;
+
+/**
+ * 标记监听注解, 被标记注解所在的方法会由 atom-listener-indexer 在编译期写入 {@link ListenerIndex}
+ *
+ * @author Catch
+ * @since 2026-10-18
+ */
+@Target(ElementType.ANNOTATION_TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface IndexedListener {
+
+}
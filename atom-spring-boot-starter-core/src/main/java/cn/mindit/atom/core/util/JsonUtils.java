@@ -5,27 +5,33 @@ import cn.mindit.atom.core.util.json.*;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.jackson.autoconfigure.JsonMapperBuilderCustomizer;
+import tools.jackson.core.StreamWriteFeature;
 import tools.jackson.core.type.TypeReference;
 import tools.jackson.databind.DeserializationFeature;
 import tools.jackson.databind.JavaType;
+import tools.jackson.databind.ObjectReader;
+import tools.jackson.databind.ObjectWriter;
 import tools.jackson.databind.PropertyNamingStrategies;
 import tools.jackson.databind.SerializationFeature;
-import tools.jackson.databind.ext.javatime.deser.LocalDateDeserializer;
-import tools.jackson.databind.ext.javatime.deser.LocalTimeDeserializer;
-import tools.jackson.databind.ext.javatime.ser.LocalDateSerializer;
-import tools.jackson.databind.ext.javatime.ser.LocalDateTimeSerializer;
-import tools.jackson.databind.ext.javatime.ser.LocalTimeSerializer;
 import tools.jackson.databind.json.JsonMapper;
 import tools.jackson.databind.module.SimpleModule;
+import tools.jackson.databind.util.ByteBufferBackedInputStream;
+import tools.jackson.databind.util.LookupCache;
+import tools.jackson.databind.util.SimpleLookupCache;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.lang.reflect.Type;
 import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.text.SimpleDateFormat;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
-import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
 import java.util.Locale;
 import java.util.TimeZone;
 
@@ -43,6 +49,33 @@ public class JsonUtils {
 
     public static final JsonMapper jsonMapper = jsonMapper();
 
+    /**
+     * 写入调用方持有的输出流时不关闭也不 flush 该流, 由调用方负责; 避免序列化失败时提前提交 Servlet 响应
+     */
+    private static final ObjectWriter streamWriter = jsonMapper.writer()
+                                                               .without(StreamWriteFeature.AUTO_CLOSE_TARGET)
+                                                               .without(StreamWriteFeature.FLUSH_PASSED_TO_STREAM);
+
+    /**
+     * 类型缓存的最大条目数, 超出后按 LRU 淘汰
+     */
+    private static final int TYPE_CACHE_MAX_ENTRIES = 512;
+
+    /**
+     * (wrapper, inners) 到 JavaType 的缓存, 避免每次调用都解析泛型类型
+     */
+    private static final LookupCache<ParametricKey, JavaType> javaTypeCache = new SimpleLookupCache<>(16, TYPE_CACHE_MAX_ENTRIES);
+
+    /**
+     * JavaType 到 ObjectReader 的缓存, ObjectReader 不可变且线程安全
+     */
+    private static final LookupCache<JavaType, ObjectReader> readerCache = new SimpleLookupCache<>(16, TYPE_CACHE_MAX_ENTRIES);
+
+    /**
+     * JavaType 到 ObjectWriter 的缓存, ObjectWriter 不可变且线程安全
+     */
+    private static final LookupCache<JavaType, ObjectWriter> writerCache = new SimpleLookupCache<>(16, TYPE_CACHE_MAX_ENTRIES);
+
     /**
      * 将 Java 对象转为 Json 字符串
      *
@@ -85,6 +118,52 @@ public class JsonUtils {
                          .writeValueAsString(object);
     }
 
+    /**
+     * 将 Java 对象转为 UTF-8 编码的 Json 字节数组, 直接使用字节生成器, 不经过中间 String
+     * <p>
+     * 与 {@link #toJson(Object)} 保持一致: CharSequence 与 Number 直接输出其字符串形式
+     *
+     * @param <T>    泛型
+     * @param object Java 对象
+     * @return json 字节数组
+     */
+    public static <T> byte[] toJsonBytes(T object) {
+        if (object == null) {
+            return null;
+        }
+        if (object instanceof CharSequence charSequence) {
+            return charSequence.toString().getBytes(StandardCharsets.UTF_8);
+        }
+        if (object instanceof Number number) {
+            return number.toString().getBytes(StandardCharsets.UTF_8);
+        }
+        return jsonMapper.writeValueAsBytes(object);
+    }
+
+    /**
+     * 将 Java 对象以 UTF-8 编码的 Json 写入输出流, 写入完成或失败后都不关闭、不 flush 输出流
+     * <p>
+     * 与 {@link #toJson(Object)} 保持一致: CharSequence 与 Number 直接输出其字符串形式, null 不写入任何内容
+     *
+     * @param <T>          泛型
+     * @param outputStream 输出流
+     * @param object       Java 对象
+     */
+    public static <T> void writeTo(OutputStream outputStream, T object) {
+        if (object == null) {
+            return;
+        }
+        if (object instanceof CharSequence || object instanceof Number) {
+            try {
+                outputStream.write(object.toString().getBytes(StandardCharsets.UTF_8));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return;
+        }
+        streamWriter.writeValue(outputStream, object);
+    }
+
     /**
      * 将 Json 字符串转为 Object 对象
      *
@@ -130,9 +209,7 @@ public class JsonUtils {
         if (json == null || json.isEmpty()) {
             return null;
         }
-        JavaType javaType = jsonMapper.getTypeFactory()
-                                      .constructParametricType(wrapper, inners);
-        return jsonMapper.readValue(json, javaType);
+        return reader(javaType(wrapper, inners)).readValue(json);
     }
 
     /**
@@ -148,9 +225,7 @@ public class JsonUtils {
         if (inputStream == null) {
             return null;
         }
-        JavaType javaType = jsonMapper.getTypeFactory()
-                                      .constructParametricType(wrapper, inners);
-        return jsonMapper.readValue(inputStream, javaType);
+        return reader(javaType(wrapper, inners)).readValue(inputStream);
     }
 
     /**
@@ -165,9 +240,7 @@ public class JsonUtils {
         if (json == null || json.isEmpty()) {
             return null;
         }
-        JavaType javaType = jsonMapper.getTypeFactory()
-                                      .constructType(type);
-        return jsonMapper.readValue(json, javaType);
+        return reader(jsonMapper.constructType(type)).readValue(json);
     }
 
     /**
@@ -182,9 +255,7 @@ public class JsonUtils {
         if (inputStream == null) {
             return null;
         }
-        JavaType javaType = jsonMapper.getTypeFactory()
-                                      .constructType(type);
-        return jsonMapper.readValue(inputStream, javaType);
+        return reader(jsonMapper.constructType(type)).readValue(inputStream);
     }
 
     /**
@@ -217,6 +288,294 @@ public class JsonUtils {
         return jsonMapper.readValue(inputStream, type);
     }
 
+    /**
+     * 将 UTF-8 编码的 Json 字节数组转为 Object 对象
+     *
+     * @param <T>   泛型
+     * @param bytes json 字节数组
+     * @param clazz 要转换的 java 类型
+     * @return 接收 java 对象
+     */
+    public static <T> T toObject(byte[] bytes, Class<T> clazz) {
+        return bytes == null ? null : toObject(bytes, 0, bytes.length, clazz);
+    }
+
+    /**
+     * 将 UTF-8 编码的 Json 字节数组片段转为 Object 对象
+     *
+     * @param <T>    泛型
+     * @param bytes  json 字节数组
+     * @param offset 起始位置
+     * @param len    长度
+     * @param clazz  要转换的 java 类型
+     * @return 接收 java 对象
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T toObject(byte[] bytes, int offset, int len, Class<T> clazz) {
+        if (bytes == null || len == 0) {
+            return null;
+        }
+        if (CharSequence.class.isAssignableFrom(clazz)) {
+            return (T) new String(bytes, offset, len, StandardCharsets.UTF_8);
+        }
+        return jsonMapper.readValue(bytes, offset, len, clazz);
+    }
+
+    /**
+     * 将 UTF-8 编码的 Json 字节数组转为 Object 对象
+     *
+     * @param bytes   json 字节数组
+     * @param wrapper 泛型包装类
+     * @param inners  泛型类
+     * @param <T>     泛型包装类
+     * @return 泛型包装类
+     */
+    public static <T> T toObject(byte[] bytes, Class<?> wrapper, Class<?>... inners) {
+        return bytes == null ? null : toObject(bytes, 0, bytes.length, wrapper, inners);
+    }
+
+    /**
+     * 将 UTF-8 编码的 Json 字节数组片段转为 Object 对象
+     *
+     * @param bytes   json 字节数组
+     * @param offset  起始位置
+     * @param len     长度
+     * @param wrapper 泛型包装类
+     * @param inners  泛型类
+     * @param <T>     泛型包装类
+     * @return 泛型包装类
+     */
+    public static <T> T toObject(byte[] bytes, int offset, int len, Class<?> wrapper, Class<?>... inners) {
+        if (bytes == null || len == 0) {
+            return null;
+        }
+        return reader(javaType(wrapper, inners)).readValue(bytes, offset, len);
+    }
+
+    /**
+     * 将 UTF-8 编码的 Json 字节数组转为 Object 对象
+     *
+     * @param <T>   泛型
+     * @param bytes json 字节数组
+     * @param type  要转换的 java 类型, 可直接传入 {@link JavaType}
+     * @return 接收 java 对象
+     */
+    public static <T> T toObject(byte[] bytes, Type type) {
+        return bytes == null ? null : toObject(bytes, 0, bytes.length, type);
+    }
+
+    /**
+     * 将 UTF-8 编码的 Json 字节数组片段转为 Object 对象
+     *
+     * @param <T>    泛型
+     * @param bytes  json 字节数组
+     * @param offset 起始位置
+     * @param len    长度
+     * @param type   要转换的 java 类型, 可直接传入 {@link JavaType}
+     * @return 接收 java 对象
+     */
+    public static <T> T toObject(byte[] bytes, int offset, int len, Type type) {
+        if (bytes == null || len == 0) {
+            return null;
+        }
+        return reader(jsonMapper.constructType(type)).readValue(bytes, offset, len);
+    }
+
+    /**
+     * 将 UTF-8 编码的 Json 字节数组转为 Object 对象
+     *
+     * @param <T>   泛型
+     * @param bytes json 字节数组
+     * @param type  要转换的 java 类型
+     * @return 接收 java 对象
+     */
+    public static <T> T toObject(byte[] bytes, TypeReference<T> type) {
+        return bytes == null ? null : toObject(bytes, 0, bytes.length, type);
+    }
+
+    /**
+     * 将 UTF-8 编码的 Json 字节数组片段转为 Object 对象
+     *
+     * @param <T>    泛型
+     * @param bytes  json 字节数组
+     * @param offset 起始位置
+     * @param len    长度
+     * @param type   要转换的 java 类型
+     * @return 接收 java 对象
+     */
+    public static <T> T toObject(byte[] bytes, int offset, int len, TypeReference<T> type) {
+        if (bytes == null || len == 0) {
+            return null;
+        }
+        return jsonMapper.readValue(bytes, offset, len, type);
+    }
+
+    /**
+     * 将 UTF-8 编码的 Json ByteBuffer 转为 Object 对象, 读取 position 到 limit 之间的内容, 不改变 buffer 的 position
+     *
+     * @param <T>    泛型
+     * @param buffer json 字节缓冲区
+     * @param clazz  要转换的 java 类型
+     * @return 接收 java 对象
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T toObject(ByteBuffer buffer, Class<T> clazz) {
+        if (buffer == null || !buffer.hasRemaining()) {
+            return null;
+        }
+        if (buffer.hasArray()) {
+            return toObject(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining(), clazz);
+        }
+        if (CharSequence.class.isAssignableFrom(clazz)) {
+            return (T) StandardCharsets.UTF_8.decode(buffer.duplicate()).toString();
+        }
+        return jsonMapper.readValue(new ByteBufferBackedInputStream(buffer.duplicate()), clazz);
+    }
+
+    /**
+     * 将 UTF-8 编码的 Json ByteBuffer 转为 Object 对象, 读取 position 到 limit 之间的内容, 不改变 buffer 的 position
+     *
+     * @param buffer  json 字节缓冲区
+     * @param wrapper 泛型包装类
+     * @param inners  泛型类
+     * @param <T>     泛型包装类
+     * @return 泛型包装类
+     */
+    public static <T> T toObject(ByteBuffer buffer, Class<?> wrapper, Class<?>... inners) {
+        if (buffer == null || !buffer.hasRemaining()) {
+            return null;
+        }
+        if (buffer.hasArray()) {
+            return toObject(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining(), wrapper, inners);
+        }
+        return toObject(new ByteBufferBackedInputStream(buffer.duplicate()), wrapper, inners);
+    }
+
+    /**
+     * 将 UTF-8 编码的 Json ByteBuffer 转为 Object 对象, 读取 position 到 limit 之间的内容, 不改变 buffer 的 position
+     *
+     * @param <T>    泛型
+     * @param buffer json 字节缓冲区
+     * @param type   要转换的 java 类型, 可直接传入 {@link JavaType}
+     * @return 接收 java 对象
+     */
+    public static <T> T toObject(ByteBuffer buffer, Type type) {
+        if (buffer == null || !buffer.hasRemaining()) {
+            return null;
+        }
+        if (buffer.hasArray()) {
+            return toObject(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining(), type);
+        }
+        return toObject(new ByteBufferBackedInputStream(buffer.duplicate()), type);
+    }
+
+    /**
+     * 将 UTF-8 编码的 Json ByteBuffer 转为 Object 对象, 读取 position 到 limit 之间的内容, 不改变 buffer 的 position
+     *
+     * @param <T>    泛型
+     * @param buffer json 字节缓冲区
+     * @param type   要转换的 java 类型
+     * @return 接收 java 对象
+     */
+    public static <T> T toObject(ByteBuffer buffer, TypeReference<T> type) {
+        if (buffer == null || !buffer.hasRemaining()) {
+            return null;
+        }
+        if (buffer.hasArray()) {
+            return toObject(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining(), type);
+        }
+        return toObject(new ByteBufferBackedInputStream(buffer.duplicate()), type);
+    }
+
+    /**
+     * 获取泛型类型对应的 JavaType, 结果会被缓存
+     *
+     * @param wrapper 泛型包装类
+     * @param inners  泛型类
+     * @return JavaType
+     */
+    public static JavaType javaType(Class<?> wrapper, Class<?>... inners) {
+        ParametricKey key = new ParametricKey(wrapper, inners);
+        JavaType javaType = javaTypeCache.get(key);
+        if (javaType == null) {
+            javaType = jsonMapper.getTypeFactory()
+                                 .constructParametricType(wrapper, inners);
+            // 查找时直接使用调用方的数组, 放入缓存的键需复制一份, 避免调用方之后修改数组破坏缓存
+            javaTypeCache.putIfAbsent(new ParametricKey(wrapper, inners.clone()), javaType);
+        }
+        return javaType;
+    }
+
+    /**
+     * 获取绑定到指定类型的 ObjectReader, 结果会被缓存
+     *
+     * @param clazz 要转换的 java 类型
+     * @return ObjectReader
+     */
+    public static ObjectReader reader(Class<?> clazz) {
+        return reader(jsonMapper.constructType(clazz));
+    }
+
+    /**
+     * 获取绑定到指定类型的 ObjectReader, 结果会被缓存
+     *
+     * @param type 要转换的 java 类型
+     * @return ObjectReader
+     */
+    public static ObjectReader reader(TypeReference<?> type) {
+        return reader(jsonMapper.constructType(type));
+    }
+
+    /**
+     * 获取绑定到指定类型的 ObjectReader, 结果会被缓存
+     *
+     * @param javaType 要转换的 java 类型
+     * @return ObjectReader
+     */
+    public static ObjectReader reader(JavaType javaType) {
+        ObjectReader reader = readerCache.get(javaType);
+        if (reader == null) {
+            reader = jsonMapper.readerFor(javaType);
+            readerCache.putIfAbsent(javaType, reader);
+        }
+        return reader;
+    }
+
+    /**
+     * 获取绑定到指定类型的 ObjectWriter, 结果会被缓存
+     *
+     * @param clazz 要序列化的 java 类型
+     * @return ObjectWriter
+     */
+    public static ObjectWriter writer(Class<?> clazz) {
+        return writer(jsonMapper.constructType(clazz));
+    }
+
+    /**
+     * 获取绑定到指定类型的 ObjectWriter, 结果会被缓存
+     *
+     * @param type 要序列化的 java 类型
+     * @return ObjectWriter
+     */
+    public static ObjectWriter writer(TypeReference<?> type) {
+        return writer(jsonMapper.constructType(type));
+    }
+
+    /**
+     * 获取绑定到指定类型的 ObjectWriter, 结果会被缓存
+     *
+     * @param javaType 要序列化的 java 类型
+     * @return ObjectWriter
+     */
+    public static ObjectWriter writer(JavaType javaType) {
+        ObjectWriter writer = writerCache.get(javaType);
+        if (writer == null) {
+            writer = jsonMapper.writerFor(javaType);
+            writerCache.putIfAbsent(javaType, writer);
+        }
+        return writer;
+    }
+
     /**
      * 获取 jsonMapper
      *
@@ -230,25 +589,18 @@ public class JsonUtils {
 
     public static JsonMapperBuilderCustomizer customize() {
         // ==================== 日期时间的处理 ====================
-        String dateFormat = "yyyy-MM-dd";
-        String timeFormat = "HH:mm:ss";
-        String datetimeFormat = "yyyy-MM-dd HH:mm:ss";
-
         // JDK util 包下的 Date java.util.date
-        SimpleDateFormat simpleDateFormat = new SimpleDateFormat(datetimeFormat);
-
-        DateTimeFormatter dateFormatter = DateTimeFormatter.ofPattern(dateFormat);
-        DateTimeFormatter timeFormatter = DateTimeFormatter.ofPattern(timeFormat);
-        DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofPattern(datetimeFormat);
+        SimpleDateFormat simpleDateFormat = new SimpleDateFormat(FixedDateTimeCodec.DATE_TIME_PATTERN);
 
-        LocalDateSerializer localDateSerializer = new LocalDateSerializer(dateFormatter);
-        LocalDateDeserializer localDateDeserializer = new LocalDateDeserializer(dateFormatter);
+        // 默认格式走定长编解码, 通过 @JsonFormat 指定其他格式时仍使用 DateTimeFormatter
+        LocalDateSerializer localDateSerializer = new LocalDateSerializer(FixedDateTimeCodec.DATE_FORMATTER);
+        LocalDateDeserializer localDateDeserializer = new LocalDateDeserializer(FixedDateTimeCodec.DATE_FORMATTER);
 
-        LocalTimeSerializer localTimeSerializer = new LocalTimeSerializer(timeFormatter);
-        LocalTimeDeserializer localTimeDeserializer = new LocalTimeDeserializer(timeFormatter);
+        LocalTimeSerializer localTimeSerializer = new LocalTimeSerializer(FixedDateTimeCodec.TIME_FORMATTER);
+        LocalTimeDeserializer localTimeDeserializer = new LocalTimeDeserializer(FixedDateTimeCodec.TIME_FORMATTER);
 
-        LocalDateTimeSerializer localDateTimeSerializer = new LocalDateTimeSerializer(dateTimeFormatter);
-        LocalDateTimeDeserializer localDateTimeDeserializer = new LocalDateTimeDeserializer(dateTimeFormatter);
+        LocalDateTimeSerializer localDateTimeSerializer = new LocalDateTimeSerializer(FixedDateTimeCodec.DATE_TIME_FORMATTER);
+        LocalDateTimeDeserializer localDateTimeDeserializer = new LocalDateTimeDeserializer(FixedDateTimeCodec.DATE_TIME_FORMATTER);
 
         // 解决Long精度丢失，Long to String
         SimpleModule simpleModule = new SimpleModule();
@@ -281,4 +633,21 @@ public class JsonUtils {
                                  .addModules(simpleModule);
     }
 
+    /**
+     * javaTypeCache 的键, inners 按内容比较
+     */
+    private record ParametricKey(Class<?> wrapper, Class<?>[] inners) {
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof ParametricKey that && wrapper == that.wrapper && Arrays.equals(inners, that.inners);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * wrapper.hashCode() + Arrays.hashCode(inners);
+        }
+
+    }
+
 }
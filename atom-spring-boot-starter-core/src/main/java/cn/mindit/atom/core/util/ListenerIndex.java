@@ -0,0 +1,125 @@
+package cn.mindit.atom.core.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.SpringProperties;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ConcurrentReferenceHashMap;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.annotation.Annotation;
+import java.net.URL;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+
+/**
+ * 编译期生成的监听器索引, 即各类路径根下的 {@value #INDEX_LOCATION}
+ * <p>
+ * 索引只对生成它的类路径根负责: 类所在的根带有索引时, 未登记的类一定没有监听方法, 可以跳过反射;
+ * 所在的根没有索引(未启用 atom-listener-indexer 的模块或三方包)时仍需反射. 设置系统属性
+ * {@value #IGNORE_INDEX_PROPERTY}=true 可忽略全部索引
+ *
+ * @author Catch
+ * @since 2026-10-18
+ */
+@Slf4j
+public final class ListenerIndex {
+
+    public static final String INDEX_LOCATION = "META-INF/atom.listeners";
+
+    public static final String IGNORE_INDEX_PROPERTY = "atom.listener.index.ignore";
+
+    private static final ListenerIndex EMPTY = new ListenerIndex(Set.of(), Map.of());
+
+    private static final Map<ClassLoader, ListenerIndex> CACHE = new ConcurrentReferenceHashMap<>();
+
+    /**
+     * 带索引的类路径根, 即索引文件 URL 去掉 {@value #INDEX_LOCATION} 后的部分
+     */
+    private final Set<String> roots;
+
+    /**
+     * 类名 -> 该类上出现的监听注解全名
+     */
+    private final Map<String, Set<String>> entries;
+
+    private ListenerIndex(Set<String> roots, Map<String, Set<String>> entries) {
+        this.roots = roots;
+        this.entries = entries;
+    }
+
+    /**
+     * 类上是否可能存在 annotationType 标注的监听方法, 返回 false 时可以跳过反射扫描
+     */
+    public static boolean isCandidate(Class<?> type, Class<? extends Annotation> annotationType) {
+        Class<?> userClass = ClassUtils.getUserClass(type);
+        ClassLoader classLoader = userClass.getClassLoader();
+        if (classLoader == null) {
+            return true;
+        }
+        return forClassLoader(classLoader).isCandidate(userClass, classLoader, annotationType);
+    }
+
+    public static ListenerIndex forClassLoader(ClassLoader classLoader) {
+        if (SpringProperties.getFlag(IGNORE_INDEX_PROPERTY)) {
+            return EMPTY;
+        }
+        return CACHE.computeIfAbsent(classLoader, ListenerIndex::load);
+    }
+
+    /**
+     * 是否至少加载到一个索引文件
+     */
+    public boolean isEmpty() {
+        return roots.isEmpty();
+    }
+
+    private boolean isCandidate(Class<?> type, ClassLoader classLoader, Class<? extends Annotation> annotationType) {
+        if (roots.isEmpty()) {
+            return true;
+        }
+        Set<String> annotations = entries.get(type.getName());
+        if (annotations != null) {
+            return annotations.contains(annotationType.getName());
+        }
+        String resourceName = ClassUtils.convertClassNameToResourcePath(type.getName()) + ClassUtils.CLASS_FILE_SUFFIX;
+        URL url = classLoader.getResource(resourceName);
+        if (url == null) {
+            return true;
+        }
+        String location = url.toString();
+        return !roots.contains(location.substring(0, location.length() - resourceName.length()));
+    }
+
+    private static ListenerIndex load(ClassLoader classLoader) {
+        Set<String> roots = new HashSet<>();
+        Map<String, Set<String>> entries = new HashMap<>();
+        try {
+            Enumeration<URL> urls = classLoader.getResources(INDEX_LOCATION);
+            while (urls.hasMoreElements()) {
+                URL url = urls.nextElement();
+                Properties properties = new Properties();
+                try (InputStream in = url.openStream()) {
+                    properties.load(in);
+                }
+                String location = url.toString();
+                roots.add(location.substring(0, location.length() - INDEX_LOCATION.length()));
+                for (String name : properties.stringPropertyNames()) {
+                    entries.computeIfAbsent(name, k -> new HashSet<>()).addAll(Set.of(properties.getProperty(name).split(",")));
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Failed to load listener index from {}, falling back to reflection", INDEX_LOCATION, e);
+            return EMPTY;
+        }
+        if (!roots.isEmpty() && log.isDebugEnabled()) {
+            log.debug("Loaded listener index: {} roots, {} listener classes", roots.size(), entries.size());
+        }
+        return roots.isEmpty() ? EMPTY : new ListenerIndex(roots, entries);
+    }
+
+}
@@ -0,0 +1,135 @@
+package cn.mindit.atom.core.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.NonNull;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.MethodIntrospector;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.core.annotation.MergedAnnotation;
+import org.springframework.core.annotation.MergedAnnotationSelectors;
+import org.springframework.core.annotation.MergedAnnotations;
+import org.springframework.core.annotation.RepeatableContainers;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 统一的监听方法扫描器, 所有协议 starter 共用一个 BeanPostProcessor
+ * <p>
+ * 每个 Bean 类只遍历一次方法, 每个方法只解析一次合并注解, 再按注解类型分发给已注册的 {@link AbstractListenerProcessor}.
+ * 新增协议 starter 只增加一次注解查找, 不再增加一轮方法遍历
+ *
+ * @author Catch
+ * @since 2026-10-18
+ */
+@Slf4j
+public class ListenerScanner implements BeanPostProcessor, BeanFactoryAware, Ordered {
+
+    private final Set<Class<?>> nonAnnotatedClasses = Collections.newSetFromMap(new ConcurrentHashMap<>(64));
+
+    private List<AbstractListenerProcessor<?, ?>> processors = List.of();
+
+    private Set<Class<? extends Annotation>> annotationTypes = Set.of();
+
+    /**
+     * 处理器随扫描器在 BeanPostProcessor 注册阶段实例化, 建议以 {@link org.springframework.context.annotation.Role} 声明为基础设施 Bean
+     */
+    @Override
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    public void setBeanFactory(@NonNull BeanFactory beanFactory) throws BeansException {
+        List<AbstractListenerProcessor<?, ?>> list = (List) beanFactory.getBeanProvider(AbstractListenerProcessor.class).orderedStream().toList();
+        Set<Class<? extends Annotation>> types = new HashSet<>();
+        for (AbstractListenerProcessor<?, ?> processor : list) {
+            processor.attach();
+            types.add(processor.annotationType());
+        }
+        this.processors = list;
+        this.annotationTypes = types;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(@NonNull Object bean, @NonNull String beanName) throws BeansException {
+        if (processors.isEmpty() || nonAnnotatedClasses.contains(bean.getClass())) {
+            return bean;
+        }
+        Class<?> targetClass = AopUtils.getTargetClass(bean);
+        List<AbstractListenerProcessor<?, ?>> candidates = candidates(targetClass);
+        if (candidates.isEmpty()) {
+            nonAnnotatedClasses.add(bean.getClass());
+            return bean;
+        }
+        Map<Method, List<Match>> annotatedMethods = MethodIntrospector.selectMethods(
+            targetClass,
+            (MethodIntrospector.MetadataLookup<List<Match>>) method -> lookup(method, candidates)
+        );
+        if (annotatedMethods.isEmpty()) {
+            nonAnnotatedClasses.add(bean.getClass());
+            return bean;
+        }
+        for (Map.Entry<Method, List<Match>> entry : annotatedMethods.entrySet()) {
+            for (Match match : entry.getValue()) {
+                match.processor().process(bean, entry.getKey(), match.annotation());
+            }
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("{} listener methods processed on bean '{}': {}", annotatedMethods.size(), beanName, annotatedMethods.keySet());
+        }
+        return bean;
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.LOWEST_PRECEDENCE;
+    }
+
+    /**
+     * 按索引与 {@link AnnotationUtils#isCandidateClass} 过滤出该类可能用到的处理器, 两者都是不遍历方法的快速判断
+     */
+    private List<AbstractListenerProcessor<?, ?>> candidates(Class<?> targetClass) {
+        if (!AnnotationUtils.isCandidateClass(targetClass, annotationTypes)) {
+            return List.of();
+        }
+        List<AbstractListenerProcessor<?, ?>> candidates = new ArrayList<>(processors.size());
+        for (AbstractListenerProcessor<?, ?> processor : processors) {
+            if (ListenerIndex.isCandidate(targetClass, processor.annotationType())) {
+                candidates.add(processor);
+            }
+        }
+        return candidates;
+    }
+
+    /**
+     * 与 {@code AnnotatedElementUtils.findMergedAnnotation} 的查找语义一致, 但一个方法的合并注解只解析一次
+     */
+    private static List<Match> lookup(Method method, List<AbstractListenerProcessor<?, ?>> candidates) {
+        MergedAnnotations annotations = MergedAnnotations.from(method, MergedAnnotations.SearchStrategy.TYPE_HIERARCHY, RepeatableContainers.none());
+        List<Match> matches = null;
+        for (AbstractListenerProcessor<?, ?> processor : candidates) {
+            MergedAnnotation<? extends Annotation> annotation = annotations.get(processor.annotationType(), null, MergedAnnotationSelectors.firstDirectlyDeclared());
+            if (annotation.isPresent()) {
+                if (matches == null) {
+                    matches = new ArrayList<>(1);
+                }
+                matches.add(new Match(processor, annotation.synthesize()));
+            }
+        }
+        return matches;
+    }
+
+    private record Match(AbstractListenerProcessor<?, ?> processor, Annotation annotation) {
+
+    }
+
+}
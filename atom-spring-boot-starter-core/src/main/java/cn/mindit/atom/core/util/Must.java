@@ -33,7 +33,7 @@ public abstract class Must {
 
     public static void isEquals(Object a, Object b, ResultProvider provider) {
         if (!Objects.equals(a, b)) {
-            throw new ServiceException(provider);
+            throw ServiceException.of(provider);
         }
     }
 
@@ -63,7 +63,7 @@ public abstract class Must {
 
     public static void notEquals(Object a, Object b, ResultProvider provider) {
         if (Objects.equals(a, b)) {
-            throw new ServiceException(provider);
+            throw ServiceException.of(provider);
         }
     }
 
@@ -93,7 +93,7 @@ public abstract class Must {
 
     public static void isTrue(boolean expression, ResultProvider provider) {
         if (!expression) {
-            throw new ServiceException(provider);
+            throw ServiceException.of(provider);
         }
     }
 
@@ -123,7 +123,7 @@ public abstract class Must {
 
     public static void isFalse(boolean expression, ResultProvider provider) {
         if (expression) {
-            throw new ServiceException(provider);
+            throw ServiceException.of(provider);
         }
     }
 
@@ -153,7 +153,7 @@ public abstract class Must {
 
     public static void isNull(@Nullable Object object, ResultProvider provider) {
         if (object != null) {
-            throw new ServiceException(provider);
+            throw ServiceException.of(provider);
         }
     }
 
@@ -183,7 +183,7 @@ public abstract class Must {
 
     public static void notNull(@Nullable Object object, ResultProvider provider) {
         if (object == null) {
-            throw new ServiceException(provider);
+            throw ServiceException.of(provider);
         }
     }
 
@@ -213,7 +213,7 @@ public abstract class Must {
 
     public static void isEmpty(@Nullable String text, ResultProvider provider) {
         if (text != null && text.length() > 0) {
-            throw new ServiceException(provider);
+            throw ServiceException.of(provider);
         }
     }
 
@@ -243,7 +243,7 @@ public abstract class Must {
 
     public static void notEmpty(@Nullable String text, ResultProvider provider) {
         if (text == null || text.length() == 0) {
-            throw new ServiceException(provider);
+            throw ServiceException.of(provider);
         }
     }
 
@@ -273,7 +273,7 @@ public abstract class Must {
 
     public static void isBlank(@Nullable String text, ResultProvider provider) {
         if (StringUtils.hasText(text)) {
-            throw new ServiceException(provider);
+            throw ServiceException.of(provider);
         }
     }
 
@@ -303,7 +303,7 @@ public abstract class Must {
 
     public static void notBlank(@Nullable String text, ResultProvider provider) {
         if (!StringUtils.hasText(text)) {
-            throw new ServiceException(provider);
+            throw ServiceException.of(provider);
         }
     }
 
@@ -333,7 +333,7 @@ public abstract class Must {
 
     public static void isContains(@Nullable String textToSearch, String substring, ResultProvider provider) {
         if (StringUtils.hasLength(textToSearch) && StringUtils.hasLength(substring) && !textToSearch.contains(substring)) {
-            throw new ServiceException(provider);
+            throw ServiceException.of(provider);
         }
     }
 
@@ -363,7 +363,7 @@ public abstract class Must {
 
     public static void notContains(@Nullable String textToSearch, String substring, ResultProvider provider) {
         if (StringUtils.hasLength(textToSearch) && StringUtils.hasLength(substring) && textToSearch.contains(substring)) {
-            throw new ServiceException(provider);
+            throw ServiceException.of(provider);
         }
     }
 
@@ -393,7 +393,7 @@ public abstract class Must {
 
     public static void isEmpty(@Nullable Object[] array, ResultProvider provider) {
         if (array != null && array.length > 0) {
-            throw new ServiceException(provider);
+            throw ServiceException.of(provider);
         }
     }
 
@@ -423,7 +423,7 @@ public abstract class Must {
 
     public static void notEmpty(@Nullable Object[] array, ResultProvider provider) {
         if (array == null || array.length == 0) {
-            throw new ServiceException(provider);
+            throw ServiceException.of(provider);
         }
     }
 
@@ -463,7 +463,7 @@ public abstract class Must {
         if (array != null) {
             for (Object element : array) {
                 if (element == null) {
-                    throw new ServiceException(provider);
+                    throw ServiceException.of(provider);
                 }
             }
         }
@@ -503,7 +503,7 @@ public abstract class Must {
 
     public static void isEmpty(@Nullable Collection<?> collection, ResultProvider provider) {
         if (!CollectionUtils.isEmpty(collection)) {
-            throw new ServiceException(provider);
+            throw ServiceException.of(provider);
         }
     }
 
@@ -533,7 +533,7 @@ public abstract class Must {
 
     public static void notEmpty(@Nullable Collection<?> collection, ResultProvider provider) {
         if (CollectionUtils.isEmpty(collection)) {
-            throw new ServiceException(provider);
+            throw ServiceException.of(provider);
         }
     }
 
@@ -573,7 +573,7 @@ public abstract class Must {
         if (collection != null) {
             for (Object element : collection) {
                 if (element == null) {
-                    throw new ServiceException(provider);
+                    throw ServiceException.of(provider);
                 }
             }
         }
@@ -613,7 +613,7 @@ public abstract class Must {
 
     public static void isEmpty(@Nullable Map<?, ?> map, ResultProvider provider) {
         if (!CollectionUtils.isEmpty(map)) {
-            throw new ServiceException(provider);
+            throw ServiceException.of(provider);
         }
     }
 
@@ -643,7 +643,7 @@ public abstract class Must {
 
     public static void notEmpty(@Nullable Map<?, ?> map, ResultProvider provider) {
         if (CollectionUtils.isEmpty(map)) {
-            throw new ServiceException(provider);
+            throw ServiceException.of(provider);
         }
     }
 
@@ -673,7 +673,7 @@ public abstract class Must {
 
     public static void isInstanceOf(@NonNull Class<?> type, @Nullable Object obj, ResultProvider provider) {
         if (!type.isInstance(obj)) {
-            throw new ServiceException(provider);
+            throw ServiceException.of(provider);
         }
     }
 
@@ -703,7 +703,7 @@ public abstract class Must {
 
     public static void notInstanceOf(@NonNull Class<?> type, @Nullable Object obj, ResultProvider provider) {
         if (type.isInstance(obj)) {
-            throw new ServiceException(provider);
+            throw ServiceException.of(provider);
         }
     }
 
@@ -733,7 +733,7 @@ public abstract class Must {
 
     public static void isAssignable(@NonNull Class<?> superType, @Nullable Class<?> subType, ResultProvider provider) {
         if (subType == null || !superType.isAssignableFrom(subType)) {
-            throw new ServiceException(provider);
+            throw ServiceException.of(provider);
         }
     }
 
@@ -763,7 +763,7 @@ public abstract class Must {
 
     public static void notAssignable(@NonNull Class<?> superType, @Nullable Class<?> subType, ResultProvider provider) {
         if (subType != null && superType.isAssignableFrom(subType)) {
-            throw new ServiceException(provider);
+            throw ServiceException.of(provider);
         }
     }
 
@@ -1,5 +1,6 @@
 package cn.mindit.atom.core.util;
 
+import java.nio.charset.StandardCharsets;
 import java.util.concurrent.ThreadLocalRandom;
 
 /**
@@ -15,25 +16,73 @@ import java.util.concurrent.ThreadLocalRandom;
  */
 public abstract class NanoIdUtils {
 
-    private static final char[] ALPHABET = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz_".toCharArray();
+    private static final byte[] ALPHABET = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz_".getBytes(StandardCharsets.ISO_8859_1);
 
-    private static final int MASK = ALPHABET.length - 1;
+    /**
+     * 每个字符消耗 6 位随机数, 取值超出 ALPHABET 范围时丢弃重取, 保证每个字符等概率
+     */
+    private static final int BITS = 6;
+
+    private static final int MASK = (1 << BITS) - 1;
 
     private static final int DEFAULT_LENGTH = 15;
 
+    /**
+     * 线程内复用的字符缓冲区, 超过该长度的 id 临时分配
+     */
+    private static final int MAX_BUFFER_SIZE = 256;
+
+    private static final ThreadLocal<byte[]> BUFFER = ThreadLocal.withInitial(() -> new byte[MAX_BUFFER_SIZE]);
+
     public static String nanoId() {
         return nanoId(DEFAULT_LENGTH);
     }
 
     public static String nanoId(int size) {
-        final StringBuilder id = new StringBuilder();
-        final byte[] bytes = new byte[size];
-        ThreadLocalRandom.current()
-                         .nextBytes(bytes);
-        for (int i = 0; i < size; ++i) {
-            id.append(ALPHABET[bytes[i] & MASK]);
+        byte[] buffer = buffer(size);
+        fill(buffer, size, ThreadLocalRandom.current());
+        return new String(buffer, 0, size, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * 批量生成 id
+     *
+     * @param count 数量
+     * @param size  每个 id 的长度
+     * @return id 数组
+     */
+    public static String[] nanoIds(int count, int size) {
+        if (count < 0) {
+            throw new IllegalArgumentException("count must not be negative: " + count);
+        }
+        String[] ids = new String[count];
+        byte[] buffer = buffer(size);
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < count; i++) {
+            fill(buffer, size, random);
+            ids[i] = new String(buffer, 0, size, StandardCharsets.ISO_8859_1);
+        }
+        return ids;
+    }
+
+    private static byte[] buffer(int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("size must not be negative: " + size);
+        }
+        return size <= MAX_BUFFER_SIZE ? BUFFER.get() : new byte[size];
+    }
+
+    private static void fill(byte[] buffer, int size, ThreadLocalRandom random) {
+        int i = 0;
+        while (i < size) {
+            long bits = random.nextLong();
+            for (int j = 0; j < Long.SIZE / BITS && i < size; j++, bits >>>= BITS) {
+                int index = (int) bits & MASK;
+                if (index < ALPHABET.length) {
+                    buffer[i++] = ALPHABET[index];
+                }
+            }
         }
-        return id.toString();
     }
 
 }
@@ -1,42 +1,100 @@
 package cn.mindit.atom.core.util;
 
+import java.util.Arrays;
 import java.util.Comparator;
+import java.util.List;
 
 /**
  * 自然排序比较器, 如 aka-2.jpg 应该排在 aka-11.jpg 之前
  * 实现原理: 首先将字符串切分，分为全数字字符串与其他，再各部分一一对应比较，
  * 若皆为全数字字符串，则比较其值，否则按字符比较。
+ * <p>
+ * 比较过程只移动下标, 不截取子串也不解析数字: 数字串先比较去掉前导 0 后的长度, 再逐字符比较, 因此任意长度的数字串都不会溢出;
+ * 数值相等时前导 0 较多的排在前面. 需要对同一批字符串反复排序时, 可通过 {@link #key(String)} 预先计算排序键.
  *
  * @author Catch
  * @since 2023-09-12
  */
 public class NaturalComparator implements Comparator<String> {
 
-    private static boolean isDigit(String str) {
-        char ch = str.charAt(0);
-        return ch >= '0' && ch <= '9';
+    @Override
+    public int compare(String o1, String o2) {
+        int index1 = 0;
+        int index2 = 0;
+        int length1 = o1.length();
+        int length2 = o2.length();
+        while (true) {
+            if (index1 == length1 && index2 == length2) {
+                return 0;
+            }
+            if (index1 == length1) {
+                return -1;
+            }
+            if (index2 == length2) {
+                return 1;
+            }
+
+            int end1 = nextSliceEnd(o1, index1);
+            int end2 = nextSliceEnd(o2, index2);
+            int result = compareSlice(o1, index1, end1, o2, index2, end2);
+            if (result != 0) {
+                return result;
+            }
+            index1 = end1;
+            index2 = end2;
+        }
     }
 
-    static String nextSlice(String str, int index) {
-        int length = str.length();
-        if (index == length) {
-            return null;
+    /**
+     * 预先计算排序键, 键之间的比较结果与 {@link #compare(String, String)} 一致, 比较时无需再切分与忽略大小写转换
+     *
+     * @param source 原始字符串
+     * @return 排序键
+     */
+    public static Key key(String source) {
+        return new Key(source, new int[Key.maxCodeLength(source)]);
+    }
+
+    /**
+     * 使用预先计算的排序键对列表原地排序, 每个元素只切分一次
+     *
+     * @param list 待排序列表
+     */
+    public static void sort(List<String> list) {
+        Key[] keys = new Key[list.size()];
+        int[] buffer = new int[64];
+        for (int i = 0; i < keys.length; i++) {
+            String source = list.get(i);
+            int maxLength = Key.maxCodeLength(source);
+            if (buffer.length < maxLength) {
+                buffer = new int[maxLength];
+            }
+            keys[i] = new Key(source, buffer);
+        }
+        Arrays.sort(keys);
+        for (int i = 0; i < keys.length; i++) {
+            list.set(i, keys[i].source);
         }
+    }
 
+    private static boolean isDigit(char ch) {
+        return ch >= '0' && ch <= '9';
+    }
+
+    private static int nextSliceEnd(String str, int index) {
         char ch = str.charAt(index);
         if (ch == '.' || ch == ' ') {
-            return str.substring(index, index + 1);
-        } else if (ch >= '0' && ch <= '9') {
-            return str.substring(index, nextNumberBound(str, index + 1));
+            return index + 1;
+        } else if (isDigit(ch)) {
+            return nextNumberBound(str, index + 1);
         } else {
-            return str.substring(index, nextOtherBound(str, index + 1));
+            return nextOtherBound(str, index + 1);
         }
     }
 
     private static int nextNumberBound(String str, int index) {
         for (int length = str.length(); index < length; index++) {
-            char ch = str.charAt(index);
-            if (ch < '0' || ch > '9') {
+            if (!isDigit(str.charAt(index))) {
                 break;
             }
         }
@@ -46,48 +104,154 @@ public class NaturalComparator implements Comparator<String> {
     private static int nextOtherBound(String str, int index) {
         for (int length = str.length(); index < length; index++) {
             char ch = str.charAt(index);
-            if (ch == '.' || ch == ' ' || (ch >= '0' && ch <= '9')) {
+            if (ch == '.' || ch == ' ' || isDigit(ch)) {
                 break;
             }
         }
         return index;
     }
 
-    @Override
-    public int compare(String o1, String o2) {
-        int index1 = 0;
-        int index2 = 0;
-        while (true) {
-            String data1 = nextSlice(o1, index1);
-            String data2 = nextSlice(o2, index2);
+    private static int compareSlice(String s1, int start1, int end1, String s2, int start2, int end2) {
+        if (isDigit(s1.charAt(start1)) && isDigit(s2.charAt(start2))) {
+            return compareNumber(s1, start1, end1, s2, start2, end2);
+        }
+        return compareText(s1, start1, end1, s2, start2, end2);
+    }
 
-            if (data1 == null && data2 == null) {
-                return 0;
-            }
-            if (data1 == null) {
-                return -1;
+    /**
+     * 比较两个数字串的数值, 数值相等时长度较长(前导 0 较多)的较小
+     */
+    private static int compareNumber(String s1, int start1, int end1, String s2, int start2, int end2) {
+        int significant1 = start1;
+        while (significant1 < end1 - 1 && s1.charAt(significant1) == '0') {
+            significant1++;
+        }
+        int significant2 = start2;
+        while (significant2 < end2 - 1 && s2.charAt(significant2) == '0') {
+            significant2++;
+        }
+        int result = Integer.compare(end1 - significant1, end2 - significant2);
+        if (result != 0) {
+            return result;
+        }
+        for (int i = significant1, j = significant2; i < end1; i++, j++) {
+            result = s1.charAt(i) - s2.charAt(j);
+            if (result != 0) {
+                return result;
             }
-            if (data2 == null) {
-                return 1;
+        }
+        return -Integer.compare(end1 - start1, end2 - start2);
+    }
+
+    /**
+     * 与 {@link String#compareToIgnoreCase(String)} 规则一致的区间比较
+     */
+    private static int compareText(String s1, int start1, int end1, String s2, int start2, int end2) {
+        int length1 = end1 - start1;
+        int length2 = end2 - start2;
+        int limit = Math.min(length1, length2);
+        for (int k = 0; k < limit; k++) {
+            char c1 = s1.charAt(start1 + k);
+            char c2 = s2.charAt(start2 + k);
+            if (c1 != c2) {
+                c1 = fold(c1);
+                c2 = fold(c2);
+                if (c1 != c2) {
+                    return c1 - c2;
+                }
             }
+        }
+        return length1 - length2;
+    }
+
+    private static char fold(char ch) {
+        if (ch < 0x80) {
+            return ch >= 'A' && ch <= 'Z' ? (char) (ch + ('a' - 'A')) : ch;
+        }
+        return Character.toLowerCase(Character.toUpperCase(ch));
+    }
+
+    /**
+     * 自然排序键, 类似 {@link java.text.CollationKey}
+     * <p>
+     * 构建时将字符串按切片编码为一个 int 数组, 键之间只需一次 {@link Arrays#compare(int[], int[])} 字典序比较:
+     * <ul>
+     *   <li>文本切片: 每个忽略大小写后的字符编码为 char + 1, 以 0 结尾, 保证较短的切片在前</li>
+     *   <li>数字切片: 以 '0' + 1 开头, 随后为有效位数、有效数字、负的总长度(数值相等时前导 0 较多的在前)</li>
+     * </ul>
+     * 文本切片不会以数字开头, 因此数字切片与文本切片在首个元素即可分出先后, 与逐字符比较的结果一致.
+     */
+    public static final class Key implements Comparable<Key> {
 
-            index1 += data1.length();
-            index2 += data2.length();
+        private static final int NUMBER_MARK = '0' + 1;
 
-            int result;
-            if (isDigit(data1) && isDigit(data2)) {
-                result = Long.compare(Long.parseLong(data1), Long.parseLong(data2));
-                if (result == 0) {
-                    result = -Integer.compare(data1.length(), data2.length());
+        private final String source;
+
+        private final int[] code;
+
+        /**
+         * @param source 原始字符串
+         * @param buffer 编码用的临时缓冲区, 长度不小于 {@link #maxCodeLength(String)}, 可在多次构建间复用
+         */
+        private Key(String source, int[] buffer) {
+            this.source = source;
+            int length = source.length();
+            int size = 0;
+            for (int index = 0; index < length; ) {
+                int end = nextSliceEnd(source, index);
+                if (isDigit(source.charAt(index))) {
+                    int significant = index;
+                    while (significant < end - 1 && source.charAt(significant) == '0') {
+                        significant++;
+                    }
+                    buffer[size++] = NUMBER_MARK;
+                    buffer[size++] = end - significant;
+                    for (int i = significant; i < end; i++) {
+                        buffer[size++] = source.charAt(i);
+                    }
+                    buffer[size++] = -(end - index);
+                } else {
+                    for (int i = index; i < end; i++) {
+                        buffer[size++] = fold(source.charAt(i)) + 1;
+                    }
+                    buffer[size++] = 0;
                 }
-            } else {
-                result = data1.compareToIgnoreCase(data2);
+                index = end;
             }
+            this.code = Arrays.copyOf(buffer, size);
+        }
 
-            if (result != 0) {
-                return result;
-            }
+        /**
+         * 文本切片每个字符最多占 2 位(字符 + 结束符), 数字切片每个字符最多占 4 位(标记 + 位数 + 数字 + 总长度)
+         */
+        static int maxCodeLength(String source) {
+            return 4 * source.length();
+        }
+
+        public String getSource() {
+            return source;
         }
+
+        @Override
+        public int compareTo(Key other) {
+            return Arrays.compare(code, other.code);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Key key && Arrays.equals(code, key.code);
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(code);
+        }
+
+        @Override
+        public String toString() {
+            return source;
+        }
+
     }
 
 }
@@ -10,4 +10,14 @@ public interface ResultProvider {
 
     String getMessage();
 
+    /**
+     * 由此 provider 构造的 {@link BusinessException}/{@link ServiceException} 是否省略堆栈
+     * <p>
+     * 适用于热路径上可预期的校验失败, 这类异常的堆栈没有排查价值; 枚举类 provider 返回 true 时,
+     * {@code Should}/{@code Must} 会复用同一个异常实例
+     */
+    default boolean isStackless() {
+        return false;
+    }
+
 }
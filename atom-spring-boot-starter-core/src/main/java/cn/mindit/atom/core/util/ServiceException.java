@@ -1,5 +1,8 @@
 package cn.mindit.atom.core.util;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * @author Catch
  * @since 2023-08-08
@@ -9,8 +12,11 @@ public class ServiceException extends RuntimeException implements ResultProvider
     public static final int DEFAULT_CODE = 500;
     public static final String DEFAULT_MESSAGE = "服务繁忙, 请稍后再试";
 
+    private static final Map<ResultProvider, ServiceException> CACHE = new ConcurrentHashMap<>();
+
     private final int code;
     private final String message;
+    private final boolean stackless;
 
     public ServiceException() {
         this(DEFAULT_CODE, DEFAULT_MESSAGE);
@@ -24,10 +30,11 @@ public class ServiceException extends RuntimeException implements ResultProvider
         super(message);
         this.code = code;
         this.message = message;
+        this.stackless = false;
     }
 
     public ServiceException(ResultProvider provider) {
-        this(provider.getCode(), provider.getMessage());
+        this(provider.getCode(), provider.getMessage(), null, provider.isStackless());
     }
 
     public ServiceException(Throwable cause) {
@@ -42,10 +49,33 @@ public class ServiceException extends RuntimeException implements ResultProvider
         super(message, cause);
         this.code = code;
         this.message = message;
+        this.stackless = false;
     }
 
     public ServiceException(ResultProvider provider, Throwable cause) {
-        this(provider.getCode(), provider.getMessage(), cause);
+        this(provider.getCode(), provider.getMessage(), cause, provider.isStackless());
+    }
+
+    /**
+     * stackless 为 true 时不填充堆栈且禁用 suppressed, 构造开销与普通对象相当
+     */
+    protected ServiceException(int code, String message, Throwable cause, boolean stackless) {
+        super(message, cause, !stackless, !stackless);
+        this.code = code;
+        this.message = message;
+        this.stackless = stackless;
+    }
+
+    /**
+     * 按 provider 获取异常, 省略堆栈的枚举 provider 返回缓存的单例, 其余情况新建实例
+     * <p>
+     * 单例没有堆栈、cause 与 suppressed, 不可变, 可在线程间共享
+     */
+    public static ServiceException of(ResultProvider provider) {
+        if (provider.isStackless() && provider instanceof Enum<?>) {
+            return CACHE.computeIfAbsent(provider, ServiceException::new);
+        }
+        return new ServiceException(provider);
     }
 
     @Override
@@ -58,4 +88,9 @@ public class ServiceException extends RuntimeException implements ResultProvider
         return message;
     }
 
+    @Override
+    public boolean isStackless() {
+        return stackless;
+    }
+
 }
@@ -0,0 +1,38 @@
+package cn.mindit.atom.core.util;
+
+import org.springframework.boot.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * 线程模型选择
+ * <p>
+ * 与 Spring Boot 的 {@code spring.threads.virtual.enabled} 保持一致: 仅当该配置开启且运行在 JDK 21+ 时才使用虚拟线程,
+ * 在 JDK 17 上配置开启也会回退到平台线程, 因此产物可以继续以 17 为目标编译
+ *
+ * @author Catch
+ * @since 2026-10-18
+ */
+public abstract class ThreadUtils {
+
+    /**
+     * 当前环境是否启用虚拟线程
+     */
+    public static boolean isVirtual(Environment environment) {
+        return Threading.VIRTUAL.isActive(environment);
+    }
+
+    /**
+     * 按当前线程模型创建线程工厂, 虚拟线程与平台线程均以 prefix 加序号命名
+     */
+    public static ThreadFactory threadFactory(Environment environment, String prefix) {
+        if (isVirtual(environment)) {
+            return new VirtualThreadTaskExecutor(prefix).getVirtualThreadFactory();
+        }
+        return new CustomizableThreadFactory(prefix);
+    }
+
+}
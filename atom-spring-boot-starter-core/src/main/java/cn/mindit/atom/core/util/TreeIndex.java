@@ -0,0 +1,361 @@
+package cn.mindit.atom.core.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 树形结构索引
+ * <p>
+ * 单次遍历平铺的节点列表, 建立 id 到节点、id 到父节点、父节点到子节点列表的索引,
+ * 构建时不调用 {@link TreeNode#setChildren(List)}, 子树、祖先路径、后代等查询直接基于索引完成.
+ * 需要树形结构时再通过 {@link #subtree(Object)} 或 {@link #tree(Object)} 按需挂载子节点,
+ * 挂载后节点持有的子节点列表即为索引内部的列表.
+ * <p>
+ * 支持在已构建的树上增量维护: {@link #add}, {@link #remove}, {@link #move}, {@link #reparent}
+ * 只更新受影响的索引项与子节点列表, 已挂载的树会同步变化, 无需对全量列表重新调用 {@link TreeUtils#buildTree}.
+ * 父子关系以索引内记录的为准, 不会修改节点自身的 parentId 字段.
+ * <p>
+ * 复杂度: 设 s 为同一父节点下的兄弟节点数, d 为子树节点数.
+ * {@link #add} 在有排序规则时二分定位, 但插入 ArrayList 需移动元素, 为 O(s);
+ * {@link #move} 需从原父节点的子节点列表中按引用线性查找并移除, 为 O(s);
+ * {@link #remove} 在此基础上还需遍历整个子树清理索引, 为 O(s + d);
+ * {@link #reparent} 为 O(被移动节点数 × 新父节点下的兄弟节点数).
+ * 索引不记录节点在子节点列表中的下标, 因此单个父节点下子节点极多且频繁增删时不宜使用.
+ * <p>
+ * 非线程安全, 多线程共享时需由调用方加锁.
+ *
+ * @param <E> 节点类型
+ * @param <K> 节点 id 类型
+ * @author Catch
+ * @since 2026-10-18
+ */
+public class TreeIndex<E extends TreeNode<E, K>, K> {
+
+    private final Map<K, E> nodes;
+
+    private final Map<K, K> parents;
+
+    private final Map<K, List<E>> children;
+
+    private final Comparator<? super E> comparator;
+
+    /**
+     * 是否已挂载过子节点, 挂载后新建的子节点列表需要同步设置到父节点上
+     */
+    private boolean materialized;
+
+    private TreeIndex(List<E> nodes, Comparator<? super E> comparator) {
+        this.nodes = new HashMap<>(TreeUtils.capacity(nodes.size()));
+        this.parents = new HashMap<>(TreeUtils.capacity(nodes.size()));
+        for (E node : nodes) {
+            this.nodes.put(node.getId(), node);
+            this.parents.put(node.getId(), node.getParentId());
+        }
+        this.children = TreeUtils.groupByParent(nodes);
+        this.comparator = comparator;
+        if (comparator != null) {
+            for (List<E> list : children.values()) {
+                list.sort(comparator);
+            }
+        }
+    }
+
+    /**
+     * 构建索引, 子节点保持原列表中的相对顺序
+     *
+     * @param nodes 平铺的节点列表
+     * @param <E>   节点类型
+     * @param <K>   节点 id 类型
+     * @return 索引
+     */
+    public static <E extends TreeNode<E, K>, K> TreeIndex<E, K> of(List<E> nodes) {
+        return new TreeIndex<>(nodes, null);
+    }
+
+    /**
+     * 构建索引, 子节点按 comparator 排序
+     *
+     * @param nodes      平铺的节点列表
+     * @param comparator 子节点排序规则
+     * @param <E>        节点类型
+     * @param <K>        节点 id 类型
+     * @return 索引
+     */
+    public static <E extends TreeNode<E, K>, K> TreeIndex<E, K> of(List<E> nodes, Comparator<? super E> comparator) {
+        return new TreeIndex<>(nodes, comparator);
+    }
+
+    /**
+     * 构建索引, 子节点按 {@link SortTreeNode#getSort()} 升序排序
+     *
+     * @param nodes 平铺的节点列表
+     * @param <E>   节点类型
+     * @param <K>   节点 id 类型
+     * @param <S>   排序字段类型
+     * @return 索引
+     */
+    public static <E extends SortTreeNode<E, K, S>, K, S extends Comparable<S>> TreeIndex<E, K> ofSorted(List<E> nodes) {
+        return new TreeIndex<>(nodes, Comparator.comparing(SortTreeNode::getSort));
+    }
+
+    public int size() {
+        return nodes.size();
+    }
+
+    public boolean contains(K id) {
+        return nodes.containsKey(id);
+    }
+
+    public E get(K id) {
+        return nodes.get(id);
+    }
+
+    /**
+     * 获取节点在索引中的父节点 id
+     */
+    public K parentId(K id) {
+        return parents.get(id);
+    }
+
+    /**
+     * 获取直接子节点, 返回只读视图
+     */
+    public List<E> children(K parentId) {
+        List<E> list = children.get(parentId);
+        return list == null ? Collections.emptyList() : Collections.unmodifiableList(list);
+    }
+
+    /**
+     * 获取从最顶层祖先到该节点的路径, 节点不存在时返回空列表
+     */
+    public List<E> path(K id) {
+        List<E> path = new ArrayList<>();
+        E node = nodes.get(id);
+        // 以节点总数为上限, 避免脏数据中的环导致死循环
+        for (int i = 0; node != null && i <= nodes.size(); i++) {
+            path.add(node);
+            node = nodes.get(parents.get(node.getId()));
+        }
+        Collections.reverse(path);
+        return path;
+    }
+
+    /**
+     * 判断 ancestorId 是否为 id 的祖先节点
+     */
+    public boolean isAncestor(K ancestorId, K id) {
+        K parentId = parents.get(id);
+        for (int i = 0; parentId != null && i <= nodes.size(); i++) {
+            if (parentId.equals(ancestorId)) {
+                return true;
+            }
+            parentId = parents.get(parentId);
+        }
+        return false;
+    }
+
+    /**
+     * 获取所有后代节点, 按深度优先前序排列, 不包含节点自身
+     */
+    public List<E> descendants(K id) {
+        List<E> result = new ArrayList<>();
+        Deque<E> stack = new ArrayDeque<>();
+        pushChildren(stack, id);
+        // 以节点总数为上限, 避免脏数据中的环导致死循环
+        while (!stack.isEmpty() && result.size() < nodes.size()) {
+            E node = stack.pop();
+            result.add(node);
+            pushChildren(stack, node.getId());
+        }
+        return result;
+    }
+
+    /**
+     * 仅为该节点及其后代挂载子节点, 返回该节点
+     */
+    public E subtree(K id) {
+        E root = nodes.get(id);
+        if (root == null) {
+            return null;
+        }
+        materialized = true;
+        attach(root);
+        for (E node : descendants(id)) {
+            attach(node);
+        }
+        return root;
+    }
+
+    /**
+     * 为 rootId 下的所有节点挂载子节点, 效果与 {@link TreeUtils#buildTree(List, Object)} 相同
+     *
+     * @param rootId 根节点的ID
+     * @return 根节点列表, 即索引内部维护的列表; rootId 下没有节点时返回空的只读列表, 不会在索引中新建条目
+     */
+    public List<E> tree(K rootId) {
+        materialized = true;
+        List<E> roots = children.get(rootId);
+        if (roots == null) {
+            return Collections.emptyList();
+        }
+        for (E root : roots) {
+            subtree(root.getId());
+        }
+        return roots;
+    }
+
+    /**
+     * 添加节点, 挂载到 {@link TreeNode#getParentId()} 对应的父节点下
+     *
+     * @param node 新节点, 其自身已有的子节点不会被索引
+     * @throws IllegalArgumentException 节点 id 已存在
+     */
+    public void add(E node) {
+        K id = node.getId();
+        if (nodes.containsKey(id)) {
+            throw new IllegalArgumentException("Tree node already exists: " + id);
+        }
+        nodes.put(id, node);
+        parents.put(id, node.getParentId());
+        insert(node.getParentId(), node);
+        if (materialized) {
+            attach(node);
+        }
+    }
+
+    /**
+     * 删除节点及其所有后代, 复杂度为 O(兄弟节点数 + 子树节点数)
+     *
+     * @param id 节点 id
+     * @return 被删除的节点, 不存在时返回 null
+     */
+    public E remove(K id) {
+        E node = nodes.get(id);
+        if (node == null) {
+            return null;
+        }
+        detach(parents.get(id), node);
+        for (E descendant : descendants(id)) {
+            nodes.remove(descendant.getId());
+            parents.remove(descendant.getId());
+            children.remove(descendant.getId());
+        }
+        nodes.remove(id);
+        parents.remove(id);
+        children.remove(id);
+        return node;
+    }
+
+    /**
+     * 将节点连同其子树移动到新的父节点下, 父节点不变时按排序规则重新定位, 可用于排序字段修改后
+     *
+     * @param id          节点 id
+     * @param newParentId 新父节点 id
+     * @throws IllegalArgumentException 节点不存在, 或新父节点是该节点自身或其后代
+     */
+    public void move(K id, K newParentId) {
+        E node = nodes.get(id);
+        if (node == null) {
+            throw new IllegalArgumentException("Tree node not found: " + id);
+        }
+        if (id.equals(newParentId) || isAncestor(id, newParentId)) {
+            throw new IllegalArgumentException("Cannot move tree node " + id + " under itself or its descendant " + newParentId);
+        }
+        detach(parents.get(id), node);
+        parents.put(id, newParentId);
+        insert(newParentId, node);
+    }
+
+    /**
+     * 将 oldParentId 的所有子节点移动到 newParentId 下, 常用于合并或删除中间节点前转移子节点
+     *
+     * @param oldParentId 原父节点 id
+     * @param newParentId 新父节点 id
+     * @throws IllegalArgumentException 新父节点位于原父节点的某个子树中
+     */
+    public void reparent(K oldParentId, K newParentId) {
+        if (Objects.equals(oldParentId, newParentId)) {
+            return;
+        }
+        if (isAncestor(oldParentId, newParentId)) {
+            throw new IllegalArgumentException("Cannot reparent children of " + oldParentId + " under its descendant " + newParentId);
+        }
+        List<E> moving = children.get(oldParentId);
+        if (moving == null || moving.isEmpty()) {
+            return;
+        }
+        List<E> snapshot = new ArrayList<>(moving);
+        moving.clear();
+        for (E node : snapshot) {
+            parents.put(node.getId(), newParentId);
+            insert(newParentId, node);
+        }
+    }
+
+    private void insert(K parentId, E node) {
+        List<E> list = children.get(parentId);
+        if (list == null) {
+            list = new ArrayList<>();
+            children.put(parentId, list);
+            E parent = nodes.get(parentId);
+            if (materialized && parent != null) {
+                parent.setChildren(list);
+            }
+        }
+        if (comparator == null) {
+            list.add(node);
+            return;
+        }
+        // 二分查找最后一个不大于 node 的位置之后插入, 与稳定排序的结果一致
+        int low = 0;
+        int high = list.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (comparator.compare(list.get(mid), node) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        list.add(low, node);
+    }
+
+    private void detach(K parentId, E node) {
+        List<E> list = children.get(parentId);
+        if (list == null) {
+            return;
+        }
+        // 按引用线性查找, 节点可能重写了 equals, 且排序字段可能已被修改, 无法二分定位
+        for (int i = list.size() - 1; i >= 0; i--) {
+            if (list.get(i) == node) {
+                list.remove(i);
+                return;
+            }
+        }
+    }
+
+    private void attach(E node) {
+        List<E> list = children.get(node.getId());
+        if (list != null) {
+            node.setChildren(list);
+        }
+    }
+
+    private void pushChildren(Deque<E> stack, K id) {
+        List<E> list = children.get(id);
+        if (list == null) {
+            return;
+        }
+        for (int i = list.size() - 1; i >= 0; i--) {
+            stack.push(list.get(i));
+        }
+    }
+
+}
@@ -1,9 +1,10 @@
 package cn.mindit.atom.core.util;
 
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 /**
  * @author Catch
@@ -23,13 +24,21 @@ public class TreeUtils {
      * @return 根节点
      */
     public static <E extends TreeNode<E, K>, K> List<E> buildTree(List<E> nodes, K rootId) {
-        Map<K, List<E>> parentMap = nodes.stream().collect(Collectors.groupingBy(TreeNode::getParentId));
-        for (E node : nodes) {
-            List<E> children = parentMap.get(node.getId());
-            if (children != null) {
-                node.setChildren(children);
-            }
-        }
+        return buildTree(nodes, rootId, false);
+    }
+
+    /**
+     * 构建树形结构
+     *
+     * @param nodes    平铺的节点列表
+     * @param rootId   根节点的ID
+     * @param parallel 是否在 ForkJoin 公共池中并行挂载子节点, 适合数十万以上的节点
+     * @param <E>      节点类型
+     * @return 根节点
+     */
+    public static <E extends TreeNode<E, K>, K> List<E> buildTree(List<E> nodes, K rootId, boolean parallel) {
+        Map<K, List<E>> parentMap = groupByParent(nodes);
+        attachChildren(nodes, parentMap, parallel);
         return parentMap.get(rootId);
     }
 
@@ -42,20 +51,64 @@ public class TreeUtils {
      * @return 根节点
      */
     public static <E extends SortTreeNode<E, K, S>, K, S extends Comparable<S>> List<E> buildSortTree(List<E> nodes, K rootId) {
-        Map<K, List<E>> parentMap = nodes.stream().collect(Collectors.groupingBy(TreeNode::getParentId,
-            Collectors.collectingAndThen(
-                Collectors.toList(),
-                list -> list.stream()
-                            .sorted(Comparator.comparing(SortTreeNode::getSort))
-                            .collect(Collectors.toList())
-            )));
+        return buildSortTree(nodes, rootId, false);
+    }
+
+    /**
+     * 构建有序树形结构
+     *
+     * @param nodes    平铺的节点列表
+     * @param rootId   根节点的ID
+     * @param parallel 是否在 ForkJoin 公共池中并行排序并挂载子节点, 适合数十万以上的节点
+     * @param <E>      节点类型
+     * @return 根节点
+     */
+    public static <E extends SortTreeNode<E, K, S>, K, S extends Comparable<S>> List<E> buildSortTree(List<E> nodes, K rootId, boolean parallel) {
+        Map<K, List<E>> parentMap = groupByParent(nodes);
+        Comparator<E> comparator = Comparator.comparing(SortTreeNode::getSort);
+        if (parallel) {
+            parentMap.values().parallelStream().forEach(children -> children.sort(comparator));
+        } else {
+            for (List<E> children : parentMap.values()) {
+                children.sort(comparator);
+            }
+        }
+        attachChildren(nodes, parentMap, parallel);
+        return parentMap.get(rootId);
+    }
+
+    /**
+     * 单次遍历按父节点分组, 保持节点在原列表中的相对顺序
+     */
+    static <E extends TreeNode<E, K>, K> Map<K, List<E>> groupByParent(List<E> nodes) {
+        Map<K, List<E>> parentMap = new HashMap<>(capacity(nodes.size()));
+        for (E node : nodes) {
+            parentMap.computeIfAbsent(node.getParentId(), k -> new ArrayList<>()).add(node);
+        }
+        return parentMap;
+    }
+
+    static int capacity(int expectedSize) {
+        return (int) Math.min(Integer.MAX_VALUE, (long) (expectedSize / 0.75f) + 1);
+    }
+
+    private static <E extends TreeNode<E, K>, K> void attachChildren(List<E> nodes, Map<K, List<E>> parentMap, boolean parallel) {
+        if (parallel) {
+            // parentMap 此时只读, 每个节点只被写入一次, 可安全并行
+            nodes.parallelStream().forEach(node -> {
+                List<E> children = parentMap.get(node.getId());
+                if (children != null) {
+                    node.setChildren(children);
+                }
+            });
+            return;
+        }
         for (E node : nodes) {
             List<E> children = parentMap.get(node.getId());
             if (children != null) {
                 node.setChildren(children);
             }
         }
-        return parentMap.get(rootId);
     }
 
 }
@@ -1,7 +1,12 @@
 package cn.mindit.atom.core.util;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
 import java.util.UUID;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
 
 /**
  * UUID v7
@@ -14,9 +19,18 @@ import java.util.concurrent.ThreadLocalRandom;
  */
 public class UUIDv7 {
 
+    private static final Generator GENERATOR = new Generator();
+
     private UUIDv7() {
     }
 
+    /**
+     * 获取共享的单调递增生成器, 适合作为数据库主键, 同一毫秒内生成的 id 也保持有序
+     */
+    public static Generator generator() {
+        return GENERATOR;
+    }
+
     /**
      * 生成 UUID v7。
      *
@@ -88,4 +102,97 @@ public class UUIDv7 {
         return timestamp(UUID.fromString(uuidStr));
     }
 
+    /**
+     * 单调递增的 UUID v7 生成器
+     * <p>
+     * 按 RFC 9562 6.2 Method 1 将 rand_a 的 12 位作为毫秒内计数器:
+     * <ul>
+     *   <li>进入新的毫秒时, 计数器以随机值初始化, 且最高位置 0 预留递增空间</li>
+     *   <li>同一毫秒内计数器递增, 溢出时进位到时间戳</li>
+     *   <li>时钟回拨时沿用上次的时间戳继续递增, 保证生成的 id 严格递增</li>
+     * </ul>
+     * 状态保存在一个 AtomicLong 中通过 CAS 无锁更新, 多线程共享同一实例时全局有序.
+     */
+    public static final class Generator {
+
+        private static final long TIMESTAMP_MASK = 0xFFFFFFFFFFFFL;
+
+        private static final int COUNTER_BITS = 12;
+
+        private static final long COUNTER_MASK = 0xFFFL;
+
+        private static final int COUNTER_INIT_MASK = 0x7FF;
+
+        private static final long VERSION = 0x7000L;
+
+        private static final long VARIANT = 0x8000000000000000L;
+
+        private static final VarHandle LONG_BE = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+
+        private final LongSupplier clock;
+
+        /**
+         * [ 48 位时间戳 ] [ 12 位计数器 ]
+         */
+        private final AtomicLong state = new AtomicLong();
+
+        public Generator() {
+            this(System::currentTimeMillis);
+        }
+
+        /**
+         * @param clock 毫秒时钟
+         */
+        public Generator(LongSupplier clock) {
+            this.clock = clock;
+        }
+
+        public UUID uuid() {
+            return new UUID(nextMsb(), nextLsb());
+        }
+
+        public String uuidStr() {
+            return uuid().toString();
+        }
+
+        /**
+         * 生成 16 字节大端序的 UUID v7, 不创建 UUID 对象
+         */
+        public byte[] uuidBytes() {
+            byte[] bytes = new byte[16];
+            writeTo(bytes, 0);
+            return bytes;
+        }
+
+        /**
+         * 将 16 字节大端序的 UUID v7 写入 dest 的 offset 处
+         */
+        public void writeTo(byte[] dest, int offset) {
+            long msb = nextMsb();
+            LONG_BE.set(dest, offset, msb);
+            LONG_BE.set(dest, offset + 8, nextLsb());
+        }
+
+        private long nextMsb() {
+            long now = clock.getAsLong() & TIMESTAMP_MASK;
+            long prev;
+            long next;
+            do {
+                prev = state.get();
+                if (now > prev >>> COUNTER_BITS) {
+                    next = now << COUNTER_BITS | (ThreadLocalRandom.current().nextInt() & COUNTER_INIT_MASK);
+                } else {
+                    // 同一毫秒或时钟回拨: 计数器加一, 溢出时自然进位到时间戳
+                    next = prev + 1;
+                }
+            } while (!state.compareAndSet(prev, next));
+            return (next >>> COUNTER_BITS) << 16 | VERSION | (next & COUNTER_MASK);
+        }
+
+        private static long nextLsb() {
+            return VARIANT | (ThreadLocalRandom.current().nextLong() >>> 2);
+        }
+
+    }
+
 }
@@ -12,8 +12,16 @@ import tools.jackson.databind.jsontype.TypeSerializer;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.util.regex.Pattern;
 
 /**
+ * BigDecimal 序列化器
+ * <p>
+ * {@link DecimalFormat} 非线程安全, 因此不在多个线程间共享同一实例:
+ * 仅由 0 # , . 组成的常用模式在构造时编译为 {@link CompiledPattern}, 通过 {@link BigDecimal#setScale(int, RoundingMode)}
+ * 舍入后直接将数字写入线程内复用的字符缓冲区; 百分号、科学计数法、前后缀等其他模式退化为每个线程各持有一个 {@link DecimalFormat}.
+ *
  * @author Catch
  * @since 2024-12-20
  */
@@ -22,23 +30,37 @@ public class BigDecimalSerializer extends ValueSerializer<BigDecimal> {
 
     public static final BigDecimalSerializer instance = new BigDecimalSerializer();
 
-    private DecimalFormat decimalFormat;
+    /**
+     * 可编译的模式: 可选的分组整数部分与可选的小数部分
+     */
+    private static final Pattern SIMPLE_PATTERN = Pattern.compile("[#,]*0*(\\.0*#*)?");
+
+    private CompiledPattern compiledPattern;
+
+    private ThreadLocal<DecimalFormat> decimalFormat;
 
     public BigDecimalSerializer() {
     }
 
     public BigDecimalSerializer(String pattern, RoundingMode roundingMode) {
-        this.decimalFormat = new DecimalFormat(pattern);
-        decimalFormat.setRoundingMode(roundingMode);
+        DecimalFormat format = new DecimalFormat(pattern);
+        format.setRoundingMode(roundingMode);
+        if (SIMPLE_PATTERN.matcher(pattern).matches() && CompiledPattern.supports(format)) {
+            this.compiledPattern = new CompiledPattern(format, roundingMode);
+        } else {
+            this.decimalFormat = ThreadLocal.withInitial(() -> (DecimalFormat) format.clone());
+        }
     }
 
     @Override
     public void serialize(BigDecimal value, JsonGenerator gen, SerializationContext context) {
-        if (decimalFormat == null) {
+        if (compiledPattern != null) {
+            compiledPattern.write(value, gen);
+        } else if (decimalFormat != null) {
+            gen.writeString(decimalFormat.get().format(value));
+        } else {
             gen.writeString(value.toPlainString());
-            return;
         }
-        gen.writeString(decimalFormat.format(value));
     }
 
     @Override
@@ -63,4 +85,112 @@ public class BigDecimalSerializer extends ValueSerializer<BigDecimal> {
         return new BigDecimalSerializer(annotation.value(), annotation.roundingMode());
     }
 
+    /**
+     * 预编译的数字模式, 不可变, 可在多个线程间共享
+     * <p>
+     * 模式中的位数、分组等参数直接取自 {@link DecimalFormat} 解析后的结果, 符号取自默认区域的 {@link DecimalFormatSymbols},
+     * 因此输出与 {@link DecimalFormat#format(Object)} 一致.
+     */
+    private static final class CompiledPattern {
+
+        /**
+         * 线程内复用的字符缓冲区, 超过该长度的结果临时分配
+         */
+        private static final int MAX_BUFFER_SIZE = 128;
+
+        private static final ThreadLocal<char[]> BUFFER = ThreadLocal.withInitial(() -> new char[MAX_BUFFER_SIZE]);
+
+        private final RoundingMode roundingMode;
+
+        private final int minIntegerDigits;
+
+        private final int minFractionDigits;
+
+        private final int maxFractionDigits;
+
+        /**
+         * 分组大小, 0 表示不分组
+         */
+        private final int groupingSize;
+
+        private final char groupingSeparator;
+
+        private final char decimalSeparator;
+
+        private final char minusSign;
+
+        private CompiledPattern(DecimalFormat format, RoundingMode roundingMode) {
+            DecimalFormatSymbols symbols = format.getDecimalFormatSymbols();
+            this.roundingMode = roundingMode;
+            this.minIntegerDigits = format.getMinimumIntegerDigits();
+            this.minFractionDigits = format.getMinimumFractionDigits();
+            this.maxFractionDigits = format.getMaximumFractionDigits();
+            this.groupingSize = format.isGroupingUsed() ? format.getGroupingSize() : 0;
+            this.groupingSeparator = symbols.getGroupingSeparator();
+            this.decimalSeparator = symbols.getDecimalSeparator();
+            this.minusSign = symbols.getMinusSign();
+        }
+
+        /**
+         * 仅支持阿拉伯数字、无倍数、无前后缀的模式
+         */
+        static boolean supports(DecimalFormat format) {
+            return format.getDecimalFormatSymbols().getZeroDigit() == '0'
+                && format.getMultiplier() == 1
+                && !format.isDecimalSeparatorAlwaysShown()
+                && format.getPositivePrefix().isEmpty()
+                && format.getPositiveSuffix().isEmpty()
+                && format.getNegativeSuffix().isEmpty()
+                && format.getNegativePrefix().equals(String.valueOf(format.getDecimalFormatSymbols().getMinusSign()));
+        }
+
+        void write(BigDecimal value, JsonGenerator gen) {
+            BigDecimal rounded = value.setScale(maxFractionDigits, roundingMode);
+            String digits = rounded.unscaledValue().abs().toString();
+            // 小数点在 digits 中的位置, 为负时表示小数部分需要在 digits 之前补 0
+            int integerEnd = digits.length() - maxFractionDigits;
+            // 去掉超出最少位数的小数末尾 0, 下标小于 0 的位均视为 0
+            int length = digits.length();
+            int fractionDigits = maxFractionDigits;
+            while (fractionDigits > minFractionDigits && (length <= 0 || digits.charAt(length - 1) == '0')) {
+                length--;
+                fractionDigits--;
+            }
+            // 整数部分的有效数字, 即去掉前导 0 后小数点之前的位数
+            int integerStart = 0;
+            while (integerStart < integerEnd && digits.charAt(integerStart) == '0') {
+                integerStart++;
+            }
+            int integerDigits = Math.max(integerEnd, 0) - integerStart;
+            int integerWidth = Math.max(integerDigits, minIntegerDigits);
+            if (integerWidth == 0 && fractionDigits == 0) {
+                // 与 DecimalFormat 一致, 没有任何数字时输出一个 0
+                integerWidth = 1;
+            }
+
+            int capacity = 2 + integerWidth * 2 + fractionDigits;
+            char[] buffer = capacity <= MAX_BUFFER_SIZE ? BUFFER.get() : new char[capacity];
+            int size = 0;
+            if (value.signum() < 0) {
+                buffer[size++] = minusSign;
+            }
+            for (int position = integerWidth - 1; position >= 0; position--) {
+                // position 为当前位距个位的距离, 不足部分补 0
+                buffer[size++] = position < integerDigits ? digits.charAt(integerEnd - 1 - position) : '0';
+                if (groupingSize > 0 && position > 0 && position % groupingSize == 0) {
+                    buffer[size++] = groupingSeparator;
+                }
+            }
+            if (fractionDigits > 0) {
+                buffer[size++] = decimalSeparator;
+                // 小数位数多于有效数字时, 有效数字之前补 0
+                for (int i = length - fractionDigits; i < length; i++) {
+                    buffer[size++] = i < 0 ? '0' : digits.charAt(i);
+                }
+            }
+            gen.writeString(buffer, 0, size);
+        }
+
+    }
+
 }
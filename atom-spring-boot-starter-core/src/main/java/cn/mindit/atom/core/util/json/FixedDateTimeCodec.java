@@ -0,0 +1,190 @@
+package cn.mindit.atom.core.util.json;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 默认日期时间格式的定长编解码
+ * <p>
+ * 对 yyyy-MM-dd、HH:mm:ss、yyyy-MM-dd HH:mm:ss 三种默认格式, 直接在 char 数组上按固定下标读写数字,
+ * 不经过 {@link DateTimeFormatter} 的解析与格式化流程, 也不创建中间的 TemporalAccessor.
+ * 仅处理年份为 1 ~ 9999 且各字段均合法的值, 其余情况(如越界的日期、其他长度的字符串)返回 null 或 false,
+ * 由调用方交给对应的 {@link DateTimeFormatter} 处理, 以保持原有的解析规则与异常信息.
+ * <p>
+ * 只有使用本类中 formatter 常量的序列化器与反序列化器才会走定长路径, 通过 @JsonFormat 指定的其他格式不受影响.
+ * 这些序列化器与反序列化器重写了 Jackson 的 withFormat、withLeniency 等方法, 保证按属性上下文化后仍是子类实例.
+ *
+ * @author Catch
+ * @since 2026-10-18
+ */
+public final class FixedDateTimeCodec {
+
+    public static final String DATE_PATTERN = "yyyy-MM-dd";
+
+    public static final String TIME_PATTERN = "HH:mm:ss";
+
+    public static final String DATE_TIME_PATTERN = "yyyy-MM-dd HH:mm:ss";
+
+    public static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern(DATE_PATTERN);
+
+    public static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern(TIME_PATTERN);
+
+    public static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern(DATE_TIME_PATTERN);
+
+    public static final int DATE_LENGTH = 10;
+
+    public static final int TIME_LENGTH = 8;
+
+    public static final int DATE_TIME_LENGTH = 19;
+
+    private static final ThreadLocal<char[]> BUFFER = ThreadLocal.withInitial(() -> new char[DATE_TIME_LENGTH]);
+
+    private FixedDateTimeCodec() {
+    }
+
+    /**
+     * 线程内复用的格式化缓冲区, 长度为 {@link #DATE_TIME_LENGTH}
+     */
+    public static char[] buffer() {
+        return BUFFER.get();
+    }
+
+    /**
+     * 年份是否可以按 4 位数字定长输出
+     */
+    public static boolean supports(LocalDate date) {
+        int year = date.getYear();
+        return year >= 1 && year <= 9999;
+    }
+
+    public static void formatDate(LocalDate date, char[] buffer, int offset) {
+        int year = date.getYear();
+        writeTwoDigits(buffer, offset, year / 100);
+        writeTwoDigits(buffer, offset + 2, year % 100);
+        buffer[offset + 4] = '-';
+        writeTwoDigits(buffer, offset + 5, date.getMonthValue());
+        buffer[offset + 7] = '-';
+        writeTwoDigits(buffer, offset + 8, date.getDayOfMonth());
+    }
+
+    public static void formatTime(LocalTime time, char[] buffer, int offset) {
+        writeTwoDigits(buffer, offset, time.getHour());
+        buffer[offset + 2] = ':';
+        writeTwoDigits(buffer, offset + 3, time.getMinute());
+        buffer[offset + 5] = ':';
+        writeTwoDigits(buffer, offset + 6, time.getSecond());
+    }
+
+    public static void formatDateTime(LocalDateTime dateTime, char[] buffer, int offset) {
+        formatDate(dateTime.toLocalDate(), buffer, offset);
+        buffer[offset + DATE_LENGTH] = ' ';
+        formatTime(dateTime.toLocalTime(), buffer, offset + DATE_LENGTH + 1);
+    }
+
+    /**
+     * 解析 yyyy-MM-dd
+     *
+     * @return 日期, 不是合法的定长格式时返回 null
+     */
+    public static LocalDate parseDate(char[] buffer, int offset, int length) {
+        if (length != DATE_LENGTH) {
+            return null;
+        }
+        int year = parseDateFields(buffer, offset);
+        if (year < 0) {
+            return null;
+        }
+        return LocalDate.of(year, twoDigits(buffer, offset + 5), twoDigits(buffer, offset + 8));
+    }
+
+    /**
+     * 解析 HH:mm:ss
+     *
+     * @return 时间, 不是合法的定长格式时返回 null
+     */
+    public static LocalTime parseTime(char[] buffer, int offset, int length) {
+        if (length != TIME_LENGTH || !isTime(buffer, offset)) {
+            return null;
+        }
+        return LocalTime.of(twoDigits(buffer, offset), twoDigits(buffer, offset + 3), twoDigits(buffer, offset + 6));
+    }
+
+    /**
+     * 解析 yyyy-MM-dd HH:mm:ss
+     *
+     * @return 日期时间, 不是合法的定长格式时返回 null
+     */
+    public static LocalDateTime parseDateTime(char[] buffer, int offset, int length) {
+        if (length != DATE_TIME_LENGTH || buffer[offset + DATE_LENGTH] != ' ') {
+            return null;
+        }
+        int year = parseDateFields(buffer, offset);
+        int timeOffset = offset + DATE_LENGTH + 1;
+        if (year < 0 || !isTime(buffer, timeOffset)) {
+            return null;
+        }
+        return LocalDateTime.of(year, twoDigits(buffer, offset + 5), twoDigits(buffer, offset + 8),
+            twoDigits(buffer, timeOffset), twoDigits(buffer, timeOffset + 3), twoDigits(buffer, timeOffset + 6));
+    }
+
+    /**
+     * 校验 yyyy-MM-dd 的分隔符与取值范围
+     *
+     * @return 年份, 不合法时返回 -1
+     */
+    private static int parseDateFields(char[] buffer, int offset) {
+        if (buffer[offset + 4] != '-' || buffer[offset + 7] != '-') {
+            return -1;
+        }
+        int high = twoDigits(buffer, offset);
+        int low = twoDigits(buffer, offset + 2);
+        int month = twoDigits(buffer, offset + 5);
+        int day = twoDigits(buffer, offset + 8);
+        if (high < 0 || low < 0 || month < 1 || month > 12 || day < 1) {
+            return -1;
+        }
+        int year = high * 100 + low;
+        if (year < 1 || day > lengthOfMonth(year, month)) {
+            return -1;
+        }
+        return year;
+    }
+
+    private static boolean isTime(char[] buffer, int offset) {
+        if (buffer[offset + 2] != ':' || buffer[offset + 5] != ':') {
+            return false;
+        }
+        int hour = twoDigits(buffer, offset);
+        int minute = twoDigits(buffer, offset + 3);
+        int second = twoDigits(buffer, offset + 6);
+        return hour >= 0 && hour < 24 && minute >= 0 && minute < 60 && second >= 0 && second < 60;
+    }
+
+    private static int lengthOfMonth(int year, int month) {
+        return switch (month) {
+            case 2 -> (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0) ? 29 : 28;
+            case 4, 6, 9, 11 -> 30;
+            default -> 31;
+        };
+    }
+
+    /**
+     * 读取两位十进制数字, 任一字符不是数字时返回 -1
+     */
+    private static int twoDigits(char[] buffer, int offset) {
+        int tens = buffer[offset] - '0';
+        int ones = buffer[offset + 1] - '0';
+        if (tens < 0 || tens > 9 || ones < 0 || ones > 9) {
+            return -1;
+        }
+        return tens * 10 + ones;
+    }
+
+    private static void writeTwoDigits(char[] buffer, int offset, int value) {
+        buffer[offset] = (char) ('0' + value / 10);
+        buffer[offset + 1] = (char) ('0' + value % 10);
+    }
+
+}
@@ -0,0 +1,147 @@
+package cn.mindit.atom.core.util.json;
+
+import cn.mindit.atom.core.util.JsonUtils;
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.JavaType;
+import tools.jackson.databind.ObjectReader;
+import tools.jackson.databind.ObjectWriter;
+
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 绑定到固定类型的 Json 编解码器
+ * <p>
+ * 在启动阶段根据目标类型构建一次, 内部持有预先绑定的 {@link ObjectReader}/{@link ObjectWriter},
+ * 适合监听器等已知消息类型、需要逐条编解码的场景, 避免每条消息都重新解析类型与查找序列化器.
+ * 空值与 CharSequence/Number 的处理规则与 {@link JsonUtils} 保持一致.
+ *
+ * @param <T> 目标 Java 类型
+ * @author Catch
+ * @since 2026-10-18
+ */
+public final class JsonCodec<T> {
+
+    private final JavaType javaType;
+
+    private final ObjectReader reader;
+
+    private final ObjectWriter writer;
+
+    /**
+     * 目标类型为 CharSequence 时不做转换, 直接返回原始字符串
+     */
+    private final boolean raw;
+
+    private JsonCodec(JavaType javaType) {
+        this.javaType = javaType;
+        this.reader = JsonUtils.reader(javaType);
+        // 非 final 的 Bean 类型可能传入子类实例, 绑定根类型会丢失子类属性, 此时按运行时类型序列化
+        this.writer = javaType.isFinal() || javaType.isContainerType()
+            ? JsonUtils.writer(javaType)
+            : JsonUtils.jsonMapper.writer();
+        this.raw = javaType.isTypeOrSubTypeOf(CharSequence.class);
+    }
+
+    public static <T> JsonCodec<T> of(Class<T> clazz) {
+        return new JsonCodec<>(JsonUtils.jsonMapper.constructType(clazz));
+    }
+
+    public static <T> JsonCodec<T> of(TypeReference<T> type) {
+        return new JsonCodec<>(JsonUtils.jsonMapper.constructType(type));
+    }
+
+    /**
+     * 根据反射类型构建, 可直接传入 {@link java.lang.reflect.Method#getGenericParameterTypes()} 的元素
+     */
+    public static <T> JsonCodec<T> of(Type type) {
+        return new JsonCodec<>(JsonUtils.jsonMapper.constructType(type));
+    }
+
+    public static <T> JsonCodec<T> of(Class<?> wrapper, Class<?>... inners) {
+        return new JsonCodec<>(JsonUtils.javaType(wrapper, inners));
+    }
+
+    public JavaType getJavaType() {
+        return javaType;
+    }
+
+    /**
+     * 将 Json 字符串转为目标对象
+     *
+     * @param json json 字符串
+     * @return 目标对象, json 为空时返回 null
+     */
+    @SuppressWarnings("unchecked")
+    public T decode(String json) {
+        if (json == null || json.isEmpty()) {
+            return null;
+        }
+        if (raw) {
+            return (T) json;
+        }
+        return reader.readValue(json);
+    }
+
+    /**
+     * 将 UTF-8 编码的 Json 字节数组转为目标对象
+     *
+     * @param bytes json 字节数组
+     * @return 目标对象, bytes 为空时返回 null
+     */
+    public T decode(byte[] bytes) {
+        return bytes == null ? null : decode(bytes, 0, bytes.length);
+    }
+
+    /**
+     * 将 UTF-8 编码的 Json 字节数组片段转为目标对象
+     *
+     * @param bytes  json 字节数组
+     * @param offset 起始位置
+     * @param len    长度
+     * @return 目标对象, 片段为空时返回 null
+     */
+    @SuppressWarnings("unchecked")
+    public T decode(byte[] bytes, int offset, int len) {
+        if (bytes == null || len == 0) {
+            return null;
+        }
+        if (raw) {
+            return (T) new String(bytes, offset, len, StandardCharsets.UTF_8);
+        }
+        return reader.readValue(bytes, offset, len);
+    }
+
+    /**
+     * 将目标对象转为 Json 字符串
+     *
+     * @param value 目标对象
+     * @return json 字符串
+     */
+    public String encode(T value) {
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof CharSequence || value instanceof Number) {
+            return value.toString();
+        }
+        return writer.writeValueAsString(value);
+    }
+
+    /**
+     * 将目标对象转为 UTF-8 编码的 Json 字节数组
+     *
+     * @param value 目标对象
+     * @return json 字节数组
+     */
+    public byte[] encodeToBytes(T value) {
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof CharSequence || value instanceof Number) {
+            return value.toString().getBytes(StandardCharsets.UTF_8);
+        }
+        return writer.writeValueAsBytes(value);
+    }
+
+}
@@ -0,0 +1,63 @@
+package cn.mindit.atom.core.util.json;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.DeserializationContext;
+import tools.jackson.databind.annotation.JacksonStdImpl;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 使用 {@link FixedDateTimeCodec#DATE_FORMATTER} 时直接从解析器的字符缓冲区读取定长日期, 其他情况交给父类处理
+ *
+ * @author Catch
+ * @since 2026-10-18
+ */
+@JacksonStdImpl
+public class LocalDateDeserializer extends tools.jackson.databind.ext.javatime.deser.LocalDateDeserializer {
+
+    public LocalDateDeserializer(DateTimeFormatter formatter) {
+        super(formatter);
+    }
+
+    protected LocalDateDeserializer(LocalDateDeserializer base, DateTimeFormatter formatter) {
+        super(base, formatter);
+    }
+
+    protected LocalDateDeserializer(LocalDateDeserializer base, Boolean leniency) {
+        super(base, leniency);
+    }
+
+    protected LocalDateDeserializer(LocalDateDeserializer base, JsonFormat.Shape shape) {
+        super(base, shape);
+    }
+
+    @Override
+    public LocalDate deserialize(JsonParser parser, DeserializationContext context) {
+        if (_formatter == FixedDateTimeCodec.DATE_FORMATTER && parser.hasToken(JsonToken.VALUE_STRING)) {
+            LocalDate date = FixedDateTimeCodec.parseDate(parser.getStringCharacters(), parser.getStringOffset(), parser.getStringLength());
+            if (date != null) {
+                return date;
+            }
+        }
+        return super.deserialize(parser, context);
+    }
+
+    @Override
+    protected LocalDateDeserializer withDateFormat(DateTimeFormatter formatter) {
+        return new LocalDateDeserializer(this, formatter);
+    }
+
+    @Override
+    protected LocalDateDeserializer withLeniency(Boolean leniency) {
+        return new LocalDateDeserializer(this, leniency);
+    }
+
+    @Override
+    protected LocalDateDeserializer withShape(JsonFormat.Shape shape) {
+        return new LocalDateDeserializer(this, shape);
+    }
+
+}
@@ -0,0 +1,44 @@
+package cn.mindit.atom.core.util.json;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.annotation.JacksonStdImpl;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 使用 {@link FixedDateTimeCodec#DATE_FORMATTER} 时直接输出定长字符, 其他格式交给父类处理
+ *
+ * @author Catch
+ * @since 2026-10-18
+ */
+@JacksonStdImpl
+public class LocalDateSerializer extends tools.jackson.databind.ext.javatime.ser.LocalDateSerializer {
+
+    public LocalDateSerializer(DateTimeFormatter formatter) {
+        super(formatter);
+    }
+
+    protected LocalDateSerializer(LocalDateSerializer base, DateTimeFormatter formatter, Boolean useTimestamp, JsonFormat.Shape shape) {
+        super(base, formatter, useTimestamp, shape);
+    }
+
+    @Override
+    public void serialize(LocalDate value, JsonGenerator gen, SerializationContext context) {
+        if (_formatter == FixedDateTimeCodec.DATE_FORMATTER && !useTimestamp(context) && FixedDateTimeCodec.supports(value)) {
+            char[] buffer = FixedDateTimeCodec.buffer();
+            FixedDateTimeCodec.formatDate(value, buffer, 0);
+            gen.writeString(buffer, 0, FixedDateTimeCodec.DATE_LENGTH);
+            return;
+        }
+        super.serialize(value, gen, context);
+    }
+
+    @Override
+    protected LocalDateSerializer withFormat(DateTimeFormatter formatter, Boolean useTimestamp, JsonFormat.Shape shape) {
+        return new LocalDateSerializer(this, formatter, useTimestamp, shape);
+    }
+
+}
@@ -37,6 +37,12 @@ public class LocalDateTimeDeserializer extends tools.jackson.databind.ext.javati
     @Override
     public LocalDateTime deserialize(JsonParser parser, DeserializationContext context) {
         if (parser.hasTokenId(6)) {
+            if (_formatter == FixedDateTimeCodec.DATE_TIME_FORMATTER) {
+                LocalDateTime parsed = FixedDateTimeCodec.parseDateTime(parser.getStringCharacters(), parser.getStringOffset(), parser.getStringLength());
+                if (parsed != null) {
+                    return parsed;
+                }
+            }
             return this._fromString(parser, context, parser.getString());
         } else if (parser.isExpectedStartObjectToken()) {
             return this._fromString(parser, context, context.extractScalarFromObject(parser, this, this.handledType()));
@@ -0,0 +1,49 @@
+package cn.mindit.atom.core.util.json;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.annotation.JacksonStdImpl;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 使用 {@link FixedDateTimeCodec#DATE_TIME_FORMATTER} 时直接输出定长字符, 其他格式交给父类处理
+ *
+ * @author Catch
+ * @since 2026-10-18
+ */
+@JacksonStdImpl
+public class LocalDateTimeSerializer extends tools.jackson.databind.ext.javatime.ser.LocalDateTimeSerializer {
+
+    public LocalDateTimeSerializer(DateTimeFormatter formatter) {
+        super(formatter);
+    }
+
+    protected LocalDateTimeSerializer(LocalDateTimeSerializer base, DateTimeFormatter formatter, Boolean useTimestamp, Boolean useNanoseconds) {
+        super(base, formatter, useTimestamp, useNanoseconds);
+    }
+
+    @Override
+    public void serialize(LocalDateTime value, JsonGenerator gen, SerializationContext context) {
+        if (_formatter == FixedDateTimeCodec.DATE_TIME_FORMATTER && !useTimestamp(context) && FixedDateTimeCodec.supports(value.toLocalDate())) {
+            char[] buffer = FixedDateTimeCodec.buffer();
+            FixedDateTimeCodec.formatDateTime(value, buffer, 0);
+            gen.writeString(buffer, 0, FixedDateTimeCodec.DATE_TIME_LENGTH);
+            return;
+        }
+        super.serialize(value, gen, context);
+    }
+
+    @Override
+    protected LocalDateTimeSerializer withFormat(DateTimeFormatter formatter, Boolean useTimestamp, JsonFormat.Shape shape) {
+        return new LocalDateTimeSerializer(this, formatter, useTimestamp, _useNanoseconds);
+    }
+
+    @Override
+    protected LocalDateTimeSerializer withFeatures(Boolean writeZoneId, Boolean useNanoseconds) {
+        return new LocalDateTimeSerializer(this, _formatter, _useTimestamp, useNanoseconds);
+    }
+
+}
@@ -0,0 +1,44 @@
+package cn.mindit.atom.core.util.json;
+
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.DeserializationContext;
+import tools.jackson.databind.annotation.JacksonStdImpl;
+
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 使用 {@link FixedDateTimeCodec#TIME_FORMATTER} 时直接从解析器的字符缓冲区读取定长时间, 其他情况交给父类处理
+ *
+ * @author Catch
+ * @since 2026-10-18
+ */
+@JacksonStdImpl
+public class LocalTimeDeserializer extends tools.jackson.databind.ext.javatime.deser.LocalTimeDeserializer {
+
+    public LocalTimeDeserializer(DateTimeFormatter formatter) {
+        super(formatter);
+    }
+
+    protected LocalTimeDeserializer(LocalTimeDeserializer base, Boolean leniency) {
+        super(base, leniency);
+    }
+
+    @Override
+    public LocalTime deserialize(JsonParser parser, DeserializationContext context) {
+        if (_formatter == FixedDateTimeCodec.TIME_FORMATTER && parser.hasToken(JsonToken.VALUE_STRING)) {
+            LocalTime time = FixedDateTimeCodec.parseTime(parser.getStringCharacters(), parser.getStringOffset(), parser.getStringLength());
+            if (time != null) {
+                return time;
+            }
+        }
+        return super.deserialize(parser, context);
+    }
+
+    @Override
+    protected LocalTimeDeserializer withLeniency(Boolean leniency) {
+        return new LocalTimeDeserializer(this, leniency);
+    }
+
+}
@@ -0,0 +1,49 @@
+package cn.mindit.atom.core.util.json;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.annotation.JacksonStdImpl;
+
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 使用 {@link FixedDateTimeCodec#TIME_FORMATTER} 时直接输出定长字符, 其他格式交给父类处理
+ *
+ * @author Catch
+ * @since 2026-10-18
+ */
+@JacksonStdImpl
+public class LocalTimeSerializer extends tools.jackson.databind.ext.javatime.ser.LocalTimeSerializer {
+
+    public LocalTimeSerializer(DateTimeFormatter formatter) {
+        super(formatter);
+    }
+
+    protected LocalTimeSerializer(LocalTimeSerializer base, DateTimeFormatter formatter, Boolean useTimestamp, Boolean useNanoseconds) {
+        super(base, formatter, useTimestamp, useNanoseconds);
+    }
+
+    @Override
+    public void serialize(LocalTime value, JsonGenerator gen, SerializationContext context) {
+        if (_formatter == FixedDateTimeCodec.TIME_FORMATTER && !useTimestamp(context)) {
+            char[] buffer = FixedDateTimeCodec.buffer();
+            FixedDateTimeCodec.formatTime(value, buffer, 0);
+            gen.writeString(buffer, 0, FixedDateTimeCodec.TIME_LENGTH);
+            return;
+        }
+        super.serialize(value, gen, context);
+    }
+
+    @Override
+    protected LocalTimeSerializer withFormat(DateTimeFormatter formatter, Boolean useTimestamp, JsonFormat.Shape shape) {
+        return new LocalTimeSerializer(this, formatter, useTimestamp, _useNanoseconds);
+    }
+
+    @Override
+    protected LocalTimeSerializer withFeatures(Boolean writeZoneId, Boolean useNanoseconds) {
+        return new LocalTimeSerializer(this, _formatter, _useTimestamp, useNanoseconds);
+    }
+
+}
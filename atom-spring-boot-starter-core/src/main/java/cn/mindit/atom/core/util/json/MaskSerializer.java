@@ -1,6 +1,5 @@
 package cn.mindit.atom.core.util.json;
 
-import cn.hutool.core.util.DesensitizedUtil;
 import cn.hutool.core.util.StrUtil;
 import cn.mindit.atom.core.util.MaskType;
 import tools.jackson.core.JsonGenerator;
@@ -11,7 +10,15 @@ import tools.jackson.databind.SerializationContext;
 import tools.jackson.databind.ValueSerializer;
 import tools.jackson.databind.jsontype.TypeSerializer;
 
+import java.util.Arrays;
+
 /**
+ * 脱敏序列化器
+ * <p>
+ * 脱敏规则在构造时按 {@link MaskType} 编译为 {@link Strategy}, 序列化时不再分支判断,
+ * 脱敏结果直接写入线程内复用的字符缓冲区并通过 {@link JsonGenerator#writeString(char[], int, int)} 输出,
+ * 不产生中间字符串. 规则与 hutool 的 {@link StrUtil#hide} 及 {@link cn.hutool.core.util.DesensitizedUtil} 保持一致.
+ *
  * @author Catch
  * @since 2023-08-25
  */
@@ -19,12 +26,34 @@ public class MaskSerializer extends ValueSerializer<Object> {
 
     public static final MaskSerializer instance = new MaskSerializer();
 
+    private static final char MASK = '*';
+
+    private static final char[] BANK_CARD_PREFIX = "**** **** **** ".toCharArray();
+
+    private static final char[] IPV4_SUFFIX = ".*.*.*".toCharArray();
+
+    private static final char[] IPV6_SUFFIX = ":*:*:*:*:*:*:*".toCharArray();
+
+    /**
+     * 脱敏结果最多比原值多出的字符数, 即 {@link #IPV6_SUFFIX} 或 {@link #BANK_CARD_PREFIX} 的长度
+     */
+    private static final int MAX_EXTRA_LENGTH = 16;
+
+    /**
+     * 线程内复用的字符缓冲区, 超过该长度的值临时分配
+     */
+    private static final int MAX_BUFFER_SIZE = 256;
+
+    private static final ThreadLocal<char[]> BUFFER = ThreadLocal.withInitial(() -> new char[MAX_BUFFER_SIZE]);
+
     private MaskType type;
 
     private Integer start;
 
     private Integer end;
 
+    private Strategy strategy;
+
     public MaskSerializer() {
     }
 
@@ -32,6 +61,7 @@ public class MaskSerializer extends ValueSerializer<Object> {
         this.type = type;
         this.start = start;
         this.end = end;
+        this.strategy = compile(type, start, end);
     }
 
     @Override
@@ -44,78 +74,173 @@ public class MaskSerializer extends ValueSerializer<Object> {
             gen.writeString("");
             return;
         }
-        switch (type) {
+        // ID 脱敏
+        if (type == MaskType.ID) {
+            if (value instanceof Number) {
+                gen.writeNumber(0);
+            } else {
+                gen.writeString("0");
+            }
+            return;
+        }
+        int capacity = valueStr.length() + MAX_EXTRA_LENGTH;
+        char[] buffer = capacity <= MAX_BUFFER_SIZE ? BUFFER.get() : new char[capacity];
+        gen.writeString(buffer, 0, strategy.mask(valueStr, buffer));
+    }
+
+    @Override
+    public void serializeWithType(Object value, JsonGenerator gen, SerializationContext context, TypeSerializer typeSer) {
+        WritableTypeId typeIdDef = typeSer.writeTypePrefix(gen, context, typeSer.typeId(value, JsonToken.VALUE_STRING));
+        serialize(value, gen, context);
+        typeSer.writeTypeSuffix(gen, context, typeIdDef);
+    }
+
+    @Override
+    public ValueSerializer<?> createContextual(SerializationContext context, BeanProperty property) {
+        if (property == null) {
+            return MaskSerializer.instance;
+        }
+        // 获取定义的注解
+        JsonMask annotation = property.getAnnotation(JsonMask.class);
+        if (annotation == null) {
+            annotation = property.getContextAnnotation(JsonMask.class);
+        }
+        if (annotation != null) {
+            return new MaskSerializer(annotation.value(), annotation.start(), annotation.end());
+        }
+        return context.findValueSerializer(property.getType());
+    }
+
+    private static Strategy compile(MaskType type, Integer start, Integer end) {
+        if (type == null) {
+            return null;
+        }
+        return switch (type) {
             // 自定义类型脱敏
-            case CUSTOM -> gen.writeString(StrUtil.hide(valueStr, start, end));
+            case CUSTOM -> (source, target) -> hide(source, start, end, target);
 
             // 中文姓名脱敏
-            case NAME -> gen.writeString(StrUtil.hide(valueStr, 1, valueStr.length()));
-
-            // 手机号脱敏
-            case PHONE -> gen.writeString(StrUtil.hide(valueStr, 3, valueStr.length() - 4));
+            case NAME -> (source, target) -> hide(source, 1, source.length(), target);
 
-            // 身份证脱敏
-            case ID_CARD -> gen.writeString(StrUtil.hide(valueStr, 3, valueStr.length() - 4));
+            // 手机号脱敏, 身份证脱敏
+            case PHONE, ID_CARD -> (source, target) -> hide(source, 3, source.length() - 4, target);
 
             // 银行卡脱敏
-            case BANK_CARD -> gen.writeString("**** **** **** " + valueStr.substring(valueStr.length() - 4));
+            case BANK_CARD -> (source, target) -> {
+                System.arraycopy(BANK_CARD_PREFIX, 0, target, 0, BANK_CARD_PREFIX.length);
+                source.getChars(source.length() - 4, source.length(), target, BANK_CARD_PREFIX.length);
+                return BANK_CARD_PREFIX.length + 4;
+            };
 
             // 邮箱脱敏
-            case EMAIL -> gen.writeString(DesensitizedUtil.email(value.toString()));
+            case EMAIL -> (source, target) -> {
+                if (StrUtil.isBlank(source)) {
+                    return 0;
+                }
+                int index = source.indexOf('@');
+                return index <= 1 ? copy(source, target) : hide(source, 1, index, target);
+            };
 
             // 密码脱敏
-            case PASSWORD -> gen.writeString(DesensitizedUtil.password(value.toString()));
+            case PASSWORD -> (source, target) -> {
+                if (StrUtil.isBlank(source)) {
+                    return 0;
+                }
+                Arrays.fill(target, 0, source.length(), MASK);
+                return source.length();
+            };
 
             // 固定电话脱敏
-            case FIXED_PHONE -> gen.writeString(DesensitizedUtil.fixedPhone(value.toString()));
+            case FIXED_PHONE -> (source, target) ->
+                StrUtil.isBlank(source) ? 0 : hide(source, 4, source.length() - 2, target);
 
             // 地址脱敏
-            case ADDRESS -> gen.writeString(DesensitizedUtil.address(value.toString(), 6));
-
-            // ID 脱敏
-            case ID -> {
-                if (value instanceof Number) {
-                    gen.writeNumber(0);
-                } else {
-                    gen.writeString("0");
-                }
-            }
+            case ADDRESS -> (source, target) ->
+                StrUtil.isBlank(source) ? 0 : hide(source, source.length() - 6, source.length(), target);
 
             // 中国车牌脱敏
-            case CAR_LICENSE -> gen.writeString(DesensitizedUtil.carLicense(value.toString()));
+            case CAR_LICENSE -> (source, target) -> {
+                if (StrUtil.isBlank(source)) {
+                    return 0;
+                }
+                return switch (source.length()) {
+                    case 7 -> hide(source, 3, 6, target);
+                    case 8 -> hide(source, 3, 7, target);
+                    default -> copy(source, target);
+                };
+            };
 
             // IPv4
-            case IPV4 -> gen.writeString(DesensitizedUtil.ipv4(value.toString()));
+            case IPV4 -> (source, target) -> prefix(source, '.', IPV4_SUFFIX, target);
 
             // IPv6
-            case IPV6 -> gen.writeString(DesensitizedUtil.ipv6(value.toString()));
+            case IPV6 -> (source, target) -> prefix(source, ':', IPV6_SUFFIX, target);
+
+            // ID 脱敏在 serialize 中直接输出
+            case ID -> null;
+        };
+    }
 
-            default -> {
+    /**
+     * 与 {@link StrUtil#hide(CharSequence, int, int)} 一致, 按码点将 [start, end) 替换为 *
+     */
+    private static int hide(String source, int start, int end, char[] target) {
+        int length = source.length();
+        int codePoints = source.codePointCount(0, length);
+        if (start > codePoints) {
+            return copy(source, target);
+        }
+        if (end > codePoints) {
+            end = codePoints;
+        }
+        if (start > end) {
+            return copy(source, target);
+        }
+        int size = 0;
+        for (int i = 0, codePoint = 0; i < length; codePoint++) {
+            int charCount = Character.charCount(source.codePointAt(i));
+            if (codePoint >= start && codePoint < end) {
+                target[size++] = MASK;
+            } else {
+                source.getChars(i, i + charCount, target, size);
+                size += charCount;
             }
+            i += charCount;
         }
+        return size;
     }
 
-    @Override
-    public void serializeWithType(Object value, JsonGenerator gen, SerializationContext context, TypeSerializer typeSer) {
-        WritableTypeId typeIdDef = typeSer.writeTypePrefix(gen, context, typeSer.typeId(value, JsonToken.VALUE_STRING));
-        serialize(value, gen, context);
-        typeSer.writeTypeSuffix(gen, context, typeIdDef);
+    private static int copy(String source, char[] target) {
+        source.getChars(0, source.length(), target, 0);
+        return source.length();
     }
 
-    @Override
-    public ValueSerializer<?> createContextual(SerializationContext context, BeanProperty property) {
-        if (property == null) {
-            return MaskSerializer.instance;
-        }
-        // 获取定义的注解
-        JsonMask annotation = property.getAnnotation(JsonMask.class);
-        if (annotation == null) {
-            annotation = property.getContextAnnotation(JsonMask.class);
-        }
-        if (annotation != null) {
-            return new MaskSerializer(annotation.value(), annotation.start(), annotation.end());
-        }
-        return context.findValueSerializer(property.getType());
+    /**
+     * 保留首个分隔符之前的部分并追加固定后缀, 与 {@link StrUtil#subBefore(CharSequence, char, boolean)} 的截取规则一致
+     */
+    private static int prefix(String source, char separator, char[] suffix, char[] target) {
+        int index = source.indexOf(separator);
+        int size = index < 0 ? source.length() : index;
+        source.getChars(0, size, target, 0);
+        System.arraycopy(suffix, 0, target, size, suffix.length);
+        return size + suffix.length;
+    }
+
+    /**
+     * 预编译的脱敏规则
+     */
+    @FunctionalInterface
+    private interface Strategy {
+
+        /**
+         * 将脱敏结果写入 target
+         *
+         * @param source 原始值, 非空
+         * @param target 目标缓冲区, 长度不小于 source 长度 + {@link #MAX_EXTRA_LENGTH}
+         * @return 写入的字符数
+         */
+        int mask(String source, char[] target);
+
     }
 
 }
@@ -1,18 +1,34 @@
 package cn.mindit.atom.test.core.core;
 
 import cn.mindit.atom.core.core.CoreAutoConfiguration;
+import cn.mindit.atom.core.core.CoreConstants;
 import cn.mindit.atom.core.core.CoreJsonConfiguration;
+import cn.mindit.atom.core.core.CoreMetricsConfiguration;
 import cn.mindit.atom.core.core.CoreProperties;
 import cn.mindit.atom.core.core.CoreTraceConfiguration;
 import cn.mindit.atom.core.core.TraceIdTaskDecorator;
+import cn.mindit.atom.core.metrics.LocalMetricsRegistry;
+import cn.mindit.atom.core.metrics.Metrics;
+import cn.mindit.atom.core.metrics.MetricsRegistry;
+import cn.mindit.atom.core.metrics.MicrometerMetricsRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
 import org.springframework.boot.autoconfigure.AutoConfigurations;
 import org.springframework.boot.autoconfigure.task.TaskSchedulingAutoConfiguration;
 import org.springframework.boot.jackson.autoconfigure.JacksonAutoConfiguration;
 import org.springframework.boot.jackson.autoconfigure.JsonMapperBuilderCustomizer;
 import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.boot.thread.Threading;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.SimpleAsyncTaskScheduler;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 class CoreAutoConfigurationTest {
@@ -72,6 +88,67 @@ class CoreAutoConfigurationTest {
             });
     }
 
+    @Test
+    void schedulerFollowsThreadingMode() {
+        contextRunner
+            .withPropertyValues("spring.threads.virtual.enabled=true")
+            .run(context -> {
+                // JDK 17 上即使开启虚拟线程配置也回退到平台线程池
+                if (Threading.VIRTUAL.isActive(context.getEnvironment())) {
+                    assertThat(context).hasSingleBean(SimpleAsyncTaskScheduler.class);
+                    assertThat(context).doesNotHaveBean(ThreadPoolTaskScheduler.class);
+                } else {
+                    assertThat(context).hasSingleBean(ThreadPoolTaskScheduler.class);
+                    assertThat(context).doesNotHaveBean(SimpleAsyncTaskScheduler.class);
+                }
+            });
+    }
+
+    @Test
+    void schedulerPropagatesTraceId() {
+        contextRunner.run(context -> {
+            TaskScheduler scheduler = context.getBean(TaskScheduler.class);
+            CompletableFuture<String> traceId = new CompletableFuture<>();
+            MDC.put(CoreConstants.TRACE_ID, "scheduled-id");
+            try {
+                scheduler.schedule(() -> traceId.complete(MDC.get(CoreConstants.TRACE_ID)), Instant.now());
+            } finally {
+                MDC.clear();
+            }
+            assertThat(traceId.get(5, TimeUnit.SECONDS)).isEqualTo("scheduled-id");
+        });
+    }
+
+    @Test
+    void localMetricsRegistryWithoutMeterRegistry() {
+        contextRunner.run(context -> {
+            assertThat(context).hasSingleBean(CoreMetricsConfiguration.class);
+            assertThat(context).hasSingleBean(MetricsRegistry.class);
+            assertThat(context.getBean(MetricsRegistry.class)).isInstanceOf(LocalMetricsRegistry.class);
+            assertThat(Metrics.registry()).isSameAs(context.getBean(MetricsRegistry.class));
+        });
+    }
+
+    @Test
+    void micrometerMetricsRegistryWithMeterRegistry() {
+        contextRunner
+            .withBean(MeterRegistry.class, SimpleMeterRegistry::new)
+            .run(context -> {
+                assertThat(context).hasSingleBean(MetricsRegistry.class);
+                MetricsRegistry registry = context.getBean(MetricsRegistry.class);
+                assertThat(registry).isInstanceOf(MicrometerMetricsRegistry.class);
+                Metrics.counter("atom.test").increment();
+                assertThat(context.getBean(MeterRegistry.class).get("atom.test").counter().count()).isEqualTo(1);
+            });
+    }
+
+    @Test
+    void metricsConfigurationDisabledByProperty() {
+        contextRunner
+            .withPropertyValues("atom.core.metrics=false")
+            .run(context -> assertThat(context).doesNotHaveBean(MetricsRegistry.class));
+    }
+
     @Test
     void propertiesFileIsImported() {
         contextRunner.run(context -> {
@@ -0,0 +1,52 @@
+package cn.mindit.atom.test.core.core;
+
+import cn.mindit.atom.core.core.TraceContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TraceContextTest {
+
+    @AfterEach
+    void clear() {
+        TraceContext.clear();
+    }
+
+    @Test
+    void rootGeneratesTraceId() {
+        TraceContext root = TraceContext.root();
+        assertThat(root.traceId()).isNotBlank();
+        assertThat(root.spanId()).isNull();
+        assertThat(TraceContext.root().traceId()).isNotEqualTo(root.traceId());
+    }
+
+    @Test
+    void withSpanIdKeepsTraceId() {
+        TraceContext context = TraceContext.of("trace").withSpanId("span");
+        assertThat(context.traceId()).isEqualTo("trace");
+        assertThat(context.spanId()).isEqualTo("span");
+    }
+
+    @Test
+    void rejectsEmptyTraceId() {
+        assertThatThrownBy(() -> TraceContext.of("")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> TraceContext.of(null)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void holderIsThreadLocal() throws InterruptedException {
+        TraceContext.set(TraceContext.of("main"));
+        String[] other = new String[1];
+        Thread thread = new Thread(() -> other[0] = TraceContext.currentTraceId());
+        thread.start();
+        thread.join();
+        assertThat(other[0]).isNull();
+        assertThat(TraceContext.currentTraceId()).isEqualTo("main");
+
+        TraceContext.set(null);
+        assertThat(TraceContext.current()).isNull();
+    }
+
+}
@@ -0,0 +1,63 @@
+package cn.mindit.atom.test.core.core;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.PatternLayout;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import cn.mindit.atom.core.core.CoreConstants;
+import cn.mindit.atom.core.core.TraceContext;
+import cn.mindit.atom.core.core.TraceIdConverter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TraceIdConverterTest {
+
+    private final LoggerContext loggerContext = (LoggerContext) LoggerFactory.getILoggerFactory();
+
+    private PatternLayout layout;
+
+    @BeforeEach
+    void setUp() {
+        layout = new PatternLayout();
+        layout.setContext(loggerContext);
+        layout.getInstanceConverterMap().put("traceId", TraceIdConverter::new);
+        layout.setPattern("[%traceId] %m");
+        layout.start();
+    }
+
+    @AfterEach
+    void clear() {
+        TraceContext.clear();
+        MDC.clear();
+    }
+
+    private String format() {
+        Logger logger = loggerContext.getLogger("test");
+        return layout.doLayout(new LoggingEvent(Logger.FQCN, logger, Level.INFO, "hello", null, null));
+    }
+
+    @Test
+    void readsTraceContext() {
+        TraceContext.set(TraceContext.of("context-id"));
+        MDC.put(CoreConstants.TRACE_ID, "mdc-id");
+        assertThat(format()).isEqualTo("[context-id] hello");
+    }
+
+    @Test
+    void fallsBackToMdc() {
+        MDC.put(CoreConstants.TRACE_ID, "mdc-id");
+        assertThat(format()).isEqualTo("[mdc-id] hello");
+    }
+
+    @Test
+    void emptyWithoutTrace() {
+        assertThat(format()).isEqualTo("[] hello");
+    }
+
+}
@@ -1,6 +1,7 @@
 package cn.mindit.atom.test.core.core;
 
 import cn.mindit.atom.core.core.CoreConstants;
+import cn.mindit.atom.core.core.TraceContext;
 import cn.mindit.atom.core.core.TraceIdTaskDecorator;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
@@ -17,15 +18,53 @@ class TraceIdTaskDecoratorTest {
     @AfterEach
     void clearMdc() {
         MDC.clear();
+        TraceContext.clear();
     }
 
     @Test
     void generatesTraceIdWhenParentMdcIsNull() {
         MDC.clear();
         AtomicReference<String> captured = new AtomicReference<>();
-        Runnable decorated = decorator.decorate(() -> captured.set(MDC.get(CoreConstants.TRACE_ID)));
+        AtomicReference<String> mdc = new AtomicReference<>();
+        Runnable decorated = decorator.decorate(() -> {
+            captured.set(TraceContext.currentTraceId());
+            mdc.set(MDC.get(CoreConstants.TRACE_ID));
+        });
         decorated.run();
         assertThat(captured.get()).isNotBlank();
+        // 提交线程没有 MDC 时不再写入 MDC, 日志通过 %traceId 读取 TraceContext
+        assertThat(mdc.get()).isNull();
+    }
+
+    @Test
+    void propagatesTraceContextByReference() {
+        TraceContext context = TraceContext.of("context-id").withSpanId("span-1");
+        TraceContext.set(context);
+        AtomicReference<TraceContext> captured = new AtomicReference<>();
+        Runnable decorated = decorator.decorate(() -> captured.set(TraceContext.current()));
+        TraceContext.clear();
+        decorated.run();
+        assertThat(captured.get()).isSameAs(context);
+        assertThat(TraceContext.current()).isNull();
+    }
+
+    @Test
+    void restoresPreviousContextOnCallerThread() {
+        Runnable decorated = decorator.decorate(() -> {
+        });
+        TraceContext caller = TraceContext.of("caller-id");
+        TraceContext.set(caller);
+        decorated.run();
+        assertThat(TraceContext.current()).isSameAs(caller);
+    }
+
+    @Test
+    void mdcTraceIdBecomesTraceContext() {
+        MDC.put(CoreConstants.TRACE_ID, "mdc-id");
+        AtomicReference<String> captured = new AtomicReference<>();
+        Runnable decorated = decorator.decorate(() -> captured.set(TraceContext.currentTraceId()));
+        decorated.run();
+        assertThat(captured.get()).isEqualTo("mdc-id");
     }
 
     @Test
@@ -59,6 +98,44 @@ class TraceIdTaskDecoratorTest {
         assertThat(MDC.get(CoreConstants.TRACE_ID)).isNull();
     }
 
+    @Test
+    void doesNotCopyMdcHoldingOnlyTheContextTraceId() {
+        TraceContext context = TraceContext.of("web-id");
+        TraceContext.set(context);
+        MDC.put(CoreConstants.TRACE_ID, "web-id");
+        AtomicReference<TraceContext> captured = new AtomicReference<>();
+        AtomicReference<String> mdc = new AtomicReference<>();
+        Runnable decorated = decorator.decorate(() -> {
+            captured.set(TraceContext.current());
+            mdc.set(MDC.get(CoreConstants.TRACE_ID));
+        });
+        TraceContext.clear();
+        MDC.clear();
+        decorated.run();
+        assertThat(captured.get()).isSameAs(context);
+        assertThat(mdc.get()).isNull();
+    }
+
+    @Test
+    void copiesMdcWithOtherKeysAlongsideTheContextTraceId() {
+        TraceContext.set(TraceContext.of("web-id"));
+        MDC.put(CoreConstants.TRACE_ID, "web-id");
+        MDC.put("other-key", "value");
+        AtomicReference<String> other = new AtomicReference<>();
+        Runnable decorated = decorator.decorate(() -> other.set(MDC.get("other-key")));
+        TraceContext.clear();
+        MDC.clear();
+        decorated.run();
+        assertThat(other.get()).isEqualTo("value");
+    }
+
+    @Test
+    void clearsMdcWrittenByTaskWhenParentMdcIsEmpty() {
+        Runnable decorated = decorator.decorate(() -> MDC.put("task-key", "value"));
+        decorated.run();
+        assertThat(MDC.get("task-key")).isNull();
+    }
+
     @Test
     void clearsMdcEvenWhenRunnableThrows() {
         Runnable decorated = decorator.decorate(() -> {
@@ -0,0 +1,127 @@
+package cn.mindit.atom.test.core.metrics;
+
+import cn.mindit.atom.core.metrics.Counter;
+import cn.mindit.atom.core.metrics.Histogram;
+import cn.mindit.atom.core.metrics.LocalMetricsRegistry;
+import cn.mindit.atom.core.metrics.MeterId;
+import cn.mindit.atom.core.metrics.Timer;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class LocalMetricsRegistryTest {
+
+    private final LocalMetricsRegistry registry = new LocalMetricsRegistry();
+
+    @Test
+    void sameNameAndTagsReturnSameMeter() {
+        Counter counter = registry.counter("atom.test", "k", "v");
+        assertThat(registry.counter("atom.test", "k", "v")).isSameAs(counter);
+        assertThat(registry.counter("atom.test", "k", "other")).isNotSameAs(counter);
+        assertThat(registry.counters()).containsKey(MeterId.of("atom.test", "k", "v"));
+    }
+
+    @Test
+    void rejectsOddTags() {
+        assertThatThrownBy(() -> registry.timer("atom.test", "k")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> registry.timer("")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void counterAccumulates() {
+        Counter counter = registry.counter("atom.test");
+        counter.increment();
+        counter.increment(41);
+        assertThat(counter.count()).isEqualTo(42);
+    }
+
+    @Test
+    void histogramIsExactForSmallValues() {
+        Histogram histogram = registry.histogram("atom.test");
+        for (int i = 1; i <= 20; i++) {
+            histogram.record(i);
+        }
+        histogram.record(-5);
+        assertThat(histogram.count()).isEqualTo(21);
+        assertThat(histogram.total()).isEqualTo(210);
+        assertThat(histogram.max()).isEqualTo(20);
+        assertThat(histogram.percentile(0.5)).isEqualTo(10);
+        assertThat(histogram.percentile(1)).isEqualTo(20);
+        assertThat(registry.histogram("atom.empty").percentile(0.99)).isZero();
+    }
+
+    @Test
+    void histogramPercentilesWithinRelativeError() {
+        Histogram histogram = registry.histogram("atom.test");
+        Random random = new Random(42);
+        List<Long> values = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            long value = (long) Math.exp(random.nextDouble() * 30);
+            values.add(value);
+            histogram.record(value);
+        }
+        Collections.sort(values);
+        for (double p : new double[]{0.5, 0.9, 0.99, 0.999}) {
+            long expected = values.get((int) Math.ceil(p * values.size()) - 1);
+            assertThat(histogram.percentile(p)).isCloseTo(expected, within(expected / 32.0 + 1));
+        }
+        assertThat(histogram.max()).isEqualTo(values.get(values.size() - 1));
+        assertThat(histogram.percentile(1)).isEqualTo((double) values.get(values.size() - 1));
+    }
+
+    @Test
+    void histogramCoversFullLongRange() {
+        Histogram histogram = registry.histogram("atom.test");
+        histogram.record(Long.MAX_VALUE);
+        histogram.record(1L << 40);
+        assertThat(histogram.max()).isEqualTo(Long.MAX_VALUE);
+        assertThat(histogram.percentile(0.5)).isCloseTo(1L << 40, within((double) (1L << 35)));
+        assertThat(histogram.percentile(1)).isEqualTo((double) Long.MAX_VALUE);
+    }
+
+    @Test
+    void timerRecordsSuppliersAndRunnables() {
+        Timer timer = registry.timer("atom.test");
+        assertThat(timer.record(() -> "value")).isEqualTo("value");
+        timer.record(() -> {
+        });
+        timer.record(TimeUnit.MILLISECONDS.toNanos(5));
+        assertThat(timer.count()).isEqualTo(3);
+        assertThat(timer.maxNanos()).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(5));
+        assertThat(timer.totalNanos()).isGreaterThanOrEqualTo(timer.maxNanos());
+    }
+
+    @Test
+    void concurrentRecordingLosesNothing() throws InterruptedException {
+        Timer timer = registry.timer("atom.test");
+        int threads = 8;
+        int perThread = 50_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch latch = new CountDownLatch(threads);
+        for (int t = 0; t < threads; t++) {
+            int offset = t;
+            executor.execute(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    timer.record(i + offset);
+                }
+                latch.countDown();
+            });
+        }
+        latch.await();
+        executor.shutdown();
+        assertThat(timer.count()).isEqualTo((long) threads * perThread);
+        assertThat(timer.maxNanos()).isEqualTo(perThread - 1 + threads - 1);
+    }
+
+}
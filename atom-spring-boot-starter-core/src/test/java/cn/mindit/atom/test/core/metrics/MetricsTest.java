@@ -0,0 +1,51 @@
+package cn.mindit.atom.test.core.metrics;
+
+import cn.mindit.atom.core.metrics.Counter;
+import cn.mindit.atom.core.metrics.LocalMetricsRegistry;
+import cn.mindit.atom.core.metrics.MeterId;
+import cn.mindit.atom.core.metrics.Metrics;
+import cn.mindit.atom.core.metrics.MetricsRegistry;
+import cn.mindit.atom.core.metrics.Timer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MetricsTest {
+
+    private final MetricsRegistry original = Metrics.registry();
+
+    @AfterEach
+    void restore() {
+        Metrics.setRegistry(original);
+    }
+
+    @Test
+    void lazyMetersFollowRegistrySwitch() {
+        LocalMetricsRegistry first = new LocalMetricsRegistry();
+        Metrics.setRegistry(first);
+        Timer timer = Metrics.lazyTimer("atom.test", "k", "v");
+        Counter counter = Metrics.lazyCounter("atom.test", "k", "v");
+        timer.record(10);
+        counter.increment();
+        assertThat(first.timers().get(MeterId.of("atom.test", "k", "v")).count()).isEqualTo(1);
+
+        LocalMetricsRegistry second = new LocalMetricsRegistry();
+        Metrics.setRegistry(second);
+        timer.record(20);
+        counter.increment(2);
+        assertThat(timer.count()).isEqualTo(1);
+        assertThat(timer.maxNanos()).isEqualTo(20);
+        assertThat(counter.count()).isEqualTo(2);
+        assertThat(first.counters().get(MeterId.of("atom.test", "k", "v")).count()).isEqualTo(1);
+        assertThat(second.counters().get(MeterId.of("atom.test", "k", "v")).count()).isEqualTo(2);
+    }
+
+    @Test
+    void lazyMetersRejectOddTags() {
+        assertThatThrownBy(() -> Metrics.lazyTimer("atom.test", "k")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> Metrics.lazyCounter("")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+}
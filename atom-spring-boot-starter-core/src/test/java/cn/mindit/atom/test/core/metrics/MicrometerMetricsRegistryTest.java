@@ -0,0 +1,56 @@
+package cn.mindit.atom.test.core.metrics;
+
+import cn.mindit.atom.core.metrics.Histogram;
+import cn.mindit.atom.core.metrics.MicrometerMetricsRegistry;
+import cn.mindit.atom.core.metrics.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MicrometerMetricsRegistryTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final MicrometerMetricsRegistry registry = new MicrometerMetricsRegistry(meterRegistry);
+
+    @Test
+    void metersAreRegisteredInMicrometer() {
+        registry.counter("atom.test.counter", "result", "hit").increment(3);
+        Timer timer = registry.timer("atom.test.timer", "result", "success");
+        timer.record(TimeUnit.MILLISECONDS.toNanos(2));
+
+        assertThat(meterRegistry.get("atom.test.counter").tag("result", "hit").counter().count()).isEqualTo(3);
+        io.micrometer.core.instrument.Timer micrometerTimer = meterRegistry.get("atom.test.timer").tag("result", "success").timer();
+        assertThat(micrometerTimer.count()).isEqualTo(1);
+        assertThat(micrometerTimer.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(2);
+        assertThat(registry.timer("atom.test.timer", "result", "success")).isSameAs(timer);
+        assertThat(timer.count()).isEqualTo(1);
+        assertThat(timer.totalNanos()).isEqualTo(TimeUnit.MILLISECONDS.toNanos(2));
+    }
+
+    @Test
+    void percentilesAreNotPublishedByDefault() {
+        Timer timer = registry.timer("atom.test.plain");
+        timer.record(TimeUnit.MILLISECONDS.toNanos(2));
+        assertThat(timer.percentileNanos(0.99)).isNaN();
+        assertThat(meterRegistry.get("atom.test.plain").timer().takeSnapshot().percentileValues()).isEmpty();
+    }
+
+    @Test
+    void publishesStandardPercentilesWhenEnabled() {
+        MicrometerMetricsRegistry registry = new MicrometerMetricsRegistry(meterRegistry, true);
+        Histogram histogram = registry.histogram("atom.test.histogram");
+        for (int i = 1; i <= 100; i++) {
+            histogram.record(i);
+        }
+        assertThat(histogram.count()).isEqualTo(100);
+        assertThat(histogram.total()).isEqualTo(5050);
+        assertThat(histogram.max()).isEqualTo(100);
+        assertThat(histogram.percentile(0.99)).isPositive();
+        assertThat(histogram.percentile(0.75)).isNaN();
+    }
+
+}
@@ -2,6 +2,7 @@ package cn.mindit.atom.test.core.util;
 
 import cn.mindit.atom.core.util.BusinessException;
 import cn.mindit.atom.core.util.Result;
+import cn.mindit.atom.core.util.ResultProvider;
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -59,4 +60,55 @@ class BusinessExceptionTest {
         assertThat(new BusinessException()).isInstanceOf(RuntimeException.class);
     }
 
+    @Test
+    void stacklessProviderSkipsStackTrace() {
+        BusinessException ex = new BusinessException(Failure.STACKLESS);
+        assertThat(ex.isStackless()).isTrue();
+        assertThat(ex.getStackTrace()).isEmpty();
+        assertThat(ex.getCode()).isEqualTo(4100);
+
+        ex.addSuppressed(new RuntimeException("ignored"));
+        assertThat(ex.getSuppressed()).isEmpty();
+        assertThat(new BusinessException(Failure.TRACED).getStackTrace()).isNotEmpty();
+    }
+
+    @Test
+    void ofCachesStacklessEnumProviders() {
+        assertThat(BusinessException.of(Failure.STACKLESS)).isSameAs(BusinessException.of(Failure.STACKLESS));
+        assertThat(BusinessException.of(Failure.TRACED)).isNotSameAs(BusinessException.of(Failure.TRACED));
+        assertThat(BusinessException.of(Result.fail(4004, "找不到"))).isNotSameAs(BusinessException.of(Result.fail(4004, "找不到")));
+    }
+
+    enum Failure implements ResultProvider {
+
+        STACKLESS(4100, "参数错误", true),
+        TRACED(4101, "状态错误", false);
+
+        private final int code;
+        private final String message;
+        private final boolean stackless;
+
+        Failure(int code, String message, boolean stackless) {
+            this.code = code;
+            this.message = message;
+            this.stackless = stackless;
+        }
+
+        @Override
+        public int getCode() {
+            return code;
+        }
+
+        @Override
+        public String getMessage() {
+            return message;
+        }
+
+        @Override
+        public boolean isStackless() {
+            return stackless;
+        }
+
+    }
+
 }
@@ -0,0 +1,73 @@
+package cn.mindit.atom.test.core.util;
+
+import cn.mindit.atom.core.core.ExpressionCacheRefreshListener;
+import cn.mindit.atom.core.util.ExpressionResolverUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.env.MapPropertySource;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ExpressionResolverUtilsTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+        .withPropertyValues("app.topic=sensor/+", "app.qos=1,2", "app.namespace=3");
+
+    @AfterEach
+    void clearCache() {
+        ExpressionResolverUtils.clearCache();
+    }
+
+    @Test
+    void resolvesPlaceholdersAndSpel() {
+        contextRunner.run(context -> {
+            ConfigurableListableBeanFactory beanFactory = context.getBeanFactory();
+            String[] topics = ExpressionResolverUtils.resolveStringArray(
+                new String[]{"${app.topic}", "#{'a,b'.split(',')}", "plain"}, beanFactory, "topic");
+            assertThat(topics).containsExactly("sensor/+", "a", "b", "plain");
+        });
+    }
+
+    @Test
+    void resolvesIntArray() {
+        contextRunner.run(context -> {
+            ConfigurableListableBeanFactory beanFactory = context.getBeanFactory();
+            assertThat(ExpressionResolverUtils.resolveIntArray(new String[]{"${app.qos}"}, beanFactory, "qos")).containsExactly(1, 2);
+            assertThat(ExpressionResolverUtils.resolveIntArray(new String[]{"#{${app.namespace} + 1}", "0"}, beanFactory, "ns")).containsExactly(4, 0);
+            assertThat(ExpressionResolverUtils.resolveIntArray(new String[]{"#{new int[]{5, 6}}"}, beanFactory, "ns")).containsExactly(5, 6);
+            assertThat(ExpressionResolverUtils.resolveIntArray(new String[0], beanFactory, "qos")).isNull();
+            assertThatThrownBy(() -> ExpressionResolverUtils.resolveIntArray(new String[]{"${app.topic}"}, beanFactory, "qos"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("qos must be numeric");
+        });
+    }
+
+    @Test
+    void cachesUntilRefresh() {
+        contextRunner.run(context -> {
+            ConfigurableListableBeanFactory beanFactory = context.getBeanFactory();
+            Map<String, Object> source = new HashMap<>(Map.of("app.tenant", "t1"));
+            context.getEnvironment().getPropertySources().addFirst(new MapPropertySource("dynamic", source));
+            String[] raw = {"tenant/${app.tenant}"};
+            assertThat(ExpressionResolverUtils.resolveStringArray(raw, beanFactory, "topic")).containsExactly("tenant/t1");
+
+            source.put("app.tenant", "t2");
+            assertThat(ExpressionResolverUtils.resolveStringArray(raw, beanFactory, "topic")).containsExactly("tenant/t1");
+
+            ExpressionCacheRefreshListener listener = new ExpressionCacheRefreshListener();
+            assertThat(listener.supportsEventType(ResolvableType.forClass(ApplicationEvent.class))).isFalse();
+            listener.onApplicationEvent(new ApplicationEvent(this) {
+            });
+            assertThat(ExpressionResolverUtils.resolveStringArray(raw, beanFactory, "topic")).containsExactly("tenant/t2");
+        });
+    }
+
+}
@@ -0,0 +1,121 @@
+package cn.mindit.atom.test.core.util;
+
+import cn.mindit.atom.core.util.FastInvoker;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FastInvokerTest {
+
+    @Test
+    void invokesByArity() throws Exception {
+        Target target = new Target();
+
+        FastInvoker.of(target, Target.class.getMethod("none")).invoke();
+        FastInvoker.of(target, Target.class.getMethod("primitive", int.class)).invoke(42);
+        FastInvoker.of(target, Target.class.getMethod("two", String.class, Long.class)).invoke("topic", 7L);
+        // 返回值被丢弃
+        FastInvoker.of(target, Target.class.getMethod("withResult", String.class)).invoke("r");
+
+        assertThat(target.calls).containsExactly("none", "primitive:42", "two:topic:7", "withResult:r");
+    }
+
+    @Test
+    void invokesStaticMethod() throws Exception {
+        Target.STATIC_CALLS.clear();
+        FastInvoker.of(null, Target.class.getMethod("staticCall", String.class)).invoke("s");
+        assertThat(Target.STATIC_CALLS).containsExactly("s");
+    }
+
+    @Test
+    void throwsOriginalException() throws Exception {
+        FastInvoker invoker = FastInvoker.of(new Target(), Target.class.getMethod("fail", String.class));
+        assertThatThrownBy(() -> invoker.invoke("boom")).isExactlyInstanceOf(IOException.class).hasMessage("boom");
+    }
+
+    @Test
+    void argumentTypeMismatch() throws Exception {
+        FastInvoker invoker = FastInvoker.of(new Target(), Target.class.getMethod("two", String.class, Long.class));
+        assertThatThrownBy(() -> invoker.invoke("topic", "not a long")).isInstanceOf(ClassCastException.class);
+        assertThatThrownBy(() -> invoker.invoke("topic")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void rejectsMoreThanTwoParameters() throws Exception {
+        Method method = Target.class.getMethod("three", String.class, String.class, String.class);
+        assertThatThrownBy(() -> FastInvoker.of(new Target(), method)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void dispatchesThroughProxy() throws Exception {
+        Target target = new Target();
+        List<String> advised = new ArrayList<>();
+        ProxyFactory factory = new ProxyFactory(target);
+        factory.addInterface(Listener.class);
+        factory.addAdvice((org.aopalliance.intercept.MethodInterceptor) invocation -> {
+            advised.add(invocation.getMethod().getName());
+            return invocation.proceed();
+        });
+        Object proxy = factory.getProxy();
+
+        FastInvoker.of(proxy, Listener.class.getMethod("onMessage", String.class)).invoke("m");
+
+        assertThat(advised).containsExactly("onMessage");
+        assertThat(target.calls).containsExactly("onMessage:m");
+    }
+
+    public interface Listener {
+
+        void onMessage(String message);
+
+    }
+
+    static class Target implements Listener {
+
+        static final List<String> STATIC_CALLS = new ArrayList<>();
+
+        final List<String> calls = new ArrayList<>();
+
+        public static void staticCall(String value) {
+            STATIC_CALLS.add(value);
+        }
+
+        public void none() {
+            calls.add("none");
+        }
+
+        public void primitive(int value) {
+            calls.add("primitive:" + value);
+        }
+
+        public void two(String topic, Long value) {
+            calls.add("two:" + topic + ":" + value);
+        }
+
+        public String withResult(String value) {
+            calls.add("withResult:" + value);
+            return value;
+        }
+
+        public void fail(String message) throws IOException {
+            throw new IOException(message);
+        }
+
+        public void three(String a, String b, String c) {
+        }
+
+        @Override
+        public void onMessage(String message) {
+            calls.add("onMessage:" + message);
+        }
+
+    }
+
+}
@@ -6,18 +6,23 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.junit.jupiter.api.Test;
 import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.JavaType;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
 import java.math.BigDecimal;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class JsonUtilsTest {
 
@@ -29,6 +34,16 @@ class JsonUtilsTest {
         private Integer age;
     }
 
+    static class FailingBean {
+        public String getName() {
+            return "Catch";
+        }
+
+        public String getAge() {
+            throw new IllegalStateException("boom");
+        }
+    }
+
     @Data
     @AllArgsConstructor
     @NoArgsConstructor
@@ -152,6 +167,100 @@ class JsonUtilsTest {
         assertThat(map).containsEntry("a", 1);
     }
 
+    @Test
+    void toJsonBytesMatchesToJson() {
+        Bean bean = new Bean("Catch", 30);
+        assertThat(JsonUtils.toJsonBytes(bean)).isEqualTo(JsonUtils.toJson(bean).getBytes(StandardCharsets.UTF_8));
+        assertThat(JsonUtils.toJsonBytes("你好")).isEqualTo("你好".getBytes(StandardCharsets.UTF_8));
+        assertThat(JsonUtils.toJsonBytes(42)).isEqualTo("42".getBytes(StandardCharsets.UTF_8));
+        assertThat(JsonUtils.toJsonBytes(null)).isNull();
+    }
+
+    @Test
+    void writeToWritesJsonAndKeepsStreamOpen() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream() {
+            @Override
+            public void close() {
+                throw new IllegalStateException("closed");
+            }
+        };
+        JsonUtils.writeTo(out, new Bean("Catch", 30));
+        JsonUtils.writeTo(out, null);
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(JsonUtils.toJson(new Bean("Catch", 30)));
+    }
+
+    @Test
+    void writeToNeitherClosesNorFlushesOnFailure() {
+        boolean[] flushedOrClosed = new boolean[1];
+        ByteArrayOutputStream out = new ByteArrayOutputStream() {
+            @Override
+            public void flush() {
+                flushedOrClosed[0] = true;
+            }
+
+            @Override
+            public void close() {
+                flushedOrClosed[0] = true;
+            }
+        };
+        assertThatThrownBy(() -> JsonUtils.writeTo(out, new FailingBean())).hasRootCauseMessage("boom");
+        JsonUtils.writeTo(out, new Bean("Catch", 30));
+        assertThat(flushedOrClosed[0]).isFalse();
+    }
+
+    @Test
+    void toObjectWithByteArraySlice() {
+        byte[] json = "xx{\"name\":\"Catch\",\"age\":30}yy".getBytes(StandardCharsets.UTF_8);
+        Bean bean = JsonUtils.toObject(json, 2, json.length - 4, Bean.class);
+        assertThat(bean).isEqualTo(new Bean("Catch", 30));
+        assertThat(JsonUtils.toObject(json, 2, 0, Bean.class)).isNull();
+        assertThat(JsonUtils.toObject((byte[]) null, Bean.class)).isNull();
+        assertThat(JsonUtils.toObject("中文".getBytes(StandardCharsets.UTF_8), String.class)).isEqualTo("中文");
+    }
+
+    @Test
+    void toObjectWithByteArrayGenericTypes() {
+        byte[] json = "[{\"name\":\"a\",\"age\":1}]".getBytes(StandardCharsets.UTF_8);
+        List<Bean> byWrapper = JsonUtils.toObject(json, List.class, Bean.class);
+        List<Bean> byReference = JsonUtils.toObject(json, new TypeReference<List<Bean>>() {
+        });
+        assertThat(byWrapper).containsExactly(new Bean("a", 1));
+        assertThat(byReference).containsExactly(new Bean("a", 1));
+    }
+
+    @Test
+    void toObjectWithByteBufferDoesNotMovePosition() {
+        byte[] json = "{\"name\":\"Catch\",\"age\":30}".getBytes(StandardCharsets.UTF_8);
+        ByteBuffer heap = ByteBuffer.wrap(json);
+        ByteBuffer direct = ByteBuffer.allocateDirect(json.length).put(json).flip();
+        assertThat(JsonUtils.toObject(heap, Bean.class)).isEqualTo(new Bean("Catch", 30));
+        assertThat(JsonUtils.toObject(direct, Bean.class)).isEqualTo(new Bean("Catch", 30));
+        assertThat(JsonUtils.toObject(direct, String.class)).isEqualTo(new String(json, StandardCharsets.UTF_8));
+        assertThat(heap.position()).isZero();
+        assertThat(direct.position()).isZero();
+        assertThat(JsonUtils.toObject(ByteBuffer.allocate(0), Bean.class)).isNull();
+    }
+
+    @Test
+    void javaTypeAndReaderAreCached() {
+        assertThat(JsonUtils.javaType(Map.class, String.class, Bean.class))
+            .isSameAs(JsonUtils.javaType(Map.class, String.class, Bean.class));
+        assertThat(JsonUtils.javaType(List.class, Bean.class))
+            .isNotEqualTo(JsonUtils.javaType(List.class, String.class));
+        JavaType type = JsonUtils.javaType(List.class, Bean.class);
+        assertThat(JsonUtils.reader(type)).isSameAs(JsonUtils.reader(type));
+        assertThat(JsonUtils.writer(type)).isSameAs(JsonUtils.writer(type));
+    }
+
+    @Test
+    void javaTypeCacheIsNotAffectedByMutatingInnersArray() {
+        Class<?>[] inners = {DateBean.class};
+        JavaType type = JsonUtils.javaType(Set.class, inners);
+        inners[0] = Bean.class;
+        assertThat(JsonUtils.javaType(Set.class, DateBean.class)).isSameAs(type);
+        assertThat(JsonUtils.javaType(Set.class, Bean.class).getContentType().getRawClass()).isEqualTo(Bean.class);
+    }
+
     @Test
     void longsAreSerializedAsStringsToAvoidPrecisionLoss() {
         // BigDecimal serialized as string by default
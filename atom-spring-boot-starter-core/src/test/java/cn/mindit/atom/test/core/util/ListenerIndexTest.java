@@ -0,0 +1,114 @@
+package cn.mindit.atom.test.core.util;
+
+import cn.mindit.atom.core.util.ListenerIndex;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ListenerIndexTest {
+
+    @TempDir
+    Path temp;
+
+    @Test
+    void unlistedClassInIndexedRootIsSkipped() throws Exception {
+        Path indexed = root("indexed", Listed.class, Plain.class);
+        writeIndex(indexed, Listed.class.getName() + "=" + Marker.class.getName());
+        Path plain = root("plain", Unindexed.class);
+
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{indexed.toUri().toURL(), plain.toUri().toURL()}, null)) {
+            assertThat(ListenerIndex.forClassLoader(loader).isEmpty()).isFalse();
+            assertThat(ListenerIndex.isCandidate(loader.loadClass(Listed.class.getName()), Marker.class)).isTrue();
+            assertThat(ListenerIndex.isCandidate(loader.loadClass(Listed.class.getName()), Another.class)).isFalse();
+            assertThat(ListenerIndex.isCandidate(loader.loadClass(Plain.class.getName()), Marker.class)).isFalse();
+            // 所在根没有索引, 仍需反射
+            assertThat(ListenerIndex.isCandidate(loader.loadClass(Unindexed.class.getName()), Marker.class)).isTrue();
+        }
+    }
+
+    @Test
+    void emptyIndexSkipsWholeRoot() throws Exception {
+        Path indexed = root("indexed", Plain.class);
+        writeIndex(indexed, "");
+
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{indexed.toUri().toURL()}, null)) {
+            assertThat(ListenerIndex.isCandidate(loader.loadClass(Plain.class.getName()), Marker.class)).isFalse();
+        }
+    }
+
+    @Test
+    void everyClassIsCandidateWithoutIndex() throws Exception {
+        Path plain = root("plain", Plain.class);
+
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{plain.toUri().toURL()}, null)) {
+            assertThat(ListenerIndex.forClassLoader(loader).isEmpty()).isTrue();
+            assertThat(ListenerIndex.isCandidate(loader.loadClass(Plain.class.getName()), Marker.class)).isTrue();
+        }
+        assertThat(ListenerIndex.isCandidate(String.class, Marker.class)).isTrue();
+    }
+
+    @Test
+    void ignoreProperty() throws Exception {
+        Path indexed = root("indexed", Plain.class);
+        writeIndex(indexed, "");
+
+        System.setProperty(ListenerIndex.IGNORE_INDEX_PROPERTY, "true");
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{indexed.toUri().toURL()}, null)) {
+            assertThat(ListenerIndex.isCandidate(loader.loadClass(Plain.class.getName()), Marker.class)).isTrue();
+        } finally {
+            System.clearProperty(ListenerIndex.IGNORE_INDEX_PROPERTY);
+        }
+    }
+
+    private Path root(String name, Class<?>... classes) throws IOException {
+        Path root = temp.resolve(name);
+        for (Class<?> clazz : classes) {
+            String resource = clazz.getName().replace('.', '/') + ".class";
+            Path target = root.resolve(resource);
+            Files.createDirectories(target.getParent());
+            try (InputStream in = clazz.getClassLoader().getResourceAsStream(resource)) {
+                Files.copy(in, target);
+            }
+        }
+        return root;
+    }
+
+    private static void writeIndex(Path root, String content) throws IOException {
+        Path index = root.resolve(ListenerIndex.INDEX_LOCATION);
+        Files.createDirectories(index.getParent());
+        Files.writeString(index, content);
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @interface Marker {
+
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @interface Another {
+
+    }
+
+    static class Listed {
+
+    }
+
+    static class Plain {
+
+    }
+
+    static class Unindexed {
+
+    }
+
+}
@@ -0,0 +1,170 @@
+package cn.mindit.atom.test.core.util;
+
+import cn.mindit.atom.core.util.AbstractListenerProcessor;
+import cn.mindit.atom.core.util.IndexedListener;
+import cn.mindit.atom.core.util.ListenerScanner;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.Role;
+
+import java.lang.annotation.*;
+import java.lang.reflect.Method;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ListenerScannerTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+        .withUserConfiguration(ScannerConfiguration.class);
+
+    @Test
+    void dispatchesEachAnnotationToItsProcessor() {
+        contextRunner.withBean(MixedListeners.class).withBean(PlainBean.class).run(context -> {
+            assertThat(context).hasSingleBean(ListenerScanner.class);
+            assertThat(context.getBean(AlphaProcessor.class).getConsumers()).containsExactlyInAnyOrder("alpha:a1", "alpha:both");
+            assertThat(context.getBean(BetaProcessor.class).getConsumers()).containsExactlyInAnyOrder("beta:b1", "beta:both");
+        });
+    }
+
+    @Test
+    void findsListenersDeclaredOnInterfaces() {
+        contextRunner.withBean(InterfaceListenerImpl.class).run(context ->
+            assertThat(context.getBean(AlphaProcessor.class).getConsumers()).containsExactly("alpha:iface"));
+    }
+
+    @Test
+    void processorValidationFailsStartup() {
+        contextRunner.withBean(InvalidListener.class).run(context -> {
+            assertThat(context).hasFailed();
+            assertThat(context).getFailure().rootCause().isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("@Alpha");
+        });
+    }
+
+    @Test
+    void noProcessorsIsNoop() {
+        new ApplicationContextRunner().withBean(ListenerScanner.class).withBean(MixedListeners.class)
+            .run(context -> assertThat(context).hasNotFailed());
+    }
+
+    @Test
+    void processorWithoutScannerFailsStartup() {
+        new ApplicationContextRunner().withBean(AlphaProcessor.class).withBean(MixedListeners.class).run(context -> {
+            assertThat(context).hasFailed();
+            assertThat(context).getFailure().isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("ListenerScanner");
+        });
+    }
+
+    @Target(ElementType.METHOD)
+    @Retention(RetentionPolicy.RUNTIME)
+    @IndexedListener
+    @interface Alpha {
+
+        String value();
+
+    }
+
+    @Target(ElementType.METHOD)
+    @Retention(RetentionPolicy.RUNTIME)
+    @IndexedListener
+    @interface Beta {
+
+        String value();
+
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @Import({ListenerScanner.class, AlphaProcessor.class, BetaProcessor.class})
+    static class ScannerConfiguration {
+
+    }
+
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    static class AlphaProcessor extends AbstractListenerProcessor<Alpha, String> {
+
+        @Override
+        protected Class<Alpha> annotationType() {
+            return Alpha.class;
+        }
+
+        @Override
+        protected void validate(Method method) {
+            if (method.getParameterCount() != 0) {
+                throw new IllegalArgumentException("@Alpha method must not have parameters");
+            }
+        }
+
+        @Override
+        protected String buildConsumer(Object bean, Method method, Alpha annotation) {
+            return "alpha:" + annotation.value();
+        }
+
+    }
+
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    static class BetaProcessor extends AbstractListenerProcessor<Beta, String> {
+
+        @Override
+        protected Class<Beta> annotationType() {
+            return Beta.class;
+        }
+
+        @Override
+        protected String buildConsumer(Object bean, Method method, Beta annotation) {
+            return "beta:" + annotation.value();
+        }
+
+    }
+
+    static class MixedListeners {
+
+        @Alpha("a1")
+        public void a1() {
+        }
+
+        @Beta("b1")
+        public void b1() {
+        }
+
+        @Alpha("both")
+        @Beta("both")
+        public void both() {
+        }
+
+    }
+
+    static class PlainBean {
+
+        public void noop() {
+        }
+
+    }
+
+    interface InterfaceListener {
+
+        @Alpha("iface")
+        void onMessage();
+
+    }
+
+    static class InterfaceListenerImpl implements InterfaceListener {
+
+        @Override
+        public void onMessage() {
+        }
+
+    }
+
+    static class InvalidListener {
+
+        @Alpha("invalid")
+        public void onMessage(String message) {
+        }
+
+    }
+
+}
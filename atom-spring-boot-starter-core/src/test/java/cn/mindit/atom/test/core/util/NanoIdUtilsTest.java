@@ -41,4 +41,25 @@ class NanoIdUtilsTest {
         assertThat(NanoIdUtils.nanoId(0)).isEmpty();
     }
 
+    @Test
+    void nanoIdLongerThanBufferIsSupported() {
+        assertThat(NanoIdUtils.nanoId(1000)).hasSize(1000).matches("[0-9A-Za-z_]+");
+    }
+
+    @Test
+    void nanoIdUsesWholeAlphabet() {
+        Set<Character> chars = new HashSet<>();
+        for (char c : NanoIdUtils.nanoId(10000).toCharArray()) {
+            chars.add(c);
+        }
+        assertThat(chars).hasSize(63);
+    }
+
+    @Test
+    void nanoIdsGeneratesBatch() {
+        String[] ids = NanoIdUtils.nanoIds(100, 21);
+        assertThat(ids).hasSize(100).doesNotHaveDuplicates().allMatch(id -> id.length() == 21);
+        assertThat(NanoIdUtils.nanoIds(0, 21)).isEmpty();
+    }
+
 }
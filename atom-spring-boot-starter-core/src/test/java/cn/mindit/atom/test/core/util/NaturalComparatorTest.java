@@ -6,6 +6,7 @@ import org.junit.jupiter.api.Test;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Random;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -54,4 +55,42 @@ class NaturalComparatorTest {
         assertThat(list).containsExactly("file.1.txt", "file.2.txt", "file.10.txt");
     }
 
+    @Test
+    void digitRunsLongerThanLongDoNotOverflow() {
+        assertThat(comparator.compare("v123456789012345678901234567890", "v123456789012345678901234567891")).isNegative();
+        assertThat(comparator.compare("v99999999999999999999", "v100000000000000000000")).isNegative();
+        assertThat(comparator.compare("v000000000000000000000001", "v2")).isNegative();
+    }
+
+    @Test
+    void keyOrderMatchesComparator() {
+        Random random = new Random(42);
+        String alphabet = "aB0 1.9-Z";
+        for (int i = 0; i < 10000; i++) {
+            String s1 = randomString(random, alphabet);
+            String s2 = randomString(random, alphabet);
+            int expected = Integer.signum(comparator.compare(s1, s2));
+            assertThat(Integer.signum(NaturalComparator.key(s1).compareTo(NaturalComparator.key(s2))))
+                .as("%s vs %s", s1, s2)
+                .isEqualTo(expected);
+        }
+        assertThat(NaturalComparator.key("abc")).isEqualTo(NaturalComparator.key("ABC"))
+                                                .hasSameHashCodeAs(NaturalComparator.key("ABC"));
+    }
+
+    @Test
+    void sortUsesPrecomputedKeys() {
+        List<String> list = new ArrayList<>(Arrays.asList("aka-11.jpg", "AKA-2.jpg", "aka-1.jpg", "aka-01.jpg"));
+        NaturalComparator.sort(list);
+        assertThat(list).containsExactly("aka-01.jpg", "aka-1.jpg", "AKA-2.jpg", "aka-11.jpg");
+    }
+
+    private static String randomString(Random random, String alphabet) {
+        char[] chars = new char[random.nextInt(8)];
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = alphabet.charAt(random.nextInt(alphabet.length()));
+        }
+        return new String(chars);
+    }
+
 }
@@ -1,6 +1,7 @@
 package cn.mindit.atom.test.core.util;
 
 import cn.mindit.atom.core.util.Result;
+import cn.mindit.atom.core.util.ResultProvider;
 import cn.mindit.atom.core.util.ServiceException;
 import org.junit.jupiter.api.Test;
 
@@ -59,4 +60,55 @@ class ServiceExceptionTest {
         assertThat(new ServiceException()).isInstanceOf(RuntimeException.class);
     }
 
+    @Test
+    void stacklessProviderSkipsStackTrace() {
+        ServiceException ex = new ServiceException(Failure.STACKLESS);
+        assertThat(ex.isStackless()).isTrue();
+        assertThat(ex.getStackTrace()).isEmpty();
+        assertThat(ex.getCode()).isEqualTo(4100);
+
+        ex.addSuppressed(new RuntimeException("ignored"));
+        assertThat(ex.getSuppressed()).isEmpty();
+        assertThat(new ServiceException(Failure.TRACED).getStackTrace()).isNotEmpty();
+    }
+
+    @Test
+    void ofCachesStacklessEnumProviders() {
+        assertThat(ServiceException.of(Failure.STACKLESS)).isSameAs(ServiceException.of(Failure.STACKLESS));
+        assertThat(ServiceException.of(Failure.TRACED)).isNotSameAs(ServiceException.of(Failure.TRACED));
+        assertThat(ServiceException.of(Result.fail(4004, "找不到"))).isNotSameAs(ServiceException.of(Result.fail(4004, "找不到")));
+    }
+
+    enum Failure implements ResultProvider {
+
+        STACKLESS(4100, "参数错误", true),
+        TRACED(4101, "状态错误", false);
+
+        private final int code;
+        private final String message;
+        private final boolean stackless;
+
+        Failure(int code, String message, boolean stackless) {
+            this.code = code;
+            this.message = message;
+            this.stackless = stackless;
+        }
+
+        @Override
+        public int getCode() {
+            return code;
+        }
+
+        @Override
+        public String getMessage() {
+            return message;
+        }
+
+        @Override
+        public boolean isStackless() {
+            return stackless;
+        }
+
+    }
+
 }
@@ -0,0 +1,39 @@
+package cn.mindit.atom.test.core.util;
+
+import cn.mindit.atom.core.util.ThreadUtils;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.thread.Threading;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.concurrent.ThreadFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ThreadUtilsTest {
+
+    @Test
+    void platformThreadsWhenVirtualDisabled() {
+        MockEnvironment environment = new MockEnvironment();
+        assertThat(ThreadUtils.isVirtual(environment)).isFalse();
+
+        Thread thread = ThreadUtils.threadFactory(environment, "worker-").newThread(() -> {
+        });
+        assertThat(thread.getName()).isEqualTo("worker-1");
+        assertThat(thread.isDaemon()).isFalse();
+    }
+
+    @Test
+    void followsSpringThreadingWhenVirtualEnabled() {
+        MockEnvironment environment = new MockEnvironment().withProperty("spring.threads.virtual.enabled", "true");
+        boolean virtual = Threading.VIRTUAL.isActive(environment);
+        assertThat(ThreadUtils.isVirtual(environment)).isEqualTo(virtual);
+
+        ThreadFactory factory = ThreadUtils.threadFactory(environment, "worker-");
+        Thread thread = factory.newThread(() -> {
+        });
+        assertThat(thread.getName()).startsWith("worker-");
+        // 虚拟线程始终是守护线程
+        assertThat(thread.isDaemon()).isEqualTo(virtual);
+    }
+
+}
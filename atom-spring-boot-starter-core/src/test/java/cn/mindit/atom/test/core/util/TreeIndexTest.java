@@ -0,0 +1,188 @@
+package cn.mindit.atom.test.core.util;
+
+import cn.mindit.atom.core.util.SortTreeNode;
+import cn.mindit.atom.core.util.TreeIndex;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TreeIndexTest {
+
+    static class Node implements SortTreeNode<Node, Long, Integer> {
+        Long id;
+        Long parentId;
+        Integer sort;
+        List<Node> children;
+
+        Node(Long id, Long parentId, Integer sort) {
+            this.id = id;
+            this.parentId = parentId;
+            this.sort = sort;
+        }
+
+        @Override
+        public Long getId() {
+            return id;
+        }
+
+        @Override
+        public Long getParentId() {
+            return parentId;
+        }
+
+        @Override
+        public Integer getSort() {
+            return sort;
+        }
+
+        @Override
+        public List<Node> getChildren() {
+            return children;
+        }
+
+        @Override
+        public void setChildren(List<Node> children) {
+            this.children = children;
+        }
+    }
+
+    /**
+     * 1
+     * ├── 2
+     * │   └── 4
+     * └── 3
+     *     └── 5
+     *         └── 6
+     */
+    private static List<Node> flat() {
+        return List.of(
+            new Node(1L, 0L, 1),
+            new Node(3L, 1L, 2),
+            new Node(2L, 1L, 1),
+            new Node(4L, 2L, 1),
+            new Node(5L, 3L, 1),
+            new Node(6L, 5L, 1)
+        );
+    }
+
+    @Test
+    void buildDoesNotMaterializeChildren() {
+        List<Node> nodes = flat();
+        TreeIndex<Node, Long> index = TreeIndex.ofSorted(nodes);
+        assertThat(index.size()).isEqualTo(6);
+        assertThat(nodes).allMatch(node -> node.getChildren() == null);
+        assertThat(index.children(1L)).extracting(Node::getId).containsExactly(2L, 3L);
+        assertThat(index.children(6L)).isEmpty();
+    }
+
+    @Test
+    void pathReturnsAncestorsFromTop() {
+        TreeIndex<Node, Long> index = TreeIndex.ofSorted(flat());
+        assertThat(index.path(6L)).extracting(Node::getId).containsExactly(1L, 3L, 5L, 6L);
+        assertThat(index.path(99L)).isEmpty();
+        assertThat(index.isAncestor(3L, 6L)).isTrue();
+        assertThat(index.isAncestor(2L, 6L)).isFalse();
+    }
+
+    @Test
+    void descendantsArePreOrder() {
+        TreeIndex<Node, Long> index = TreeIndex.ofSorted(flat());
+        assertThat(index.descendants(1L)).extracting(Node::getId).containsExactly(2L, 4L, 3L, 5L, 6L);
+        assertThat(index.descendants(6L)).isEmpty();
+    }
+
+    @Test
+    void subtreeMaterializesOnlyThatBranch() {
+        TreeIndex<Node, Long> index = TreeIndex.ofSorted(flat());
+        Node node3 = index.subtree(3L);
+        assertThat(node3.getChildren()).extracting(Node::getId).containsExactly(5L);
+        assertThat(index.get(5L).getChildren()).extracting(Node::getId).containsExactly(6L);
+        assertThat(index.get(1L).getChildren()).isNull();
+        assertThat(index.get(2L).getChildren()).isNull();
+    }
+
+    @Test
+    void treeMatchesBuildSortTree() {
+        TreeIndex<Node, Long> index = TreeIndex.ofSorted(flat());
+        List<Node> roots = index.tree(0L);
+        assertThat(roots).extracting(Node::getId).containsExactly(1L);
+        assertThat(roots.get(0).getChildren()).extracting(Node::getId).containsExactly(2L, 3L);
+        assertThat(index.get(2L).getChildren()).extracting(Node::getId).containsExactly(4L);
+    }
+
+    @Test
+    void treeOfMissingRootDoesNotCreateEntry() {
+        TreeIndex<Node, Long> index = TreeIndex.ofSorted(flat());
+        assertThat(index.tree(99L)).isEmpty();
+        assertThat(index.children(99L)).isEmpty();
+        index.add(new Node(7L, 99L, 1));
+        assertThat(index.children(99L)).extracting(Node::getId).containsExactly(7L);
+    }
+
+    @Test
+    void cyclicDataDoesNotLoopForever() {
+        TreeIndex<Node, Long> index = TreeIndex.of(List.of(new Node(1L, 2L, 1), new Node(2L, 1L, 1)));
+        assertThat(index.descendants(1L)).hasSize(2);
+        assertThat(index.path(1L)).isNotEmpty();
+        assertThat(index.isAncestor(3L, 1L)).isFalse();
+    }
+
+    @Test
+    void addInsertsBySortAndUpdatesMaterializedTree() {
+        TreeIndex<Node, Long> index = TreeIndex.ofSorted(flat());
+        List<Node> roots = index.tree(0L);
+        index.add(new Node(7L, 1L, 0));
+        index.add(new Node(8L, 6L, 1));
+        assertThat(roots.get(0).getChildren()).extracting(Node::getId).containsExactly(7L, 2L, 3L);
+        assertThat(index.get(6L).getChildren()).extracting(Node::getId).containsExactly(8L);
+        assertThat(index.path(8L)).extracting(Node::getId).containsExactly(1L, 3L, 5L, 6L, 8L);
+        assertThatThrownBy(() -> index.add(new Node(7L, 1L, 0))).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void removeDropsWholeSubtree() {
+        TreeIndex<Node, Long> index = TreeIndex.ofSorted(flat());
+        List<Node> roots = index.tree(0L);
+        assertThat(index.remove(3L)).extracting(Node::getId).isEqualTo(3L);
+        assertThat(index.size()).isEqualTo(3);
+        assertThat(index.contains(6L)).isFalse();
+        assertThat(roots.get(0).getChildren()).extracting(Node::getId).containsExactly(2L);
+        assertThat(index.remove(99L)).isNull();
+    }
+
+    @Test
+    void moveRelocatesSubtreeAndRejectsCycles() {
+        TreeIndex<Node, Long> index = TreeIndex.ofSorted(flat());
+        index.tree(0L);
+        index.move(5L, 2L);
+        assertThat(index.parentId(5L)).isEqualTo(2L);
+        assertThat(index.get(2L).getChildren()).extracting(Node::getId).containsExactly(4L, 5L);
+        assertThat(index.children(3L)).isEmpty();
+        assertThat(index.path(6L)).extracting(Node::getId).containsExactly(1L, 2L, 5L, 6L);
+        assertThatThrownBy(() -> index.move(2L, 6L)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> index.move(2L, 2L)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void moveToSameParentResortsAfterSortChange() {
+        TreeIndex<Node, Long> index = TreeIndex.ofSorted(flat());
+        Node node2 = index.get(2L);
+        node2.sort = 9;
+        index.move(2L, 1L);
+        assertThat(index.children(1L)).extracting(Node::getId).containsExactly(3L, 2L);
+    }
+
+    @Test
+    void reparentMovesAllChildren() {
+        TreeIndex<Node, Long> index = TreeIndex.ofSorted(flat());
+        index.reparent(1L, 0L);
+        assertThat(index.children(0L)).extracting(Node::getId).containsExactly(1L, 2L, 3L);
+        assertThat(index.children(1L)).isEmpty();
+        assertThat(index.parentId(3L)).isEqualTo(0L);
+        assertThatThrownBy(() -> index.reparent(3L, 6L)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+}
@@ -5,7 +5,9 @@ import cn.mindit.atom.core.util.TreeNode;
 import cn.mindit.atom.core.util.TreeUtils;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -118,4 +120,48 @@ class TreeUtilsTest {
             .containsExactly(1, 2, 3);
     }
 
+    @Test
+    void buildSortTreeKeepsInputOrderForEqualSort() {
+        List<SortNode> flat = List.of(
+            new SortNode(1L, 0L, 1),
+            new SortNode(2L, 1L, 1),
+            new SortNode(3L, 1L, 0),
+            new SortNode(4L, 1L, 1)
+        );
+        List<SortNode> roots = TreeUtils.buildSortTree(flat, 0L);
+        assertThat(roots.get(0).getChildren())
+            .extracting(SortNode::getId)
+            .containsExactly(3L, 2L, 4L);
+    }
+
+    @Test
+    void parallelBuildMatchesSequentialBuild() {
+        List<SortNode> sequential = randomTree(20000);
+        List<SortNode> parallel = randomTree(20000);
+        TreeUtils.buildSortTree(sequential, 0L);
+        TreeUtils.buildSortTree(parallel, 0L, true);
+        for (int i = 0; i < sequential.size(); i++) {
+            List<SortNode> expected = sequential.get(i).getChildren();
+            List<SortNode> actual = parallel.get(i).getChildren();
+            if (expected == null) {
+                assertThat(actual).isNull();
+            } else {
+                assertThat(actual).extracting(SortNode::getId)
+                                  .containsExactlyElementsOf(expected.stream().map(SortNode::getId).toList());
+            }
+        }
+        List<Node> nodes = List.of(new Node(1L, 0L), new Node(2L, 1L));
+        assertThat(TreeUtils.buildTree(nodes, 0L, true)).extracting(Node::getId).containsExactly(1L);
+        assertThat(nodes.get(0).getChildren()).extracting(Node::getId).containsExactly(2L);
+    }
+
+    private static List<SortNode> randomTree(int size) {
+        List<SortNode> nodes = new ArrayList<>(size);
+        Random random = new Random(7);
+        for (long i = 1; i <= size; i++) {
+            nodes.add(new SortNode(i, i == 1 ? 0L : 1 + random.nextLong(i - 1), random.nextInt(100)));
+        }
+        return nodes;
+    }
+
 }
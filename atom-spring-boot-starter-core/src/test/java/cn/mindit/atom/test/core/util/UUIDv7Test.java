@@ -3,9 +3,11 @@ package cn.mindit.atom.test.core.util;
 import cn.mindit.atom.core.util.UUIDv7;
 import org.junit.jupiter.api.Test;
 
+import java.nio.ByteBuffer;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -53,4 +55,50 @@ class UUIDv7Test {
         assertThat(set).hasSize(1000);
     }
 
+    @Test
+    void generatorIsStrictlyIncreasingWithinSameMillisecond() {
+        UUIDv7.Generator generator = new UUIDv7.Generator(() -> 1_700_000_000_000L);
+        UUID previous = generator.uuid();
+        for (int i = 0; i < 10000; i++) {
+            UUID current = generator.uuid();
+            assertThat(Long.compareUnsigned(current.getMostSignificantBits(), previous.getMostSignificantBits())).isPositive();
+            assertThat(current.version()).isEqualTo(7);
+            assertThat(current.variant()).isEqualTo(2);
+            previous = current;
+        }
+    }
+
+    @Test
+    void generatorCounterOverflowCarriesIntoTimestamp() {
+        long now = 1_700_000_000_000L;
+        UUIDv7.Generator generator = new UUIDv7.Generator(() -> now);
+        UUID last = null;
+        for (int i = 0; i < 4096; i++) {
+            last = generator.uuid();
+        }
+        assertThat(UUIDv7.timestamp(last)).isEqualTo(now + 1);
+    }
+
+    @Test
+    void generatorStaysMonotonicOnClockRollback() {
+        AtomicLong clock = new AtomicLong(1_700_000_000_000L);
+        UUIDv7.Generator generator = new UUIDv7.Generator(clock::get);
+        UUID before = generator.uuid();
+        clock.addAndGet(-5000);
+        UUID after = generator.uuid();
+        assertThat(UUIDv7.timestamp(after)).isEqualTo(UUIDv7.timestamp(before));
+        assertThat(Long.compareUnsigned(after.getMostSignificantBits(), before.getMostSignificantBits())).isPositive();
+    }
+
+    @Test
+    void generatorWritesBigEndianBytes() {
+        byte[] bytes = new byte[20];
+        UUIDv7.generator().writeTo(bytes, 4);
+        ByteBuffer buffer = ByteBuffer.wrap(bytes, 4, 16);
+        UUID uuid = new UUID(buffer.getLong(), buffer.getLong());
+        assertThat(uuid.version()).isEqualTo(7);
+        assertThat(uuid.variant()).isEqualTo(2);
+        assertThat(UUIDv7.generator().uuidBytes()).hasSize(16);
+    }
+
 }
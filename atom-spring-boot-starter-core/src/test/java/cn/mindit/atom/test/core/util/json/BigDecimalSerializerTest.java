@@ -9,6 +9,12 @@ import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.text.DecimalFormat;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -37,6 +43,20 @@ class BigDecimalSerializerTest {
         private BigDecimal amount;
     }
 
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    static class GroupedBean {
+        @JsonDecimalFormat("#,##0.00")
+        private BigDecimal amount;
+
+        @JsonDecimalFormat("0.##")
+        private BigDecimal rate;
+
+        @JsonDecimalFormat("0.0%")
+        private BigDecimal percent;
+    }
+
     @Test
     void withoutAnnotationUsesPlainString() {
         String json = JsonUtils.toJson(new PlainBean(new BigDecimal("3.14159")));
@@ -61,4 +81,51 @@ class BigDecimalSerializerTest {
         assertThat(json).contains("\"amount\":\"3.14\"");
     }
 
+    @Test
+    void groupingAndOptionalFractionMatchDecimalFormat() {
+        String json = JsonUtils.toJson(new GroupedBean(new BigDecimal("-1234567.891"), new BigDecimal("0.500"), new BigDecimal("0.1234")));
+        assertThat(json).isEqualTo("{\"amount\":\"-1,234,567.89\",\"rate\":\"0.5\",\"percent\":\"12.3%\"}");
+        assertThat(JsonUtils.toJson(new GroupedBean(new BigDecimal("-0.001"), BigDecimal.ZERO, BigDecimal.ZERO)))
+            .isEqualTo("{\"amount\":\"-0.00\",\"rate\":\"0\",\"percent\":\"0.0%\"}");
+    }
+
+    @Test
+    void roundingFollowsBigDecimalSetScale() {
+        // DecimalFormat 对该值会错误地进位为 0.01
+        String json = JsonUtils.toJson(new HalfDownBean(new BigDecimal("0.0050")));
+        assertThat(json).contains("\"amount\":\"0.00\"");
+    }
+
+    @Test
+    void concurrentSerializationIsConsistent() throws Exception {
+        int threads = 8;
+        int rounds = 2000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int seed = t;
+                futures.add(executor.submit(() -> {
+                    DecimalFormat grouped = new DecimalFormat("#,##0.00");
+                    DecimalFormat percent = new DecimalFormat("0.0%");
+                    grouped.setRoundingMode(RoundingMode.HALF_UP);
+                    percent.setRoundingMode(RoundingMode.HALF_UP);
+                    for (int i = 0; i < rounds; i++) {
+                        BigDecimal amount = BigDecimal.valueOf(seed * 1_000_003L + i * 7919L, 3);
+                        BigDecimal ratio = BigDecimal.valueOf(seed * 31L + i, 4);
+                        String json = JsonUtils.toJson(new GroupedBean(amount, ratio, ratio));
+                        assertThat(json).contains("\"amount\":\"" + grouped.format(amount) + "\"")
+                                        .contains("\"percent\":\"" + percent.format(ratio) + "\"");
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
 }
@@ -0,0 +1,83 @@
+package cn.mindit.atom.test.core.util.json;
+
+import cn.mindit.atom.core.util.JsonUtils;
+import cn.mindit.atom.core.util.json.FixedDateTimeCodec;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FixedDateTimeCodecTest {
+
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    static class Bean {
+        private LocalDate date;
+        private LocalTime time;
+        private LocalDateTime datetime;
+    }
+
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    static class CustomBean {
+        @JsonFormat(pattern = "yyyy/MM/dd HH:mm")
+        private LocalDateTime datetime;
+    }
+
+    @Test
+    void formatsAndParsesFixedWidth() {
+        char[] buffer = new char[FixedDateTimeCodec.DATE_TIME_LENGTH + 2];
+        LocalDateTime value = LocalDateTime.of(987, 3, 4, 5, 6, 7);
+        FixedDateTimeCodec.formatDateTime(value, buffer, 1);
+        assertThat(new String(buffer, 1, FixedDateTimeCodec.DATE_TIME_LENGTH)).isEqualTo("0987-03-04 05:06:07");
+        assertThat(FixedDateTimeCodec.parseDateTime(buffer, 1, FixedDateTimeCodec.DATE_TIME_LENGTH)).isEqualTo(value);
+    }
+
+    @Test
+    void invalidFieldsAreLeftToFormatter() {
+        assertThat(FixedDateTimeCodec.parseDate("2023-02-29".toCharArray(), 0, 10)).isNull();
+        assertThat(FixedDateTimeCodec.parseTime("24:00:00".toCharArray(), 0, 8)).isNull();
+        assertThat(FixedDateTimeCodec.parseDateTime("2024-01-01T00:00:00".toCharArray(), 0, 19)).isNull();
+        assertThat(FixedDateTimeCodec.parseDate("0000-01-01".toCharArray(), 0, 10)).isNull();
+        assertThat(FixedDateTimeCodec.parseDate("2024-1-01".toCharArray(), 0, 9)).isNull();
+    }
+
+    @Test
+    void roundTripsThroughJsonUtils() {
+        Bean bean = new Bean(LocalDate.of(2024, 2, 29), LocalTime.of(23, 59, 59, 999_000_000), LocalDateTime.of(2024, 12, 31, 0, 0, 1));
+        String json = JsonUtils.toJson(bean);
+        assertThat(json).isEqualTo("{\"date\":\"2024-02-29\",\"time\":\"23:59:59\",\"datetime\":\"2024-12-31 00:00:01\"}");
+        Bean parsed = JsonUtils.toObject(json, Bean.class);
+        assertThat(parsed.getDate()).isEqualTo(bean.getDate());
+        assertThat(parsed.getTime()).isEqualTo(LocalTime.of(23, 59, 59));
+        assertThat(parsed.getDatetime()).isEqualTo(bean.getDatetime());
+    }
+
+    @Test
+    void formatterFallbackKeepsOriginalRules() {
+        // 超出 4 位的年份与 SMART 模式下的日期修正仍由 DateTimeFormatter 处理
+        assertThat(JsonUtils.toJson(LocalDate.of(12345, 1, 1))).isEqualTo("\"+12345-01-01\"");
+        Bean bean = JsonUtils.toObject("{\"date\":\"2023-02-30\"}", Bean.class);
+        assertThat(bean.getDate()).isEqualTo(LocalDate.of(2023, 2, 28));
+        assertThatThrownBy(() -> JsonUtils.toObject("{\"time\":\"25:00:00\"}", Bean.class)).isInstanceOf(RuntimeException.class);
+    }
+
+    @Test
+    void customPatternIsNotAffected() {
+        CustomBean bean = new CustomBean(LocalDateTime.of(2024, 1, 2, 3, 4));
+        String json = JsonUtils.toJson(bean);
+        assertThat(json).isEqualTo("{\"datetime\":\"2024/01/02 03:04\"}");
+        assertThat(JsonUtils.toObject(json, CustomBean.class).getDatetime()).isEqualTo(bean.getDatetime());
+    }
+
+}
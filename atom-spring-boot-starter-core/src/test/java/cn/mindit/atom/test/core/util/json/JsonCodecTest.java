@@ -0,0 +1,75 @@
+package cn.mindit.atom.test.core.util.json;
+
+import cn.mindit.atom.core.util.JsonUtils;
+import cn.mindit.atom.core.util.json.JsonCodec;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import org.junit.jupiter.api.Test;
+import tools.jackson.core.type.TypeReference;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JsonCodecTest {
+
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    static class Bean {
+        private String name;
+        private Integer age;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @EqualsAndHashCode(callSuper = true)
+    static class SubBean extends Bean {
+        private String extra;
+
+        SubBean(String name, Integer age, String extra) {
+            super(name, age);
+            this.extra = extra;
+        }
+    }
+
+    @Test
+    void decodeMatchesJsonUtils() {
+        JsonCodec<Bean> codec = JsonCodec.of(Bean.class);
+        String json = "{\"name\":\"Catch\",\"age\":30}";
+        assertThat(codec.decode(json)).isEqualTo(JsonUtils.toObject(json, Bean.class));
+        assertThat(codec.decode(json.getBytes(StandardCharsets.UTF_8))).isEqualTo(new Bean("Catch", 30));
+        assertThat(codec.decode((String) null)).isNull();
+        assertThat(codec.decode("")).isNull();
+    }
+
+    @Test
+    void decodeGenericTypes() {
+        String json = "[{\"name\":\"a\",\"age\":1}]";
+        JsonCodec<List<Bean>> byReference = JsonCodec.of(new TypeReference<>() {
+        });
+        JsonCodec<List<Bean>> byWrapper = JsonCodec.of(List.class, Bean.class);
+        assertThat(byReference.decode(json)).containsExactly(new Bean("a", 1));
+        assertThat(byWrapper.decode(json)).containsExactly(new Bean("a", 1));
+    }
+
+    @Test
+    void charSequenceIsPassedThrough() {
+        JsonCodec<String> codec = JsonCodec.of(String.class);
+        assertThat(codec.decode("plain text")).isEqualTo("plain text");
+        assertThat(codec.encode("plain text")).isEqualTo("plain text");
+    }
+
+    @Test
+    void encodeUsesRuntimeTypeForNonFinalBean() {
+        JsonCodec<Bean> codec = JsonCodec.of(Bean.class);
+        SubBean value = new SubBean("Catch", 30, "x");
+        assertThat(codec.encode(value)).isEqualTo(JsonUtils.toJson(value));
+        assertThat(codec.encodeToBytes(value)).isEqualTo(JsonUtils.toJsonBytes(value));
+        assertThat(codec.encode(null)).isNull();
+    }
+
+}
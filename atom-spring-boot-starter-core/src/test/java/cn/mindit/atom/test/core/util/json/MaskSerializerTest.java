@@ -122,6 +122,31 @@ class MaskSerializerTest {
         assertThat(result).contains("*");
     }
 
+    @Test
+    void maskCountsSurrogatePairsAsOneChar() {
+        assertThat(writeString(MaskType.NAME, "\uD842\uDFB7小明")).isEqualTo("\"\uD842\uDFB7**\"");
+        assertThat(write(String.class, MaskType.CUSTOM, 0, 1, "\uD83D\uDE00a")).isEqualTo("\"*a\"");
+    }
+
+    @Test
+    void outOfRangeCustomMaskKeepsOriginal() {
+        assertThat(write(String.class, MaskType.CUSTOM, 6, 8, "ABCDE")).isEqualTo("\"ABCDE\"");
+        assertThat(write(String.class, MaskType.CUSTOM, 3, 1, "ABCDE")).isEqualTo("\"ABCDE\"");
+        assertThat(write(String.class, MaskType.CUSTOM, 3, 99, "ABCDE")).isEqualTo("\"ABC**\"");
+    }
+
+    @Test
+    void longValueExceedingBufferIsMasked() {
+        String value = "a".repeat(1000) + "@example.com";
+        assertThat(writeString(MaskType.EMAIL, value)).isEqualTo("\"a" + "*".repeat(999) + "@example.com\"");
+    }
+
+    @Test
+    void blankValueOfDesensitizedTypesBecomesEmpty() {
+        assertThat(writeString(MaskType.PASSWORD, "  ")).isEqualTo("\"\"");
+        assertThat(writeString(MaskType.CAR_LICENSE, "  ")).isEqualTo("\"\"");
+    }
+
     @Test
     void staticInstanceIsAccessible() {
         assertThat(MaskSerializer.instance).isNotNull();
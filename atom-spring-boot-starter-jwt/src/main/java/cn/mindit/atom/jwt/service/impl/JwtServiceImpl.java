@@ -29,7 +29,7 @@ public class JwtServiceImpl implements JwtService {
             ? DEFAULT_ALGORITHM
             : jwsSigner.supportedJWSAlgorithms().stream().findFirst().orElseThrow(() -> new ServiceException("未知签名算法"));
         JWSHeader jwsHeader = new JWSHeader(algorithm);
-        JWSObject jwsObject = new JWSObject(jwsHeader, new Payload(JsonUtils.toJson(payload)));
+        JWSObject jwsObject = new JWSObject(jwsHeader, new Payload(JsonUtils.toJsonBytes(payload)));
         try {
             jwsObject.sign(jwsSigner);
             return jwsObject.serialize();
@@ -50,7 +50,7 @@ public class JwtServiceImpl implements JwtService {
             if (clazz == String.class) {
                 return (T) jwsObject.getPayload().toString();
             }
-            return JsonUtils.toObject(jwsObject.getPayload().toString(), clazz);
+            return JsonUtils.toObject(jwsObject.getPayload().toBytes(), clazz);
         } catch (ParseException | JOSEException e) {
             log.debug("JWT parse failed: {}", e.getMessage());
             return null;
@@ -28,6 +28,12 @@ public class MqttConsumer {
      * QoS列表, 如果length为1, 则所有主题的QoS都为第一个值, 默认所有QoS为1
      */
     private int[] qos;
+
+    /**
+     * QoS 表达式, 不为空时解析后覆盖 {@link #qos}
+     */
+    private String[] qosString;
+
     /**
      * 消费对象
      */
@@ -40,6 +40,10 @@ public class MqttConsumerProcessor {
             }
             String[] topics = ExpressionResolverUtils.resolveStringArray(consumer.getTopics(), beanFactory, "MQTT topic");
             consumer.setTopics(topics);
+            String[] qosString = consumer.getQosString();
+            if (qosString != null && qosString.length > 0) {
+                consumer.setQos(ExpressionResolverUtils.resolveIntArray(qosString, beanFactory, "MQTT qos"));
+            }
             consumer.initialize();
             List<MqttConsumer> list = consumerMap.computeIfAbsent(consumer.getId(), k -> new ArrayList<>());
             list.add(consumer);
@@ -1,5 +1,7 @@
 package cn.mindit.atom.mqtt;
 
+import cn.mindit.atom.core.util.IndexedListener;
+
 import java.lang.annotation.*;
 
 /**
@@ -9,6 +11,7 @@ import java.lang.annotation.*;
 @Target(ElementType.METHOD)
 @Retention(RetentionPolicy.RUNTIME)
 @Documented
+@IndexedListener
 public @interface MqttListener {
 
     /**
@@ -32,6 +35,15 @@ public @interface MqttListener {
      */
     int[] qos() default 0;
 
+    /**
+     * QoS 表达式, 支持占位符与 SpEL, 不为空时覆盖 {@link #qos()}
+     * <p>
+     * 每项可解析为数字、逗号分隔的数字字符串或 int[], 例如 {@code "${app.mqtt.qos:1}"}
+     *
+     * @return QoS 表达式
+     */
+    String[] qosString() default {};
+
     /**
      * 异常处理器 Bean 名称, 为空则使用全局 {@link MqttListenerErrorHandler} Bean
      *
@@ -1,13 +1,16 @@
 package cn.mindit.atom.mqtt;
 
 import cn.mindit.atom.core.util.AbstractListenerProcessor;
-import cn.mindit.atom.core.util.JsonUtils;
+import cn.mindit.atom.core.util.FastInvoker;
+import cn.mindit.atom.core.util.json.JsonCodec;
 import lombok.extern.slf4j.Slf4j;
 import org.jspecify.annotations.NonNull;
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.BeanFactoryAware;
 import org.springframework.beans.factory.NoSuchBeanDefinitionException;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.Role;
 
 import java.lang.reflect.Method;
 
@@ -16,6 +19,7 @@ import java.lang.reflect.Method;
  * @since 2024-06-16
  */
 @Slf4j
+@Role(BeanDefinition.ROLE_INFRASTRUCTURE)
 public class MqttListenerProcessor extends AbstractListenerProcessor<MqttListener, MqttConsumer> implements BeanFactoryAware {
 
     private BeanFactory beanFactory;
@@ -49,15 +53,20 @@ public class MqttListenerProcessor extends AbstractListenerProcessor<MqttListene
     protected MqttConsumer buildConsumer(Object bean, Method method, MqttListener listener) {
         Class<?> payloadType = method.getParameterTypes()[1];
         boolean needsConversion = payloadType != String.class;
+        // 启动时按参数的泛型类型预先绑定 reader, 避免每条消息重复解析类型
+        JsonCodec<Object> codec = needsConversion ? JsonCodec.of(method.getGenericParameterTypes()[1]) : null;
+        FastInvoker invoker = FastInvoker.of(bean, method);
         String errorHandlerBeanName = listener.errorHandler();
-        return new MqttConsumer(listener.id(), listener.topics(), listener.qos(), (topic, value) -> {
+        MqttConsumer consumer = new MqttConsumer(listener.id(), listener.topics(), listener.qos(), (topic, value) -> {
             try {
-                Object arg = needsConversion ? JsonUtils.toObject(value, payloadType) : value;
-                method.invoke(bean, topic, arg);
+                Object arg = needsConversion ? codec.decode(value) : value;
+                invoker.invoke(topic, arg);
             } catch (Exception e) {
                 handleInvokeError(errorHandlerBeanName, topic, value, e);
             }
         });
+        consumer.setQosString(listener.qosString());
+        return consumer;
     }
 
     private void handleInvokeError(String errorHandlerBeanName, String topic, String message, Exception e) {
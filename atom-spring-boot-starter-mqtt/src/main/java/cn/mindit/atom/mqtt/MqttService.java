@@ -1,5 +1,9 @@
 package cn.mindit.atom.mqtt;
 
+import cn.mindit.atom.core.util.JsonUtils;
+
+import java.nio.charset.StandardCharsets;
+
 /**
  * @author Catch
  * @since 2024-12-17
@@ -13,6 +17,35 @@ public interface MqttService {
 
     void send(String id, String topic, String message, int qos, boolean retained);
 
+    /**
+     * 发送原始字节消息, 字节类 send 与 sendJson 最终都委托到此方法
+     * <p>
+     * 默认实现按 UTF-8 解码后委托给 String 版本, 以兼容只实现了 String 版本的已有实现;
+     * 实现类应覆盖此方法直接发送字节, 并让 String 版本委托到此方法, 以避免中间 String
+     */
+    default void send(String id, String topic, byte[] payload, int qos, boolean retained) {
+        send(id, topic, new String(payload, StandardCharsets.UTF_8), qos, retained);
+    }
+
+    default void send(String topic, byte[] payload) {
+        send(defaultId(), topic, payload, DEFAULT_QOS, DEFAULT_RETAINED);
+    }
+
+    default void send(String topic, byte[] payload, int qos, boolean retained) {
+        send(defaultId(), topic, payload, qos, retained);
+    }
+
+    /**
+     * 将对象序列化为 Json 字节后直接发送, 不经过中间 String
+     */
+    default <T> void sendJson(String topic, T payload) {
+        send(defaultId(), topic, JsonUtils.toJsonBytes(payload), DEFAULT_QOS, DEFAULT_RETAINED);
+    }
+
+    default <T> void sendJson(String id, String topic, T payload, int qos, boolean retained) {
+        send(id, topic, JsonUtils.toJsonBytes(payload), qos, retained);
+    }
+
     default void send(String topic, String message) {
         send(defaultId(), topic, message, DEFAULT_QOS, DEFAULT_RETAINED);
     }
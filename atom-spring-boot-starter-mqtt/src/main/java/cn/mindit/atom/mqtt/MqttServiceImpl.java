@@ -25,12 +25,16 @@ public class MqttServiceImpl implements MqttService {
 
     @Override
     public void send(String id, String topic, String message, int qos, boolean retained) {
+        send(id, topic, message.getBytes(StandardCharsets.UTF_8), qos, retained);
+    }
+
+    @Override
+    public void send(String id, String topic, byte[] payload, int qos, boolean retained) {
         if (log.isDebugEnabled()) {
-            log.debug("MQTT send: id={}, topic={}, qos: {}, retained: {}, message={}", id, topic, qos, retained, message);
+            log.debug("MQTT send: id={}, topic={}, qos: {}, retained: {}, message={}", id, topic, qos, retained, new String(payload, StandardCharsets.UTF_8));
         }
         try {
             Object mqttClient = applicationContext.getBean(MqttProperties.CLIENT_BEAN_PREFIX + id);
-            byte[] payload = message.getBytes(StandardCharsets.UTF_8);
             if (mqttClient instanceof org.eclipse.paho.mqttv5.client.MqttClient v5) {
                 v5.publish(topic, payload, qos, retained);
                 return;
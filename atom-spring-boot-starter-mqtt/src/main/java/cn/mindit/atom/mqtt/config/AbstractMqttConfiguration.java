@@ -1,6 +1,10 @@
 package cn.mindit.atom.mqtt.config;
 
 import cn.hutool.core.util.StrUtil;
+import cn.mindit.atom.core.metrics.MetricNames;
+import cn.mindit.atom.core.metrics.Metrics;
+import cn.mindit.atom.core.metrics.Timer;
+import cn.mindit.atom.core.util.ThreadUtils;
 import cn.mindit.atom.mqtt.MqttConsumer;
 import cn.mindit.atom.mqtt.MqttConsumerProcessor;
 import cn.mindit.atom.mqtt.MqttSubscriber;
@@ -13,6 +17,9 @@ import org.springframework.boot.context.event.ApplicationStartedEvent;
 import org.springframework.context.ApplicationListener;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskDecorator;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.ArrayList;
@@ -37,7 +44,9 @@ public abstract class AbstractMqttConfiguration<C> implements ApplicationListene
     protected final List<MqttSubscriber> mqttSubscribers;
     private final List<C> managedClients = new ArrayList<>();
 
-    private ThreadPoolTaskExecutor asyncExecutor;
+    private Executor asyncExecutor;
+    private Timer successTimer;
+    private Timer errorTimer;
 
     @Value("${spring.application.name:atom}")
     protected String applicationName;
@@ -70,11 +79,14 @@ public abstract class AbstractMqttConfiguration<C> implements ApplicationListene
             return;
         }
 
+        successTimer = Metrics.lazyTimer(MetricNames.MQTT_MESSAGE, "version", version(), MetricNames.TAG_RESULT, MetricNames.RESULT_SUCCESS);
+        errorTimer = Metrics.lazyTimer(MetricNames.MQTT_MESSAGE, "version", version(), MetricNames.TAG_RESULT, MetricNames.RESULT_ERROR);
+
         ConfigurableApplicationContext applicationContext = event.getApplicationContext();
         ConfigurableListableBeanFactory beanFactory = applicationContext.getBeanFactory();
         Map<String, List<MqttConsumer>> consumerMap = MqttConsumerProcessor.processConsumerMap(applicationContext, mqttProperties, mqttSubscribers);
 
-        Executor executor = initExecutor();
+        Executor executor = initExecutor(applicationContext.getEnvironment(), applicationContext.getBeanProvider(TaskDecorator.class).getIfUnique());
 
         List<MqttProperties.MqttInstance> enabledInstances = instances.stream().filter(MqttProperties.MqttInstance::getEnabled).toList();
         for (MqttProperties.MqttInstance instance : enabledInstances) {
@@ -117,16 +129,48 @@ public abstract class AbstractMqttConfiguration<C> implements ApplicationListene
         }
     }
 
-    private Executor initExecutor() {
+    /**
+     * 调用消费者并记录 {@link MetricNames#MQTT_MESSAGE} 耗时, 异常原样抛出
+     */
+    protected void consume(MqttConsumer consumer, String topic, String payload) {
+        long start = System.nanoTime();
+        Timer timer = errorTimer;
+        try {
+            consumer.getConsumer().accept(topic, payload);
+            timer = successTimer;
+        } finally {
+            timer.record(System.nanoTime() - start);
+        }
+    }
+
+    private Executor initExecutor(Environment environment, TaskDecorator taskDecorator) {
         if (!Boolean.TRUE.equals(mqttProperties.getAsync())) {
             return null;
         }
         MqttProperties.MqttExecutor config = mqttProperties.getExecutor();
+        String threadNamePrefix = config.getThreadNamePrefix() + version() + "-";
+        if (ThreadUtils.isVirtual(environment)) {
+            // 每条消息一个虚拟线程, 在途上限与线程池的 最大线程数 + 队列容量 一致, 超出时同样拒绝
+            int concurrencyLimit = config.getMaxPoolSize() + config.getQueueCapacity();
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+            executor.setVirtualThreads(true);
+            executor.setConcurrencyLimit(concurrencyLimit);
+            executor.setRejectTasksWhenLimitReached(true);
+            if (taskDecorator != null) {
+                executor.setTaskDecorator(taskDecorator);
+            }
+            this.asyncExecutor = executor;
+            log.info("MQTT {} async executor initialized: virtual threads, limit={}", version(), concurrencyLimit);
+            return executor;
+        }
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(config.getCorePoolSize());
         executor.setMaxPoolSize(config.getMaxPoolSize());
         executor.setQueueCapacity(config.getQueueCapacity());
-        executor.setThreadNamePrefix(config.getThreadNamePrefix() + version() + "-");
+        executor.setThreadNamePrefix(threadNamePrefix);
+        if (taskDecorator != null) {
+            executor.setTaskDecorator(taskDecorator);
+        }
         executor.initialize();
         this.asyncExecutor = executor;
         log.info("MQTT {} async executor initialized: core={}, max={}, queue={}",
@@ -152,8 +196,10 @@ public abstract class AbstractMqttConfiguration<C> implements ApplicationListene
             }
         }
         managedClients.clear();
-        if (asyncExecutor != null) {
-            asyncExecutor.shutdown();
+        if (asyncExecutor instanceof ThreadPoolTaskExecutor executor) {
+            executor.shutdown();
+        } else if (asyncExecutor instanceof SimpleAsyncTaskExecutor executor) {
+            executor.close();
         }
     }
 
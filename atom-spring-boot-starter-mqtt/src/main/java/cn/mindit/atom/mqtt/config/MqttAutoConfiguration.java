@@ -1,5 +1,6 @@
 package cn.mindit.atom.mqtt.config;
 
+import cn.mindit.atom.core.util.ListenerScanner;
 import cn.mindit.atom.mqtt.MqttListenerProcessor;
 import cn.mindit.atom.mqtt.MqttServiceImpl;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
@@ -11,7 +12,7 @@ import org.springframework.context.annotation.Import;
  * @author Catch
  * @since 2024-06-16
  */
-@Import({Mqttv3Configuration.class, Mqttv5Configuration.class, MqttListenerProcessor.class, MqttServiceImpl.class})
+@Import({Mqttv3Configuration.class, Mqttv5Configuration.class, MqttListenerProcessor.class, ListenerScanner.class, MqttServiceImpl.class})
 @EnableConfigurationProperties(MqttProperties.class)
 @ConditionalOnProperty(value = "atom.mqtt.enabled", matchIfMissing = true)
 @AutoConfiguration
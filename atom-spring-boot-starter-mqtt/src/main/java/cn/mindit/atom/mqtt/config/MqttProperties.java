@@ -97,11 +97,11 @@ public class MqttProperties {
     public static class MqttExecutor {
 
         /**
-         * 核心线程数
+         * 核心线程数, 启用虚拟线程时不使用
          */
         private Integer corePoolSize = 4;
         /**
-         * 最大线程数
+         * 最大线程数, 启用虚拟线程时与队列容量之和作为在途消息上限
          */
         private Integer maxPoolSize = 16;
         /**
@@ -64,10 +64,10 @@ public class Mqttv3Configuration extends AbstractMqttConfiguration<MqttClient> {
         if (executor != null) {
             return (topic, message) -> {
                 String payload = new String(message.getPayload(), StandardCharsets.UTF_8);
-                executor.execute(() -> consumer.getConsumer().accept(topic, payload));
+                executor.execute(() -> consume(consumer, topic, payload));
             };
         }
-        return (topic, message) -> consumer.getConsumer().accept(topic, new String(message.getPayload(), StandardCharsets.UTF_8));
+        return (topic, message) -> consume(consumer, topic, new String(message.getPayload(), StandardCharsets.UTF_8));
     }
 
     @Override
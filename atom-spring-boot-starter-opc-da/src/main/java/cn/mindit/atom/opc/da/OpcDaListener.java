@@ -1,5 +1,7 @@
 package cn.mindit.atom.opc.da;
 
+import cn.mindit.atom.core.util.IndexedListener;
+
 import java.lang.annotation.*;
 
 /**
@@ -9,6 +11,7 @@ import java.lang.annotation.*;
 @Target(ElementType.METHOD)
 @Retention(RetentionPolicy.RUNTIME)
 @Documented
+@IndexedListener
 public @interface OpcDaListener {
 
     /**
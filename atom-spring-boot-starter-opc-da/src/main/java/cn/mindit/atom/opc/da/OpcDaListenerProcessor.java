@@ -1,7 +1,10 @@
 package cn.mindit.atom.opc.da;
 
 import cn.mindit.atom.core.util.AbstractListenerProcessor;
+import cn.mindit.atom.core.util.FastInvoker;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.Role;
 
 import java.lang.reflect.Method;
 
@@ -10,6 +13,7 @@ import java.lang.reflect.Method;
  * @since 2024-06-16
  */
 @Slf4j
+@Role(BeanDefinition.ROLE_INFRASTRUCTURE)
 public class OpcDaListenerProcessor extends AbstractListenerProcessor<OpcDaListener, OpcDaConsumer> {
 
     @Override
@@ -19,9 +23,10 @@ public class OpcDaListenerProcessor extends AbstractListenerProcessor<OpcDaListe
 
     @Override
     protected OpcDaConsumer buildConsumer(Object bean, Method method, OpcDaListener listener) {
+        FastInvoker invoker = FastInvoker.of(bean, method);
         return new OpcDaConsumer(listener.id(), listener.items(), (topic, value) -> {
             try {
-                method.invoke(bean, topic, value);
+                invoker.invoke(topic, value);
             } catch (Exception e) {
                 log.error("OPC DA invoke error", e);
             }
@@ -45,6 +45,9 @@ public class OpcDaService {
         subscriberItem(opcDaProperties.getId(), items, consumer);
     }
 
+    /**
+     * 动态订阅, 项目按字面值使用, 不解析占位符与 SpEL, 调用方传入的项目可能来自外部输入
+     */
     public void subscriberItem(String id, String[] items, BiConsumer<String, String> consumer) {
         if (items == null || items.length == 0) {
             return;
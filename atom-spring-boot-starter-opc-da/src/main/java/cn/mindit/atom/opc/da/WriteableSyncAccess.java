@@ -10,6 +10,7 @@ import org.openscada.opc.lib.da.Server;
 
 import java.net.UnknownHostException;
 import java.util.Map;
+import java.util.concurrent.ThreadFactory;
 
 /**
  * @author Catch
@@ -20,6 +21,8 @@ public class WriteableSyncAccess extends WriteableAccessBase implements Runnable
 
     private Thread runner = null;
 
+    private ThreadFactory threadFactory = null;
+
     private Throwable lastError = null;
 
     public WriteableSyncAccess(final Server server, final int period) throws IllegalArgumentException, UnknownHostException, NotConnectedException, JIException, DuplicateGroupException {
@@ -30,6 +33,14 @@ public class WriteableSyncAccess extends WriteableAccessBase implements Runnable
         super(server, period, logTag);
     }
 
+    /**
+     * @param threadFactory 创建轮询线程的工厂, 读取结果的回调也在该线程上执行
+     */
+    public WriteableSyncAccess(final Server server, final int period, final ThreadFactory threadFactory) throws IllegalArgumentException, UnknownHostException, NotConnectedException, JIException, DuplicateGroupException {
+        super(server, period);
+        this.threadFactory = threadFactory;
+    }
+
     public void run() {
         while (this.active) {
             try {
@@ -77,7 +88,11 @@ public class WriteableSyncAccess extends WriteableAccessBase implements Runnable
     protected synchronized void start() throws JIException, IllegalArgumentException, UnknownHostException, NotConnectedException, DuplicateGroupException {
         super.start();
 
-        this.runner = new Thread(this, "UtgardSyncReader");
+        if (this.threadFactory != null) {
+            this.runner = this.threadFactory.newThread(this);
+        } else {
+            this.runner = new Thread(this, "UtgardSyncReader");
+        }
         this.runner.setDaemon(true);
         this.runner.start();
     }
@@ -1,5 +1,6 @@
 package cn.mindit.atom.opc.da.config;
 
+import cn.mindit.atom.core.util.ListenerScanner;
 import cn.mindit.atom.opc.da.OpcDaListenerProcessor;
 import cn.mindit.atom.opc.da.OpcDaService;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -11,7 +12,7 @@ import org.springframework.boot.autoconfigure.AutoConfiguration;
  * @author Catch
  * @since 2024-06-21
  */
-@Import({OpcDaConfiguration.class, OpcDaService.class, OpcDaListenerProcessor.class})
+@Import({OpcDaConfiguration.class, OpcDaService.class, OpcDaListenerProcessor.class, ListenerScanner.class})
 @EnableConfigurationProperties(OpcDaProperties.class)
 @ConditionalOnProperty(value = "atom.opc.da.enabled", matchIfMissing = true)
 @AutoConfiguration
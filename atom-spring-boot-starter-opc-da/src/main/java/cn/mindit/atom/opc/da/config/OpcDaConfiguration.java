@@ -1,6 +1,10 @@
 package cn.mindit.atom.opc.da.config;
 
 import cn.hutool.core.util.StrUtil;
+import cn.mindit.atom.core.metrics.MetricNames;
+import cn.mindit.atom.core.metrics.Metrics;
+import cn.mindit.atom.core.metrics.Timer;
+import cn.mindit.atom.core.util.ThreadUtils;
 import cn.mindit.atom.opc.da.*;
 import cn.mindit.atom.opc.da.util.OpcDaUtils;
 import lombok.RequiredArgsConstructor;
@@ -20,6 +24,7 @@ import org.springframework.context.ApplicationListener;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -39,9 +44,12 @@ public class OpcDaConfiguration implements ApplicationListener<ApplicationStarte
 
     // 192 = OPC_QUALITY_GOOD, 数据可正常获取
     private static final short QUALITY_GOOD = 192;
+    private static final Timer SUCCESS_TIMER = Metrics.lazyTimer(MetricNames.OPC_DA_VALUE, MetricNames.TAG_RESULT, MetricNames.RESULT_SUCCESS);
+    private static final Timer ERROR_TIMER = Metrics.lazyTimer(MetricNames.OPC_DA_VALUE, MetricNames.TAG_RESULT, MetricNames.RESULT_ERROR);
 
     private final OpcDaProperties opcDaProperties;
     private final List<OpcDaSubscriber> opcDaSubscribers;
+    private final Environment environment;
     private final List<AutoReconnectController> managedControllers = new ArrayList<>();
 
     @Override
@@ -87,7 +95,8 @@ public class OpcDaConfiguration implements ApplicationListener<ApplicationStarte
             ci.setProgId(instance.getProgId());
             ci.setClsid(instance.getClsId());
 
-            Server server = new Server(ci, Executors.newSingleThreadScheduledExecutor());
+            String threadNamePrefix = "opc-da-" + instance.getId() + "-";
+            Server server = new Server(ci, Executors.newSingleThreadScheduledExecutor(ThreadUtils.threadFactory(environment, threadNamePrefix)));
             AutoReconnectController controller = new AutoReconnectController(server);
             controller.connect();
 
@@ -96,7 +105,8 @@ public class OpcDaConfiguration implements ApplicationListener<ApplicationStarte
                 JISystem.setJavaCoClassAutoCollection(false);
                 access = new WriteableAsync20Access(server, instance.getPeriod(), instance.getInitialRefresh());
             } else {
-                access = new WriteableSyncAccess(server, instance.getPeriod());
+                // 同步模式下轮询读取与数据回调都在该线程上执行, 启用虚拟线程时 DCOM 阻塞读取不再独占平台线程
+                access = new WriteableSyncAccess(server, instance.getPeriod(), ThreadUtils.threadFactory(environment, threadNamePrefix + "reader-"));
             }
             return new OpcDaConnection(controller, access);
         } catch (Exception e) {
@@ -136,15 +146,21 @@ public class OpcDaConfiguration implements ApplicationListener<ApplicationStarte
                     for (String item : items) {
                         try {
                             access.addItem(item, (it, itState) -> {
+                                Short quality = itState.getQuality();
+                                if (quality == null || quality != QUALITY_GOOD) {
+                                    return;
+                                }
+                                long start = System.nanoTime();
+                                Timer timer = ERROR_TIMER;
                                 try {
-                                    Short quality = itState.getQuality();
-                                    if (quality == QUALITY_GOOD) {
-                                        JIVariant jiVariant = itState.getValue();
-                                        String value = OpcDaUtils.getString(jiVariant);
-                                        itemsConsumer.accept(item, value);
-                                    }
+                                    JIVariant jiVariant = itState.getValue();
+                                    String value = OpcDaUtils.getString(jiVariant);
+                                    itemsConsumer.accept(item, value);
+                                    timer = SUCCESS_TIMER;
                                 } catch (Exception e) {
                                     log.error("OPC DA invoke error", e);
+                                } finally {
+                                    timer.record(System.nanoTime() - start);
                                 }
                             });
                         } catch (Exception e) {
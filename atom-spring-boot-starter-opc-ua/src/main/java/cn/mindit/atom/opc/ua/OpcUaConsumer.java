@@ -29,6 +29,11 @@ public class OpcUaConsumer {
      */
     private int[] namespaceIndices;
 
+    /**
+     * 命名空间索引表达式, 不为空时解析后覆盖 {@link #namespaceIndices}
+     */
+    private String[] namespaceIndicesString;
+
     /**
      * 消费对象
      */
@@ -40,6 +40,10 @@ public class OpcUaConsumerProcessor {
             }
             String[] items = ExpressionResolverUtils.resolveStringArray(consumer.getItems(), beanFactory, "OPC UA item");
             consumer.setItems(items);
+            String[] namespaceIndicesString = consumer.getNamespaceIndicesString();
+            if (namespaceIndicesString != null && namespaceIndicesString.length > 0) {
+                consumer.setNamespaceIndices(ExpressionResolverUtils.resolveIntArray(namespaceIndicesString, beanFactory, "OPC UA namespaceIndices"));
+            }
             consumer.initialize();
             List<OpcUaConsumer> list = consumerMap.computeIfAbsent(consumer.getId(), k -> new ArrayList<>());
             list.add(consumer);
@@ -1,5 +1,7 @@
 package cn.mindit.atom.opc.ua;
 
+import cn.mindit.atom.core.util.IndexedListener;
+
 import java.lang.annotation.*;
 
 /**
@@ -9,6 +11,7 @@ import java.lang.annotation.*;
 @Target(ElementType.METHOD)
 @Retention(RetentionPolicy.RUNTIME)
 @Documented
+@IndexedListener
 public @interface OpcUaListener {
 
     /**
@@ -26,4 +29,9 @@ public @interface OpcUaListener {
      */
     int[] namespaceIndices() default {0};
 
+    /**
+     * 命名空间索引表达式, 支持占位符与 SpEL, 不为空时覆盖 {@link #namespaceIndices()}
+     */
+    String[] namespaceIndicesString() default {};
+
 }
@@ -1,7 +1,10 @@
 package cn.mindit.atom.opc.ua;
 
 import cn.mindit.atom.core.util.AbstractListenerProcessor;
+import cn.mindit.atom.core.util.FastInvoker;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.Role;
 
 import java.lang.reflect.Method;
 
@@ -10,6 +13,7 @@ import java.lang.reflect.Method;
  * @since 2024-06-16
  */
 @Slf4j
+@Role(BeanDefinition.ROLE_INFRASTRUCTURE)
 public class OpcUaListenerProcessor extends AbstractListenerProcessor<OpcUaListener, OpcUaConsumer> {
 
     @Override
@@ -19,13 +23,16 @@ public class OpcUaListenerProcessor extends AbstractListenerProcessor<OpcUaListe
 
     @Override
     protected OpcUaConsumer buildConsumer(Object bean, Method method, OpcUaListener listener) {
-        return new OpcUaConsumer(listener.id(), listener.items(), listener.namespaceIndices(), (topic, value) -> {
+        FastInvoker invoker = FastInvoker.of(bean, method);
+        OpcUaConsumer consumer = new OpcUaConsumer(listener.id(), listener.items(), listener.namespaceIndices(), (topic, value) -> {
             try {
-                method.invoke(bean, topic, value);
+                invoker.invoke(topic, value);
             } catch (Exception e) {
                 log.error("OPC UA invoke error", e);
             }
         });
+        consumer.setNamespaceIndicesString(listener.namespaceIndicesString());
+        return consumer;
     }
 
 }
@@ -1,5 +1,6 @@
 package cn.mindit.atom.opc.ua.config;
 
+import cn.mindit.atom.core.util.ListenerScanner;
 import cn.mindit.atom.opc.ua.OpcUaListenerProcessor;
 import cn.mindit.atom.opc.ua.OpcUaService;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -11,7 +12,7 @@ import org.springframework.boot.autoconfigure.AutoConfiguration;
  * @author Catch
  * @since 2024-06-23
  */
-@Import({OpcUaConfiguration.class, OpcUaService.class, OpcUaListenerProcessor.class})
+@Import({OpcUaConfiguration.class, OpcUaService.class, OpcUaListenerProcessor.class, ListenerScanner.class})
 @EnableConfigurationProperties(OpcUaProperties.class)
 @ConditionalOnProperty(value = "atom.opc.ua.enabled", matchIfMissing = true)
 @AutoConfiguration
@@ -1,6 +1,9 @@
 package cn.mindit.atom.opc.ua.config;
 
 import cn.mindit.atom.core.util.JsonUtils;
+import cn.mindit.atom.core.metrics.MetricNames;
+import cn.mindit.atom.core.metrics.Metrics;
+import cn.mindit.atom.core.metrics.Timer;
 import cn.mindit.atom.opc.ua.OpcUaConsumer;
 import cn.mindit.atom.opc.ua.OpcUaConsumerProcessor;
 import cn.mindit.atom.opc.ua.OpcUaSubscriber;
@@ -40,6 +43,8 @@ import java.util.concurrent.TimeUnit;
 public class OpcUaConfiguration implements ApplicationListener<ApplicationStartedEvent>, Ordered, DisposableBean {
 
     private static final long DISCONNECT_TIMEOUT_SECONDS = 3L;
+    private static final Timer SUCCESS_TIMER = Metrics.lazyTimer(MetricNames.OPC_UA_VALUE, MetricNames.TAG_RESULT, MetricNames.RESULT_SUCCESS);
+    private static final Timer ERROR_TIMER = Metrics.lazyTimer(MetricNames.OPC_UA_VALUE, MetricNames.TAG_RESULT, MetricNames.RESULT_ERROR);
 
     private final OpcUaProperties opcUaProperties;
     private final List<OpcUaSubscriber> opcUaSubscribers;
@@ -116,8 +121,15 @@ public class OpcUaConfiguration implements ApplicationListener<ApplicationStarte
                         log.debug("OPC UA consumer item:{}, value:{}", item, dataValue);
                     }
                     if (dataValue.getStatusCode() != null && dataValue.getStatusCode().isGood()) {
-                        String value = JsonUtils.toJson(dataValue.getValue().getValue());
-                        consumer.getConsumer().accept(item, value);
+                        long start = System.nanoTime();
+                        Timer timer = ERROR_TIMER;
+                        try {
+                            String value = JsonUtils.toJson(dataValue.getValue().getValue());
+                            consumer.getConsumer().accept(item, value);
+                            timer = SUCCESS_TIMER;
+                        } finally {
+                            timer.record(System.nanoTime() - start);
+                        }
                     }
                 });
             }
@@ -1,5 +1,9 @@
 package cn.mindit.atom.redis.service.impl;
 
+import cn.mindit.atom.core.metrics.Counter;
+import cn.mindit.atom.core.metrics.MetricNames;
+import cn.mindit.atom.core.metrics.Metrics;
+import cn.mindit.atom.core.metrics.Timer;
 import cn.mindit.atom.core.util.JsonUtils;
 import cn.mindit.atom.redis.config.RedisProperties;
 import cn.mindit.atom.redis.service.CacheService;
@@ -30,6 +34,10 @@ public class CacheServiceImpl implements CacheService {
     private static final String NULL_VALUE = "__NULL__";
     private static final long SCAN_COUNT = 1000L;
 
+    private static final Counter HIT_COUNTER = Metrics.lazyCounter(MetricNames.REDIS_CACHE, MetricNames.TAG_RESULT, MetricNames.CACHE_HIT);
+    private static final Counter MISS_COUNTER = Metrics.lazyCounter(MetricNames.REDIS_CACHE, MetricNames.TAG_RESULT, MetricNames.CACHE_MISS);
+    private static final Timer LOAD_TIMER = Metrics.lazyTimer(MetricNames.REDIS_CACHE_LOAD);
+
     private final StringRedisTemplate stringRedisTemplate;
     private final RedisProperties redisProperties;
 
@@ -67,9 +75,11 @@ public class CacheServiceImpl implements CacheService {
         ValueOperations<String, String> ops = stringRedisTemplate.opsForValue();
         String json = ops.get(key);
         if (json != null) {
+            HIT_COUNTER.increment();
             return NULL_VALUE.equals(json) ? null : deserializer.apply(json);
         }
-        T data = supplier.get();
+        MISS_COUNTER.increment();
+        T data = LOAD_TIMER.record(supplier);
         if (timeout == null) {
             timeout = redisProperties.getCacheServiceTimeout();
         }
@@ -85,9 +95,11 @@ public class CacheServiceImpl implements CacheService {
         ValueOperations<String, String> ops = stringRedisTemplate.opsForValue();
         String json = ops.get(key);
         if (json != null) {
+            HIT_COUNTER.increment();
             return NULL_VALUE.equals(json) ? null : deserializer.apply(json);
         }
-        T data = supplier.get();
+        MISS_COUNTER.increment();
+        T data = LOAD_TIMER.record(supplier);
         if (data == null) {
             ops.set(key, NULL_VALUE);
         } else {
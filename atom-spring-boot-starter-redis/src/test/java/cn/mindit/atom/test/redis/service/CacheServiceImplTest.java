@@ -1,5 +1,8 @@
 package cn.mindit.atom.test.redis.service;
 
+import cn.mindit.atom.core.metrics.LocalMetricsRegistry;
+import cn.mindit.atom.core.metrics.MetricNames;
+import cn.mindit.atom.core.metrics.Metrics;
 import cn.mindit.atom.core.util.JsonUtils;
 import cn.mindit.atom.redis.config.RedisProperties;
 import cn.mindit.atom.redis.service.CacheService;
@@ -79,6 +82,20 @@ class CacheServiceImplTest {
         verify(valueOperations).set("key", NULL_VALUE, Duration.ofMinutes(30));
     }
 
+    @Test
+    void cacheRecordsHitAndMissMetrics() {
+        LocalMetricsRegistry registry = new LocalMetricsRegistry();
+        Metrics.setRegistry(registry);
+        when(valueOperations.get("hit")).thenReturn(NULL_VALUE);
+        when(valueOperations.get("miss")).thenReturn(null);
+        cacheService.cache("hit", () -> null, User.class);
+        cacheService.cache("miss", () -> null, User.class);
+        cacheService.cache("miss", () -> null, User.class);
+        assertThat(registry.counter(MetricNames.REDIS_CACHE, MetricNames.TAG_RESULT, MetricNames.CACHE_HIT).count()).isEqualTo(1);
+        assertThat(registry.counter(MetricNames.REDIS_CACHE, MetricNames.TAG_RESULT, MetricNames.CACHE_MISS).count()).isEqualTo(2);
+        assertThat(registry.timer(MetricNames.REDIS_CACHE_LOAD).count()).isEqualTo(2);
+    }
+
     @Test
     void cacheReturnsNullWhenNullMarkerIsCached() {
         when(valueOperations.get("key")).thenReturn(NULL_VALUE);
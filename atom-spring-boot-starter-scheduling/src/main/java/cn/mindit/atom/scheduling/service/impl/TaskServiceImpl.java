@@ -1,5 +1,9 @@
 package cn.mindit.atom.scheduling.service.impl;
 
+import cn.mindit.atom.core.metrics.MetricNames;
+import cn.mindit.atom.core.metrics.Metrics;
+import cn.mindit.atom.core.metrics.Timer;
+import cn.mindit.atom.core.util.FastInvoker;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
 import jakarta.validation.Validator;
@@ -12,7 +16,6 @@ import org.springframework.scheduling.TaskScheduler;
 import org.springframework.scheduling.support.CronTrigger;
 import org.springframework.util.StringUtils;
 
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.time.ZoneId;
 import java.util.List;
@@ -219,7 +222,7 @@ public class TaskServiceImpl implements TaskService {
 
         try {
             methodToCall = bean.getClass().getMethod(methodName, String.class);
-            return new TaskAction(bean, methodToCall, true);
+            return new TaskAction(FastInvoker.of(bean, methodToCall), true);
         } catch (NoSuchMethodException e) {
             try {
                 methodToCall = bean.getClass().getMethod(methodName);
@@ -228,7 +231,7 @@ public class TaskServiceImpl implements TaskService {
                         "Task '%s' provided parameter '%s', but method '%s' in class '%s' only exists without parameters.",
                         task.getId(), task.getParam(), methodName, task.getClazz()));
                 }
-                return new TaskAction(bean, methodToCall, false);
+                return new TaskAction(FastInvoker.of(bean, methodToCall), false);
             } catch (NoSuchMethodException ex) {
                 String errorMsg = String.format(
                     "Task method '%s' not found in class '%s' compatible with %s.",
@@ -239,23 +242,26 @@ public class TaskServiceImpl implements TaskService {
     }
 
     private Runnable createRunnable(Task task, TaskAction taskAction) {
+        // 按目标类与方法打标签, 取值受代码中的 Bean 方法限制; 同一方法上的任务共用指标, 删除任务后无需清理
+        Timer successTimer = Metrics.lazyTimer(MetricNames.SCHEDULING_TASK, "class", task.getClazz(), "method", task.getMethod(),
+            MetricNames.TAG_RESULT, MetricNames.RESULT_SUCCESS);
+        Timer errorTimer = Metrics.lazyTimer(MetricNames.SCHEDULING_TASK, "class", task.getClazz(), "method", task.getMethod(),
+            MetricNames.TAG_RESULT, MetricNames.RESULT_ERROR);
         return () -> {
+            long start = System.nanoTime();
+            Timer timer = errorTimer;
             try {
                 if (taskAction.requiresParam) {
-                    taskAction.method.invoke(taskAction.bean, task.getParam());
+                    taskAction.invoker.invoke(task.getParam());
                 } else {
-                    taskAction.method.invoke(taskAction.bean);
+                    taskAction.invoker.invoke();
                 }
-            } catch (InvocationTargetException e) {
-                Throwable cause = e.getCause() != null ? e.getCause() : e;
-                log.error("Exception occurred during execution of task: {} - Method: {}#{} - {}",
-                    task.getId(), task.getClazz(), task.getMethod(), cause.getMessage(), cause);
-            } catch (IllegalAccessException e) {
-                log.error("Illegal access during execution of task: {} - Method: {}#{}",
-                    task.getId(), task.getClazz(), task.getMethod(), e);
+                timer = successTimer;
             } catch (Exception e) {
-                log.error("Unexpected error during execution logic of task: {} - Method: {}#{}",
-                    task.getId(), task.getClazz(), task.getMethod(), e);
+                log.error("Exception occurred during execution of task: {} - Method: {}#{} - {}",
+                    task.getId(), task.getClazz(), task.getMethod(), e.getMessage(), e);
+            } finally {
+                timer.record(System.nanoTime() - start);
             }
         };
     }
@@ -275,7 +281,7 @@ public class TaskServiceImpl implements TaskService {
         }
     }
 
-    private record TaskAction(Object bean, Method method, boolean requiresParam) {
+    private record TaskAction(FastInvoker invoker, boolean requiresParam) {
 
     }
 
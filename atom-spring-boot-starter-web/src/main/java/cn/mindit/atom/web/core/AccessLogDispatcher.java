@@ -0,0 +1,171 @@
+package cn.mindit.atom.web.core;
+
+import cn.mindit.atom.core.core.TraceContext;
+import cn.mindit.atom.core.metrics.Counter;
+import cn.mindit.atom.core.metrics.MetricNames;
+import cn.mindit.atom.core.metrics.Metrics;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 请求日志的异步输出管道
+ * <p>
+ * 请求线程把 {@link AccessLogEvent} 放入 {@link AccessLogRingBuffer} 后立即返回, 由单个后台线程格式化并写日志.
+ * 队列按条数 {@link LoggingProperties#getBufferSize()} 与 body 字节数 {@link LoggingProperties#getBufferMaxSize()} 双重限制,
+ * 任一超出时按 {@link LoggingProperties#getOverflowPolicy()} 丢弃或阻塞, 丢弃数计入 {@link MetricNames#WEB_ACCESS_LOG_DROPPED}.
+ * 日志仍以 {@link LoggingInterceptor} 的 Logger 输出, 原有的日志级别配置保持有效
+ *
+ * @author Catch
+ * @since 2026-10-18
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AccessLogDispatcher implements InitializingBean, DisposableBean {
+
+    private static final Logger ACCESS_LOG = LoggerFactory.getLogger(LoggingInterceptor.class);
+
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private static final long BLOCK_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    private static final Counter DROPPED_COUNTER = Metrics.lazyCounter(MetricNames.WEB_ACCESS_LOG_DROPPED);
+
+    private final LoggingProperties loggingProperties;
+
+    private final AtomicLong dropped = new AtomicLong();
+
+    private final AtomicLong queuedBytes = new AtomicLong();
+
+    private long maxQueuedBytes;
+
+    private AccessLogRingBuffer<AccessLogEvent> buffer;
+
+    private Thread worker;
+
+    private volatile boolean running;
+
+    private volatile boolean idle;
+
+    @Override
+    public void afterPropertiesSet() {
+        if (!Boolean.TRUE.equals(loggingProperties.getEnabled()) || !loggingProperties.isAsync()) {
+            return;
+        }
+        this.buffer = new AccessLogRingBuffer<>(loggingProperties.getBufferSize());
+        this.maxQueuedBytes = loggingProperties.getBufferMaxSize().toBytes();
+        this.running = true;
+        this.worker = new Thread(this::drain, "atom-access-log");
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    /**
+     * 投递一条日志, 未开启异步或已关闭时在当前线程直接输出
+     */
+    public void dispatch(AccessLogEvent event) {
+        if (!running) {
+            write(event);
+            return;
+        }
+        while (!offer(event)) {
+            if (loggingProperties.getOverflowPolicy() == LoggingProperties.OverflowPolicy.DROP || !running) {
+                dropped.incrementAndGet();
+                DROPPED_COUNTER.increment();
+                return;
+            }
+            LockSupport.parkNanos(BLOCK_PARK_NANOS);
+        }
+        if (idle) {
+            LockSupport.unpark(worker);
+        }
+    }
+
+    /**
+     * 当前队列中 body 占用的字节数
+     */
+    public long getQueuedBytes() {
+        return queuedBytes.get();
+    }
+
+    /**
+     * 停止时输出队列中剩余的日志
+     */
+    @Override
+    public void destroy() throws InterruptedException {
+        if (worker == null) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(worker);
+        worker.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    private boolean offer(AccessLogEvent event) {
+        int bytes = event.retainedBytes();
+        if (bytes > 0) {
+            long total = queuedBytes.addAndGet(bytes);
+            // 队列为空时单条超限也放行, 避免 BLOCK 策略下永远等待
+            if (total > maxQueuedBytes && total != bytes) {
+                queuedBytes.addAndGet(-bytes);
+                return false;
+            }
+        }
+        if (!buffer.offer(event)) {
+            queuedBytes.addAndGet(-bytes);
+            return false;
+        }
+        return true;
+    }
+
+    private void drain() {
+        while (running || !buffer.isEmpty()) {
+            AccessLogEvent event = buffer.poll();
+            if (event != null) {
+                queuedBytes.addAndGet(-event.retainedBytes());
+                write(event);
+                continue;
+            }
+            reportDropped();
+            idle = true;
+            if (running && buffer.isEmpty()) {
+                LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+            } else {
+                Thread.onSpinWait();
+            }
+            idle = false;
+        }
+        reportDropped();
+    }
+
+    private void write(AccessLogEvent event) {
+        TraceContext previous = TraceContext.current();
+        try {
+            if (event.traceId() != null) {
+                TraceContext.set(TraceContext.of(event.traceId()));
+            }
+            ACCESS_LOG.info(event.format());
+        } catch (Exception e) {
+            log.error("Access log write error", e);
+        } finally {
+            TraceContext.set(previous);
+        }
+    }
+
+    private void reportDropped() {
+        long count = dropped.getAndSet(0);
+        if (count > 0) {
+            log.warn("Access log buffer full, {} events dropped", count);
+        }
+    }
+
+}
@@ -0,0 +1,77 @@
+package cn.mindit.atom.web.core;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * 一条请求或响应日志, 只持有请求线程采集到的原始数据, 格式化与 UTF-8 解码都推迟到输出时
+ *
+ * @param traceId    链路 ID, 输出时恢复到日志线程上
+ * @param body       采样的请求体/响应体, 有效字节为前 bodyLength 个, 无需记录时为 null
+ * @param truncated  body 是否被截断
+ * @author Catch
+ * @since 2026-10-18
+ */
+public record AccessLogEvent(
+    String traceId,
+    boolean response,
+    String method,
+    String uri,
+    Map<String, String[]> parameters,
+    long elapsed,
+    int status,
+    byte[] body,
+    int bodyLength,
+    boolean truncated
+) {
+
+    private static final String TRUNCATED = "...[TRUNCATED]";
+
+    public static AccessLogEvent request(String traceId, String method, String uri, Map<String, String[]> parameters, byte[] body, int bodyLength, boolean truncated) {
+        return new AccessLogEvent(traceId, false, method, uri, parameters, 0, 0, body, bodyLength, truncated);
+    }
+
+    public static AccessLogEvent response(String traceId, long elapsed, int status, byte[] body, int bodyLength, boolean truncated) {
+        return new AccessLogEvent(traceId, true, null, null, Map.of(), elapsed, status, body, bodyLength, truncated);
+    }
+
+    /**
+     * 在队列中占用的 body 字节数, 用于按字节限制异步队列
+     */
+    public int retainedBytes() {
+        return body == null ? 0 : body.length;
+    }
+
+    public String format() {
+        StringBuilder loggingText = new StringBuilder(64 + (body == null ? 0 : bodyLength));
+        if (response) {
+            loggingText.append("RESPONSE:")
+                       .append(" ").append(elapsed).append("ms")
+                       .append(" ").append(status);
+        } else {
+            loggingText.append("REQUEST:")
+                       .append(" ").append(method)
+                       .append(" ").append(uri);
+            for (Map.Entry<String, String[]> entry : parameters.entrySet()) {
+                String key = entry.getKey();
+                String[] values = entry.getValue();
+                if (values == null) {
+                    loggingText.append(" ").append(key).append("=null");
+                    continue;
+                }
+                for (String value : values) {
+                    loggingText.append(" ").append(key).append("=").append(value);
+                }
+            }
+        }
+        if (body != null) {
+            // 截断处可能落在多字节字符中间, 解码时会被替换为占位符
+            loggingText.append(" ").append(new String(body, 0, bodyLength, StandardCharsets.UTF_8));
+            if (truncated) {
+                loggingText.append(TRUNCATED);
+            }
+        }
+        return loggingText.toString();
+    }
+
+}
@@ -0,0 +1,69 @@
+package cn.mindit.atom.web.core;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 多生产者单消费者的无锁环形队列
+ * <p>
+ * 生产者以 CAS 抢占序号后写入槽位, 消费者按序号读取并清空槽位; 槽位为 null 表示尚未发布, 消费者稍后重试.
+ * 供 {@link AccessLogDispatcher} 内部使用
+ *
+ * @author Catch
+ * @since 2026-10-18
+ */
+public final class AccessLogRingBuffer<E> {
+
+    private final AtomicReferenceArray<E> slots;
+
+    private final int mask;
+
+    private final AtomicLong tail = new AtomicLong();
+
+    private final AtomicLong head = new AtomicLong();
+
+    public AccessLogRingBuffer(int capacity) {
+        int size = Integer.highestOneBit(Math.max(capacity, 2) - 1) << 1;
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+
+    /**
+     * 队列已满时返回 false, 可由多个线程并发调用
+     */
+    public boolean offer(E element) {
+        long sequence;
+        do {
+            sequence = tail.get();
+            if (sequence - head.get() > mask) {
+                return false;
+            }
+        } while (!tail.compareAndSet(sequence, sequence + 1));
+        slots.lazySet((int) (sequence & mask), element);
+        return true;
+    }
+
+    /**
+     * 队列为空或下一个元素尚未发布时返回 null, 只能由消费者线程调用
+     */
+    public E poll() {
+        long sequence = head.get();
+        int index = (int) (sequence & mask);
+        E element = slots.get(index);
+        if (element == null) {
+            return null;
+        }
+        slots.lazySet(index, null);
+        head.lazySet(sequence + 1);
+        return element;
+    }
+
+    public boolean isEmpty() {
+        return head.get() == tail.get();
+    }
+
+    public int capacity() {
+        return mask + 1;
+    }
+
+}
@@ -0,0 +1,125 @@
+package cn.mindit.atom.web.core;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 请求日志采样, 由 {@link CachedWrapperFilter} 在请求开始时决定是否记录, 结果写入 {@link #SAMPLED_ATTRIBUTE}
+ * <p>
+ * 按路径采样率或 1/N 计数采样后, 再经过每秒上限的令牌桶(GCRA 算法, 无锁), 允许 1 秒内的突发.
+ * 1/N 计数在所有未匹配路径规则的请求间共用一个计数器, 而不是每个路径各自计数, 某个路径请求量很大时其他路径被记录的比例会随之变化
+ *
+ * @author Catch
+ * @since 2026-10-18
+ */
+@Component
+public class AccessLogSampler {
+
+    /**
+     * 请求属性, 值为 Boolean, 表示本次请求是否被采样; 不存在时视为被采样
+     */
+    public static final String SAMPLED_ATTRIBUTE = AccessLogSampler.class.getName() + ".SAMPLED";
+
+    /**
+     * 没有匹配的路径规则, 使用 every 计数采样
+     */
+    public static final double DEFAULT_RATE = -1;
+
+    private static final long ONE_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final List<PathRate> pathRates = new ArrayList<>();
+
+    private final int every;
+
+    private final boolean alwaysOnError;
+
+    private final AtomicLong counter = new AtomicLong();
+
+    private final long intervalNanos;
+
+    private final AtomicLong theoreticalArrival;
+
+    private final LongSupplier nanoClock;
+
+    @Autowired
+    public AccessLogSampler(LoggingProperties loggingProperties) {
+        this(loggingProperties, System::nanoTime);
+    }
+
+    /**
+     * @param nanoClock 纳秒时钟, 语义同 {@link System#nanoTime()}, 测试时可替换
+     */
+    public AccessLogSampler(LoggingProperties loggingProperties, LongSupplier nanoClock) {
+        LoggingProperties.Sampling sampling = loggingProperties.getSampling();
+        for (Map.Entry<String, Double> entry : sampling.getPaths().entrySet()) {
+            pathRates.add(new PathRate(new PathPatternIndex(entry.getKey()), entry.getValue() == null ? 1 : entry.getValue()));
+        }
+        this.every = Math.max(sampling.getEvery(), 1);
+        this.alwaysOnError = sampling.isAlwaysOnError();
+        this.intervalNanos = sampling.getMaxPerSecond() > 0 ? ONE_SECOND / sampling.getMaxPerSecond() : 0;
+        this.nanoClock = nanoClock;
+        this.theoreticalArrival = new AtomicLong(nanoClock.getAsLong());
+    }
+
+    /**
+     * 路径对应的采样率, 没有匹配的规则时返回 {@link #DEFAULT_RATE}; 结果只与路径有关, 可由调用方缓存
+     */
+    public double rate(String path) {
+        for (PathRate pathRate : pathRates) {
+            if (pathRate.pattern().matches(path)) {
+                return pathRate.rate();
+            }
+        }
+        return DEFAULT_RATE;
+    }
+
+    /**
+     * 按采样率决定是否记录, 并占用一个令牌
+     */
+    public boolean sample(double rate) {
+        boolean hit;
+        if (rate < 0) {
+            hit = every == 1 || counter.getAndIncrement() % every == 0;
+        } else {
+            hit = rate >= 1 || (rate > 0 && ThreadLocalRandom.current().nextDouble() < rate);
+        }
+        return hit && tryAcquire();
+    }
+
+    /**
+     * 未被采样的请求出错时是否补记日志, 补记同样占用令牌
+     */
+    public boolean sampleOnError() {
+        return alwaysOnError && tryAcquire();
+    }
+
+    private boolean tryAcquire() {
+        if (intervalNanos == 0) {
+            return true;
+        }
+        long now = nanoClock.getAsLong();
+        while (true) {
+            long tat = theoreticalArrival.get();
+            long base = tat - now > 0 ? tat : now;
+            if (base - now > ONE_SECOND - intervalNanos) {
+                return false;
+            }
+            if (theoreticalArrival.compareAndSet(tat, base + intervalNanos)) {
+                return true;
+            }
+        }
+    }
+
+    private record PathRate(PathPatternIndex pattern, double rate) {
+
+    }
+
+}
@@ -0,0 +1,87 @@
+package cn.mindit.atom.web.core;
+
+import java.util.Arrays;
+
+/**
+ * 请求/响应体的定长采样, 只保留前 limit 个字节用于日志, 同时统计实际总字节数
+ * <p>
+ * 缓冲区按需从小到大扩容, 小报文不会直接占用 limit 大小的内存
+ *
+ * @author Catch
+ * @since 2026-10-18
+ */
+final class BodyCapture {
+
+    private static final int INITIAL_CAPACITY = 256;
+
+    private static final byte[] EMPTY = new byte[0];
+
+    private final int limit;
+
+    private byte[] buffer = EMPTY;
+
+    private int count;
+
+    private long total;
+
+    BodyCapture(int limit) {
+        this.limit = Math.max(limit, 0);
+    }
+
+    void write(int b) {
+        total++;
+        if (count < limit) {
+            ensureCapacity(count + 1);
+            buffer[count++] = (byte) b;
+        }
+    }
+
+    void write(byte[] b, int off, int len) {
+        total += len;
+        int n = Math.min(len, limit - count);
+        if (n > 0) {
+            ensureCapacity(count + n);
+            System.arraycopy(b, off, buffer, count, n);
+            count += n;
+        }
+    }
+
+    /**
+     * 已采样的字节, 最多 limit 个
+     */
+    byte[] toByteArray() {
+        return Arrays.copyOf(buffer, count);
+    }
+
+    /**
+     * 内部缓冲区, 有效字节为前 {@link #size()} 个; 请求结束后不再写入, 可直接交给日志线程读取
+     */
+    byte[] array() {
+        return buffer;
+    }
+
+    int size() {
+        return count;
+    }
+
+    long getTotal() {
+        return total;
+    }
+
+    boolean isTruncated() {
+        return total > count;
+    }
+
+    void reset() {
+        count = 0;
+        total = 0;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > buffer.length) {
+            int newCapacity = Math.max(buffer.length * 2, INITIAL_CAPACITY);
+            buffer = Arrays.copyOf(buffer, Math.min(Math.max(newCapacity, capacity), limit));
+        }
+    }
+
+}
@@ -6,12 +6,18 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletRequestWrapper;
 import lombok.extern.slf4j.Slf4j;
 import org.jspecify.annotations.NonNull;
-import org.springframework.util.StreamUtils;
+import org.jspecify.annotations.Nullable;
 
-import java.io.*;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
 
 /**
+ * 预读请求体的前 N 个字节用于日志, 其余部分仍从原始流读取, 内存占用与请求体大小无关
+ * <p>
+ * 与原始请求一样, 请求体只能被读取一次
+ *
  * @author Catch
  * @since 2023-06-06
  */
@@ -20,25 +26,56 @@ public class CachedRequestWrapper extends HttpServletRequestWrapper {
 
     private final byte[] cachedBody;
 
-    public CachedRequestWrapper(HttpServletRequest request) throws IOException {
+    private final long contentLength;
+
+    @Nullable
+    private ServletInputStream inputStream;
+
+    @Nullable
+    private BufferedReader reader;
+
+    public CachedRequestWrapper(HttpServletRequest request, int maxBodyLength) throws IOException {
         super(request);
-        InputStream inputStream = request.getInputStream();
-        this.cachedBody = StreamUtils.copyToByteArray(inputStream);
+        this.contentLength = request.getContentLengthLong();
+        int prefetch = contentLength < 0 ? maxBodyLength : (int) Math.min(maxBodyLength, contentLength);
+        this.cachedBody = request.getInputStream().readNBytes(Math.max(prefetch, 0));
     }
 
+    /**
+     * 预读的请求体, 请求体超过 N 个字节时只包含前 N 个字节
+     */
     public byte[] getContentAsByteArray() {
         return this.cachedBody;
     }
 
+    /**
+     * 请求体是否超过了预读长度
+     */
+    public boolean isTruncated() {
+        return contentLength < 0 || contentLength > cachedBody.length;
+    }
+
     @Override
-    public ServletInputStream getInputStream() {
-        return new CachedServletInputStream(this.cachedBody);
+    public ServletInputStream getInputStream() throws IOException {
+        if (this.reader != null) {
+            throw new IllegalStateException("getReader() has already been called for this request");
+        }
+        if (this.inputStream == null) {
+            this.inputStream = new PrefetchedServletInputStream(this.cachedBody, super.getInputStream());
+        }
+        return this.inputStream;
     }
 
     @Override
-    public BufferedReader getReader() {
-        ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(this.cachedBody);
-        return new BufferedReader(new InputStreamReader(byteArrayInputStream));
+    public BufferedReader getReader() throws IOException {
+        if (this.reader == null) {
+            if (this.inputStream != null) {
+                throw new IllegalStateException("getInputStream() has already been called for this request");
+            }
+            this.reader = new BufferedReader(new InputStreamReader(
+                new PrefetchedServletInputStream(this.cachedBody, super.getInputStream()), StandardCharsets.UTF_8));
+        }
+        return this.reader;
     }
 
     @Override
@@ -46,22 +83,30 @@ public class CachedRequestWrapper extends HttpServletRequestWrapper {
         return StandardCharsets.UTF_8.name();
     }
 
-    private static class CachedServletInputStream extends ServletInputStream {
+    /**
+     * 先返回预读的字节, 读完后转发到原始流
+     */
+    private static class PrefetchedServletInputStream extends ServletInputStream {
+
+        private final byte[] prefix;
+
+        private final ServletInputStream delegate;
 
-        private final ByteArrayInputStream cachedInputStream;
+        private int pos;
 
-        public CachedServletInputStream(byte[] cachedBody) {
-            this.cachedInputStream = new ByteArrayInputStream(cachedBody);
+        PrefetchedServletInputStream(byte[] prefix, ServletInputStream delegate) {
+            this.prefix = prefix;
+            this.delegate = delegate;
         }
 
         @Override
         public boolean isFinished() {
-            return this.cachedInputStream.available() == 0;
+            return pos >= prefix.length && delegate.isFinished();
         }
 
         @Override
         public boolean isReady() {
-            return true;
+            return pos < prefix.length || delegate.isReady();
         }
 
         @Override
@@ -70,23 +115,36 @@ public class CachedRequestWrapper extends HttpServletRequestWrapper {
         }
 
         @Override
-        public int read() {
-            return this.cachedInputStream.read();
+        public int read() throws IOException {
+            if (pos < prefix.length) {
+                return prefix[pos++] & 0xFF;
+            }
+            return delegate.read();
         }
 
         @Override
-        public int read(@NonNull byte[] b) throws IOException {
-            return this.cachedInputStream.read(b);
+        public int read(@NonNull byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            int remaining = prefix.length - pos;
+            if (remaining > 0) {
+                int n = Math.min(remaining, len);
+                System.arraycopy(prefix, pos, b, off, n);
+                pos += n;
+                return n;
+            }
+            return delegate.read(b, off, len);
         }
 
         @Override
-        public int read(@NonNull byte[] b, int off, int len) {
-            return this.cachedInputStream.read(b, off, len);
+        public int available() throws IOException {
+            return prefix.length - pos + delegate.available();
         }
 
         @Override
         public void close() throws IOException {
-            this.cachedInputStream.close();
+            delegate.close();
         }
 
     }
@@ -5,23 +5,25 @@ import jakarta.servlet.WriteListener;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.servlet.http.HttpServletResponseWrapper;
 import org.jspecify.annotations.Nullable;
-import org.springframework.http.HttpHeaders;
-import org.springframework.util.FastByteArrayOutputStream;
 
-import java.io.*;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.UnsupportedEncodingException;
 import java.nio.charset.StandardCharsets;
-import java.util.Collection;
-import java.util.Collections;
-import java.util.LinkedHashSet;
-import java.util.Set;
 
 /**
+ * 响应体直接写入原始输出流, 同时只保留前 N 个字节用于日志
+ * <p>
+ * 不再缓冲完整响应, 首字节时间与内存占用都与响应大小无关
+ *
  * @author Catch
  * @since 2023-06-06
  */
 public class CachedResponseWrapper extends HttpServletResponseWrapper {
 
-    private final FastByteArrayOutputStream content = new FastByteArrayOutputStream(1024);
+    private final BodyCapture content;
 
     @Nullable
     private ServletOutputStream outputStream;
@@ -29,45 +31,15 @@ public class CachedResponseWrapper extends HttpServletResponseWrapper {
     @Nullable
     private PrintWriter writer;
 
-    @Nullable
-    private Integer contentLength;
-
-    public CachedResponseWrapper(HttpServletResponse response) {
+    public CachedResponseWrapper(HttpServletResponse response, int maxBodyLength) {
         super(response);
-    }
-
-    @Override
-    public void sendError(int sc) throws IOException {
-        copyBodyToResponse(false);
-        try {
-            super.sendError(sc);
-        } catch (IllegalStateException ex) {
-            // Possibly on Tomcat when called too late: fall back to silent setStatus
-            super.setStatus(sc);
-        }
-    }
-
-    @Override
-    public void sendError(int sc, String msg) throws IOException {
-        copyBodyToResponse(false);
-        try {
-            super.sendError(sc, msg);
-        } catch (IllegalStateException ex) {
-            // Possibly on Tomcat when called too late: fall back to silent setStatus
-            super.setStatus(sc);
-        }
-    }
-
-    @Override
-    public void sendRedirect(String location) throws IOException {
-        copyBodyToResponse(false);
-        super.sendRedirect(location);
+        this.content = new BodyCapture(maxBodyLength);
     }
 
     @Override
     public ServletOutputStream getOutputStream() throws IOException {
         if (this.outputStream == null) {
-            this.outputStream = new ResponseServletOutputStream(getResponse().getOutputStream());
+            this.outputStream = new TeeServletOutputStream(getResponse().getOutputStream());
         }
         return this.outputStream;
     }
@@ -76,136 +48,23 @@ public class CachedResponseWrapper extends HttpServletResponseWrapper {
     public PrintWriter getWriter() throws IOException {
         if (this.writer == null) {
             String characterEncoding = getCharacterEncoding();
-            this.writer = (characterEncoding != null ? new ResponsePrintWriter(characterEncoding) :
-                new ResponsePrintWriter(StandardCharsets.UTF_8.name()));
+            this.writer = new ResponsePrintWriter(getOutputStream(),
+                characterEncoding != null ? characterEncoding : StandardCharsets.UTF_8.name());
         }
         return this.writer;
     }
 
-    /**
-     * This method neither flushes content to the client nor commits the underlying
-     * response, since the content has not yet been copied to the response.
-     * <p>Invoke {@link #copyBodyToResponse()} to copy the cached body content to
-     * the wrapped response object and flush its buffer.
-     *
-     * @see jakarta.servlet.ServletResponseWrapper#flushBuffer()
-     */
-    @Override
-    public void flushBuffer() {
-        // no-op
-    }
-
     @Override
-    public void setContentLength(int len) {
-        if (len > this.content.size()) {
-            this.content.resize(len);
-        }
-        this.contentLength = len;
-    }
-
-    @Override
-    public void setContentLengthLong(long len) {
-        setContentLength(toContentLengthInt(len));
-    }
-
-    private int toContentLengthInt(long contentLength) {
-        if (contentLength > Integer.MAX_VALUE) {
-            throw new IllegalArgumentException("Content-Length exceeds ContentCachingResponseWrapper's maximum (" +
-                Integer.MAX_VALUE + "): " + contentLength);
-        }
-        return (int) contentLength;
-    }
-
-    @Override
-    public boolean containsHeader(String name) {
-        if (this.contentLength != null && HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
-            return true;
-        } else {
-            return super.containsHeader(name);
-        }
-    }
-
-    @Override
-    public void setHeader(String name, String value) {
-        if (HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
-            if (value != null) {
-                this.contentLength = toContentLengthInt(Long.parseLong(value));
-            } else {
-                this.contentLength = null;
-                super.setHeader(name, null);
-            }
-        } else {
-            super.setHeader(name, value);
-        }
-    }
-
-    @Override
-    public void addHeader(String name, String value) {
-        if (HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
-            this.contentLength = toContentLengthInt(Long.parseLong(value));
-        } else {
-            super.addHeader(name, value);
-        }
-    }
-
-    @Override
-    public void setIntHeader(String name, int value) {
-        if (HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
-            this.contentLength = value;
-        } else {
-            super.setIntHeader(name, value);
-        }
-    }
-
-    @Override
-    public void addIntHeader(String name, int value) {
-        if (HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
-            this.contentLength = value;
-        } else {
-            super.addIntHeader(name, value);
-        }
-    }
-
-    @Override
-    @Nullable
-    public String getHeader(String name) {
-        if (this.contentLength != null && HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
-            return this.contentLength.toString();
-        } else {
-            return super.getHeader(name);
-        }
-    }
-
-    @Override
-    public Collection<String> getHeaders(String name) {
-        if (this.contentLength != null && HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
-            return Collections.singleton(this.contentLength.toString());
-        } else {
-            return super.getHeaders(name);
-        }
-    }
-
-    @Override
-    public Collection<String> getHeaderNames() {
-        Collection<String> headerNames = super.getHeaderNames();
-        if (this.contentLength != null) {
-            Set<String> result = new LinkedHashSet<>(headerNames);
-            result.add(HttpHeaders.CONTENT_LENGTH);
-            return result;
-        } else {
-            return headerNames;
-        }
-    }
-
-    @Override
-    public void setBufferSize(int size) {
-        if (size > this.content.size()) {
-            this.content.resize(size);
+    public void flushBuffer() throws IOException {
+        if (this.writer != null) {
+            this.writer.flush();
         }
+        super.flushBuffer();
     }
 
     @Override
     public void resetBuffer() {
+        super.resetBuffer();
         this.content.reset();
     }
 
@@ -216,83 +75,60 @@ public class CachedResponseWrapper extends HttpServletResponseWrapper {
     }
 
     /**
-     * Return the cached response content as a byte array.
+     * 已采样的响应体, 响应体超过 N 个字节时只包含前 N 个字节
      */
     public byte[] getContentAsByteArray() {
         return this.content.toByteArray();
     }
 
     /**
-     * Return an {@link InputStream} to the cached content.
-     *
-     * @since 4.2
+     * 实际写出的响应体总字节数
      */
-    public InputStream getContentInputStream() {
-        return this.content.getInputStream();
+    public long getContentSize() {
+        return this.content.getTotal();
     }
 
     /**
-     * Return the current size of the cached content.
-     *
-     * @since 4.2
+     * 响应体是否超过了采样长度
      */
-    public int getContentSize() {
-        return this.content.size();
+    public boolean isTruncated() {
+        return this.content.isTruncated();
     }
 
-    /**
-     * Copy the complete cached body content to the response.
-     *
-     * @since 4.2
-     */
-    public void copyBodyToResponse() throws IOException {
-        copyBodyToResponse(true);
-    }
-
-    /**
-     * Copy the cached body content to the response.
-     *
-     * @param complete whether to set a corresponding content length
-     *                 for the complete cached body content
-     * @since 4.2
-     */
-    protected void copyBodyToResponse(boolean complete) throws IOException {
-        if (this.content.size() > 0) {
-            HttpServletResponse rawResponse = (HttpServletResponse) getResponse();
-            if (!rawResponse.isCommitted()) {
-                if (complete || this.contentLength != null) {
-                    if (rawResponse.getHeader(HttpHeaders.TRANSFER_ENCODING) == null) {
-                        rawResponse.setContentLength(complete ? this.content.size() : this.contentLength);
-                    }
-                    this.contentLength = null;
-                }
-            }
-            this.content.writeTo(rawResponse.getOutputStream());
-            this.content.reset();
-            if (complete) {
-                super.flushBuffer();
-            }
-        }
+    BodyCapture capture() {
+        return this.content;
     }
 
-    private class ResponseServletOutputStream extends ServletOutputStream {
+    private class TeeServletOutputStream extends ServletOutputStream {
 
         private final ServletOutputStream os;
 
-        public ResponseServletOutputStream(ServletOutputStream os) {
+        TeeServletOutputStream(ServletOutputStream os) {
             this.os = os;
         }
 
         @Override
         public void write(int b) throws IOException {
+            this.os.write(b);
             content.write(b);
         }
 
         @Override
         public void write(byte[] b, int off, int len) throws IOException {
+            this.os.write(b, off, len);
             content.write(b, off, len);
         }
 
+        @Override
+        public void flush() throws IOException {
+            this.os.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            this.os.close();
+        }
+
         @Override
         public boolean isReady() {
             return this.os.isReady();
@@ -305,10 +141,38 @@ public class CachedResponseWrapper extends HttpServletResponseWrapper {
 
     }
 
-    private class ResponsePrintWriter extends PrintWriter {
+    /**
+     * 每次写入后只把编码缓冲推入输出流, 不刷新输出流, 以免提前提交响应; 显式 flush 时才刷新输出流
+     */
+    private static class ResponsePrintWriter extends PrintWriter {
+
+        private final ServletOutputStream os;
 
-        public ResponsePrintWriter(String characterEncoding) throws UnsupportedEncodingException {
-            super(new OutputStreamWriter(content, characterEncoding));
+        ResponsePrintWriter(ServletOutputStream os, String characterEncoding) throws UnsupportedEncodingException {
+            super(new OutputStreamWriter(new FilterOutputStream(os) {
+
+                @Override
+                public void write(byte[] b, int off, int len) throws IOException {
+                    out.write(b, off, len);
+                }
+
+                @Override
+                public void flush() {
+                    // 由 ResponsePrintWriter.flush 负责刷新输出流
+                }
+
+            }, characterEncoding));
+            this.os = os;
+        }
+
+        @Override
+        public void flush() {
+            super.flush();
+            try {
+                this.os.flush();
+            } catch (IOException e) {
+                setError();
+            }
         }
 
         @Override
@@ -13,9 +13,9 @@ import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
-import org.springframework.util.AntPathMatcher;
-import org.springframework.util.PathMatcher;
+import org.springframework.util.ConcurrentLruCache;
 import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.UrlPathHelper;
 
 import java.io.IOException;
 import java.util.Set;
@@ -30,19 +30,53 @@ import java.util.Set;
 @Order(Ordered.HIGHEST_PRECEDENCE)
 public class CachedWrapperFilter extends OncePerRequestFilter {
 
-    private static final PathMatcher PATH_MATCHER = new AntPathMatcher();
-
     private static final Set<String> CACHED_METHODS = Set.of("POST", "PUT", "PATCH");
 
+    /**
+     * 按请求路径缓存的过滤结果数量
+     */
+    private static final int PATH_CACHE_SIZE = 1024;
+
+    /**
+     * 解码并去除 ;jsessionid 等分号参数与重复的 /, 同一路径的不同写法共用一个缓存项, 也与 Spring MVC 的匹配结果一致
+     */
+    private static final UrlPathHelper URL_PATH_HELPER = UrlPathHelper.defaultInstance;
+
+    /**
+     * shouldNotFilter 中查到的过滤结果, doFilterInternal 直接复用, 每个请求只解析一次路径
+     */
+    private static final String PATH_RULE_ATTRIBUTE = CachedWrapperFilter.class.getName() + ".PATH_RULE";
+
     @Resource
     private LoggingProperties loggingProperties;
 
-    @Value("${server.servlet.context-path:}")
-    private String contextPath;
+    @Resource
+    private AccessLogSampler accessLogSampler;
 
     @Value("${spring.mvc.servlet.path:}")
     private String servletPath;
 
+    private PathPatternIndex excludePatterns;
+
+    private PathPatternIndex includePatterns;
+
+    private ConcurrentLruCache<String, PathRule> pathCache;
+
+    /**
+     * 启动时编译包含/排除规则, 请求时先查路径缓存, 未命中才逐条匹配; 路径采样率随过滤结果一起缓存
+     */
+    @Override
+    protected void initFilterBean() {
+        String[] internalExcludePath = loggingProperties.getInternalExcludePath();
+        String[] excludePath = loggingProperties.getExcludePath();
+        String[] excludes = new String[internalExcludePath.length + excludePath.length];
+        System.arraycopy(internalExcludePath, 0, excludes, 0, internalExcludePath.length);
+        System.arraycopy(excludePath, 0, excludes, internalExcludePath.length, excludePath.length);
+        this.excludePatterns = new PathPatternIndex(excludes);
+        this.includePatterns = new PathPatternIndex(loggingProperties.getIncludePath());
+        this.pathCache = new ConcurrentLruCache<>(PATH_CACHE_SIZE, this::resolvePathRule);
+    }
+
     @Override
     protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
         String method = request.getMethod();
@@ -56,40 +90,49 @@ public class CachedWrapperFilter extends OncePerRequestFilter {
             return true;
         }
 
-        String uri = request.getRequestURI().substring(contextPath.length() + servletPath.length());
-        for (String path : loggingProperties.getInternalExcludePath()) {
-            if (PATH_MATCHER.match(path, uri)) {
-                return true;
-            }
-        }
-        for (String path : loggingProperties.getExcludePath()) {
-            if (PATH_MATCHER.match(path, uri)) {
-                return true;
-            }
+        PathRule rule = pathRule(request);
+        request.setAttribute(PATH_RULE_ATTRIBUTE, rule);
+        return rule.excluded();
+    }
+
+    /**
+     * 以去掉 context-path 与 spring.mvc.servlet.path 后的规范化路径查找过滤结果
+     */
+    private PathRule pathRule(HttpServletRequest request) {
+        String path = URL_PATH_HELPER.getPathWithinApplication(request);
+        if (!servletPath.isEmpty() && path.startsWith(servletPath)) {
+            path = path.substring(servletPath.length());
         }
-        for (String path : loggingProperties.getIncludePath()) {
-            if (PATH_MATCHER.match(path, uri)) {
-                return false;
-            }
+        return pathCache.get(path);
+    }
+
+    private PathRule resolvePathRule(String path) {
+        if (excludePatterns.matches(path) || !includePatterns.matches(path)) {
+            return PathRule.EXCLUDED;
         }
-        return true;
+        return new PathRule(false, accessLogSampler.rate(path));
     }
 
+    /**
+     * 未被采样的请求直接放行, 不包装请求/响应
+     */
     @Override
     protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response, @NonNull FilterChain filterChain) throws ServletException, IOException {
+        PathRule rule = request.getAttribute(PATH_RULE_ATTRIBUTE) instanceof PathRule cached ? cached : pathRule(request);
+        boolean sampled = accessLogSampler.sample(rule.sampleRate());
+        request.setAttribute(AccessLogSampler.SAMPLED_ATTRIBUTE, sampled);
+        if (!sampled) {
+            filterChain.doFilter(request, response);
+            return;
+        }
         HttpServletRequest requestToUse = wrapRequest(request);
         HttpServletResponse responseToUse = wrapResponse(response);
-        try {
-            filterChain.doFilter(requestToUse, responseToUse);
-        } finally {
-            CachedResponseWrapper responseWrapper = (CachedResponseWrapper) responseToUse;
-            responseWrapper.copyBodyToResponse();
-        }
+        filterChain.doFilter(requestToUse, responseToUse);
     }
 
     private HttpServletResponse wrapResponse(HttpServletResponse response) {
         if (!(response instanceof CachedResponseWrapper)) {
-            return new CachedResponseWrapper(response);
+            return new CachedResponseWrapper(response, loggingProperties.getMaxBodyLength());
         }
         return response;
     }
@@ -100,9 +143,15 @@ public class CachedWrapperFilter extends OncePerRequestFilter {
             && request.getContentType() != null
             && (request.getContentType().contains(MediaType.APPLICATION_JSON_VALUE) || request.getContentType().contains(MediaType.APPLICATION_XML_VALUE))
             && !(request instanceof CachedRequestWrapper)) {
-            return new CachedRequestWrapper(request);
+            return new CachedRequestWrapper(request, loggingProperties.getMaxBodyLength());
         }
         return request;
     }
 
+    private record PathRule(boolean excluded, double sampleRate) {
+
+        static final PathRule EXCLUDED = new PathRule(true, AccessLogSampler.DEFAULT_RATE);
+
+    }
+
 }
@@ -1,58 +1,43 @@
 package cn.mindit.atom.web.core;
 
+import cn.mindit.atom.core.core.TraceContext;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.jspecify.annotations.NonNull;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.HandlerInterceptor;
 
-import java.io.IOException;
-import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 /**
+ * 请求线程只采集请求/响应数据并投递给 {@link AccessLogDispatcher}, 拼接与解码在日志线程完成
+ *
  * @author Catch
  * @since 2025-06-01
  */
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class LoggingInterceptor implements HandlerInterceptor {
 
-    // 限制日志长度，避免过大请求体影响性能
-    private static final int MAX_BODY_LENGTH = 10000;
     private static final ThreadLocal<Long> TIMER = new ThreadLocal<>();
 
+    private final AccessLogDispatcher accessLogDispatcher;
+    private final AccessLogSampler accessLogSampler;
+
     @Override
-    public boolean preHandle(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response, @NonNull Object handler) throws IOException {
+    public boolean preHandle(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response, @NonNull Object handler) {
         TIMER.set(System.currentTimeMillis());
-        StringBuilder loggingText = new StringBuilder();
-        loggingText.append("REQUEST:")
-                   .append(" ").append(request.getMethod())
-                   .append(" ").append(request.getRequestURI());
-        Map<String, String[]> parameterMap = request.getParameterMap();
-        if (parameterMap != null && !parameterMap.isEmpty()) {
-            for (Map.Entry<String, String[]> entry : parameterMap.entrySet()) {
-                String key = entry.getKey();
-                String[] values = entry.getValue();
-                if (values == null) {
-                    loggingText.append(" ").append(key).append("=null");
-                    continue;
-                }
-                for (String value : values) {
-                    loggingText.append(" ").append(key).append("=").append(value);
-                }
-            }
-        }
-        if (request instanceof CachedRequestWrapper requestToUse) {
-            String body = new String(requestToUse.getContentAsByteArray(), StandardCharsets.UTF_8);
-            if (body.length() > MAX_BODY_LENGTH) {
-                body = body.substring(0, MAX_BODY_LENGTH) + "...[TRUNCATED]";
-            }
-            loggingText.append(" ").append(body);
+        if (!log.isInfoEnabled() || !isSampled(request)) {
+            return true;
         }
-        log.info(loggingText.toString());
+        dispatchRequest(request);
         return true;
     }
 
@@ -65,22 +50,88 @@ public class LoggingInterceptor implements HandlerInterceptor {
         Long start = TIMER.get();
         TIMER.remove();
         long elapsed = start == null ? -1 : System.currentTimeMillis() - start;
-        StringBuilder loggingText = new StringBuilder();
-        loggingText.append("RESPONSE:")
-                   .append(" ").append(elapsed).append("ms")
-                   .append(" ").append(response.getStatus());
+        if (!isSampled(request)) {
+            // 未采样的请求出错时补记请求行与响应状态
+            if ((ex != null || response.getStatus() >= 500) && accessLogSampler.sampleOnError()) {
+                dispatchRequest(request);
+                accessLogDispatcher.dispatch(AccessLogEvent.response(TraceContext.currentTraceId(), elapsed, response.getStatus(), null, 0, false));
+            }
+            return;
+        }
+        String traceId = TraceContext.currentTraceId();
+        if (request.isAsyncStarted()) {
+            // 处理器直接开启了 Servlet 异步(如 ResponseUtils.renderJsonAsync), 响应仍在其他线程写出, 等异步结束后再采集响应体
+            request.getAsyncContext().addListener(new ResponseLogListener(traceId, start, response));
+            return;
+        }
+        dispatchResponse(traceId, elapsed, response);
+    }
+
+    private static boolean isSampled(HttpServletRequest request) {
+        return !Boolean.FALSE.equals(request.getAttribute(AccessLogSampler.SAMPLED_ATTRIBUTE));
+    }
+
+    /**
+     * 响应写出结束后调用, 此时响应体采样缓冲区不会再被写入, 可直接交给日志线程读取
+     */
+    private void dispatchResponse(String traceId, long elapsed, HttpServletResponse response) {
+        byte[] body = null;
+        int bodyLength = 0;
+        boolean truncated = false;
         if (response instanceof CachedResponseWrapper responseToUse) {
             String contentType = response.getContentType();
             if (contentType != null
                 && (contentType.contains(MediaType.APPLICATION_JSON_VALUE) || contentType.contains(MediaType.APPLICATION_XML_VALUE))) {
-                String body = new String(responseToUse.getContentAsByteArray(), StandardCharsets.UTF_8);
-                if (body.length() > MAX_BODY_LENGTH) {
-                    body = body.substring(0, MAX_BODY_LENGTH) + "...[TRUNCATED]";
-                }
-                loggingText.append(" ").append(body);
+                BodyCapture capture = responseToUse.capture();
+                body = capture.array();
+                bodyLength = capture.size();
+                truncated = capture.isTruncated();
             }
         }
-        log.info(loggingText.toString());
+        accessLogDispatcher.dispatch(AccessLogEvent.response(traceId, elapsed, response.getStatus(), body, bodyLength, truncated));
+    }
+
+    private void dispatchRequest(HttpServletRequest request) {
+        Map<String, String[]> parameterMap = request.getParameterMap();
+        // 请求结束后容器会回收参数集合, 先复制引用
+        Map<String, String[]> parameters = parameterMap == null || parameterMap.isEmpty() ? Map.of() : new LinkedHashMap<>(parameterMap);
+        byte[] body = null;
+        boolean truncated = false;
+        if (request instanceof CachedRequestWrapper requestToUse) {
+            body = requestToUse.getContentAsByteArray();
+            truncated = requestToUse.isTruncated();
+        }
+        accessLogDispatcher.dispatch(AccessLogEvent.request(TraceContext.currentTraceId(), request.getMethod(), request.getRequestURI(),
+            parameters, body, body == null ? 0 : body.length, truncated));
+    }
+
+    /**
+     * 异步请求结束(含超时、出错后由容器结束)时记录响应, 耗时统计到写出完成为止
+     */
+    @RequiredArgsConstructor
+    private class ResponseLogListener implements AsyncListener {
+
+        private final String traceId;
+        private final Long start;
+        private final HttpServletResponse response;
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            dispatchResponse(traceId, start == null ? -1 : System.currentTimeMillis() - start, response);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+
     }
 
 }
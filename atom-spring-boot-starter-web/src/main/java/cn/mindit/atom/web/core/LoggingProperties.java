@@ -2,6 +2,10 @@ package cn.mindit.atom.web.core;
 
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 /**
  * @author Catch
@@ -31,4 +35,74 @@ public class LoggingProperties {
      */
     private String[] internalExcludePath = {"/favicon.ico", "/actuator/**", "/error", "/v3/api-docs/**", "/swagger-ui*/**", "/webjars/**"};
 
+    /**
+     * 请求体、响应体各自最多记录的字节数, 超出部分不进入日志, 也不会额外占用内存
+     */
+    private int maxBodyLength = 10000;
+
+    /**
+     * 是否异步输出日志, 开启后请求线程只投递事件, 由后台线程格式化并输出
+     */
+    private boolean async = true;
+
+    /**
+     * 异步日志队列容量, 向上取整为 2 的幂
+     */
+    private int bufferSize = 8192;
+
+    /**
+     * 异步日志队列中请求体、响应体合计最多占用的内存, 超出时与队列已满同样处理.
+     * 只按条数限制时最坏情况为 bufferSize × 2 × maxBodyLength (默认约 160MB)
+     */
+    private DataSize bufferMaxSize = DataSize.ofMegabytes(32);
+
+    /**
+     * 异步日志队列已满时的处理策略
+     */
+    private OverflowPolicy overflowPolicy = OverflowPolicy.DROP;
+
+    /**
+     * 采样配置, 未被采样的请求不包装请求/响应, 不产生任何缓存开销
+     */
+    private Sampling sampling = new Sampling();
+
+    /**
+     * 队列已满策略枚举
+     */
+    public enum OverflowPolicy {
+        /**
+         * 丢弃日志, 不影响请求耗时
+         */
+        DROP,
+        /**
+         * 等待队列空出位置, 日志不丢失但请求会被阻塞
+         */
+        BLOCK
+    }
+
+    @Data
+    public static class Sampling {
+
+        /**
+         * 每 N 个请求记录 1 个, 1 表示全部记录; 所有未匹配 paths 规则的请求共用一个计数, 不按路径分别计数
+         */
+        private int every = 1;
+
+        /**
+         * 按路径指定采样率(0~1), 按配置顺序取第一个匹配的规则, 优先于 every
+         */
+        private Map<String, Double> paths = new LinkedHashMap<>();
+
+        /**
+         * 未被采样的请求出现异常或 5xx 响应时, 仍记录请求行与响应状态(不含请求体、响应体)
+         */
+        private boolean alwaysOnError = true;
+
+        /**
+         * 每秒最多记录的请求数, 超出部分不记录, 0 表示不限制; 对出错的请求同样生效
+         */
+        private int maxPerSecond = 0;
+
+    }
+
 }
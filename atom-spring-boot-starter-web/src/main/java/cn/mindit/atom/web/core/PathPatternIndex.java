@@ -0,0 +1,98 @@
+package cn.mindit.atom.web.core;
+
+import org.springframework.http.server.PathContainer;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.PathMatcher;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import org.springframework.web.util.pattern.PatternParseException;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 启动时编译的一组路径规则, 按首段字面量分桶, 匹配时只检查同一首段与首段含通配符的规则
+ * <p>
+ * 规则编译为 {@link PathPattern}; {@link PathPattern} 不支持的写法(如中间出现 {@code **})回退到 {@link AntPathMatcher}.
+ * 供 {@link CachedWrapperFilter} 内部使用, 匹配结果与逐条使用 {@link AntPathMatcher} 一致
+ *
+ * @author Catch
+ * @since 2026-10-18
+ */
+public final class PathPatternIndex {
+
+    private static final PathPatternParser PARSER = new PathPatternParser();
+
+    private static final PathMatcher FALLBACK_MATCHER = new AntPathMatcher();
+
+    private final Map<String, List<PathPattern>> literalPatterns = new HashMap<>();
+
+    private final List<PathPattern> wildcardPatterns = new ArrayList<>();
+
+    private final List<String> fallbackPatterns = new ArrayList<>();
+
+    public PathPatternIndex(String... patterns) {
+        for (String pattern : patterns) {
+            PathPattern pathPattern;
+            try {
+                pathPattern = PARSER.parse(pattern);
+            } catch (PatternParseException e) {
+                fallbackPatterns.add(pattern);
+                continue;
+            }
+            String segment = firstSegment(pattern);
+            if (segment.indexOf('*') >= 0 || segment.indexOf('?') >= 0 || segment.indexOf('{') >= 0) {
+                wildcardPatterns.add(pathPattern);
+            } else {
+                literalPatterns.computeIfAbsent(segment, k -> new ArrayList<>(2)).add(pathPattern);
+            }
+        }
+    }
+
+    public boolean isEmpty() {
+        return literalPatterns.isEmpty() && wildcardPatterns.isEmpty() && fallbackPatterns.isEmpty();
+    }
+
+    public boolean matches(String path) {
+        if (isEmpty()) {
+            return false;
+        }
+        PathContainer container = PathContainer.parsePath(path);
+        boolean absolute = path.startsWith("/");
+        List<PathPattern> candidates = literalPatterns.get(firstSegment(path));
+        if (candidates != null) {
+            for (PathPattern pattern : candidates) {
+                if (matches(pattern, container, absolute)) {
+                    return true;
+                }
+            }
+        }
+        for (PathPattern pattern : wildcardPatterns) {
+            if (matches(pattern, container, absolute)) {
+                return true;
+            }
+        }
+        for (String pattern : fallbackPatterns) {
+            if (FALLBACK_MATCHER.match(pattern, path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 与 {@link AntPathMatcher} 一致, 以 / 开头的规则只匹配以 / 开头的路径, 反之亦然; {@link PathPattern} 会用 /** 匹配空路径
+     */
+    private static boolean matches(PathPattern pattern, PathContainer container, boolean absolute) {
+        return pattern.getPatternString().startsWith("/") == absolute && pattern.matches(container);
+    }
+
+    private static String firstSegment(String path) {
+        int start = path.startsWith("/") ? 1 : 0;
+        int end = path.indexOf('/', start);
+        return end < 0 ? path.substring(start) : path.substring(start, end);
+    }
+
+}
@@ -1,20 +1,48 @@
 package cn.mindit.atom.web.core;
 
 import cn.mindit.atom.core.core.CoreConstants;
+import cn.mindit.atom.core.core.TraceContext;
+import cn.mindit.atom.core.metrics.MetricNames;
+import cn.mindit.atom.core.metrics.Metrics;
+import cn.mindit.atom.core.metrics.Timer;
 import cn.mindit.atom.core.util.NanoIdUtils;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.jspecify.annotations.NonNull;
 import org.slf4j.MDC;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
-import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
 
 /**
  * @author Catch
  * @since 2025-06-01
  */
 @Component
-public class TraceIdInterceptor implements HandlerInterceptor {
+public class TraceIdInterceptor implements AsyncHandlerInterceptor {
+
+    private static final String START_TIME_ATTRIBUTE = TraceIdInterceptor.class.getName() + ".START_TIME";
+
+    /**
+     * method 标签取值, 请求方法由客户端决定, 标准方法以外的归入 OTHER
+     */
+    private static final String[] METHODS = {"GET", "HEAD", "POST", "PUT", "PATCH", "DELETE", "OPTIONS", "TRACE", "OTHER"};
+
+    /**
+     * outcome 标签取值, 下标为状态码百位数, 无法识别的状态码归入 UNKNOWN
+     */
+    private static final String[] OUTCOMES = {"UNKNOWN", HttpStatus.Series.INFORMATIONAL.name(), HttpStatus.Series.SUCCESSFUL.name(),
+        HttpStatus.Series.REDIRECTION.name(), HttpStatus.Series.CLIENT_ERROR.name(), HttpStatus.Series.SERVER_ERROR.name()};
+
+    private static final Timer[][] TIMERS = new Timer[METHODS.length][OUTCOMES.length];
+
+    static {
+        for (int m = 0; m < METHODS.length; m++) {
+            for (int o = 0; o < OUTCOMES.length; o++) {
+                TIMERS[m][o] = Metrics.lazyTimer(MetricNames.WEB_REQUEST, "method", METHODS[m], "outcome", OUTCOMES[o]);
+            }
+        }
+    }
 
     @Override
     public boolean preHandle(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response, @NonNull Object handler) {
@@ -22,14 +50,58 @@ public class TraceIdInterceptor implements HandlerInterceptor {
         if (traceId == null || traceId.isEmpty()) {
             traceId = NanoIdUtils.nanoId();
         }
+        TraceContext.set(TraceContext.of(traceId));
+        // 兼容日志格式中使用 %X{Trace-Id} 或直接读取 MDC 的调用方; MDC 中只有链路 ID 时 TraceIdTaskDecorator 不会复制 MDC
         MDC.put(CoreConstants.TRACE_ID, traceId);
         response.setHeader(CoreConstants.TRACE_ID, traceId);
+        request.setAttribute(START_TIME_ATTRIBUTE, System.nanoTime());
         return true;
     }
 
     @Override
     public void afterCompletion(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response, @NonNull Object handler, Exception ex) {
+        recordRequest(request, response);
+        TraceContext.clear();
         MDC.clear();
     }
 
+    /**
+     * 处理器返回 Callable / DeferredResult / StreamingResponseBody 等转为 Spring MVC 异步处理时, 首次分派不会回调 afterCompletion,
+     * 在此释放请求线程上的上下文. ResponseUtils.renderJsonAsync 不经过 WebAsyncManager, 仍由 afterCompletion 释放
+     */
+    @Override
+    public void afterConcurrentHandlingStarted(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response, @NonNull Object handler) {
+        TraceContext.clear();
+        MDC.clear();
+    }
+
+    private void recordRequest(HttpServletRequest request, HttpServletResponse response) {
+        if (!(request.getAttribute(START_TIME_ATTRIBUTE) instanceof Long start)) {
+            return;
+        }
+        TIMERS[methodIndex(request.getMethod())][outcomeIndex(response.getStatus())].record(System.nanoTime() - start);
+    }
+
+    private static int methodIndex(String method) {
+        if (method == null) {
+            return METHODS.length - 1;
+        }
+        return switch (method) {
+            case "GET" -> 0;
+            case "HEAD" -> 1;
+            case "POST" -> 2;
+            case "PUT" -> 3;
+            case "PATCH" -> 4;
+            case "DELETE" -> 5;
+            case "OPTIONS" -> 6;
+            case "TRACE" -> 7;
+            default -> METHODS.length - 1;
+        };
+    }
+
+    private static int outcomeIndex(int status) {
+        int series = status / 100;
+        return series >= 1 && series < OUTCOMES.length ? series : 0;
+    }
+
 }
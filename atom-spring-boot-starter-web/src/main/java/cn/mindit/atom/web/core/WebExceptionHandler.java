@@ -35,7 +35,7 @@ import java.util.Set;
 public class WebExceptionHandler {
 
     /**
-     * 正常业务异常, 输出 warn 日志
+     * 正常业务异常, 输出 warn 日志, 省略堆栈的异常只输出错误码与消息
      *
      * @param e 异常对象
      * @return Result
@@ -43,7 +43,11 @@ public class WebExceptionHandler {
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     @ExceptionHandler(BusinessException.class)
     public Result<?> handler(BusinessException e) {
-        log.warn(e.getMessage(), e);
+        if (e.isStackless()) {
+            log.warn("{} (code={})", e.getMessage(), e.getCode());
+        } else {
+            log.warn(e.getMessage(), e);
+        }
         return Result.fail(e);
     }
 
@@ -56,7 +60,11 @@ public class WebExceptionHandler {
     @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
     @ExceptionHandler(ServiceException.class)
     public Result<?> handler(ServiceException e) {
-        log.error(e.getMessage(), e);
+        if (e.isStackless()) {
+            log.error("{} (code={})", e.getMessage(), e.getCode());
+        } else {
+            log.error(e.getMessage(), e);
+        }
         return Result.fail(e);
     }
 
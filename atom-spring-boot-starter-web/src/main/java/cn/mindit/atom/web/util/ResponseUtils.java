@@ -1,33 +1,163 @@
 package cn.mindit.atom.web.util;
 
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.ServletRequest;
 import jakarta.servlet.ServletResponse;
+import jakarta.servlet.WriteListener;
 import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
 import cn.mindit.atom.core.util.JsonUtils;
 import org.springframework.http.MediaType;
 
+import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
 import java.nio.charset.StandardCharsets;
 
 /**
+ * 直接向 Servlet 响应写出 Json
+ * <p>
+ * 对象默认序列化为 byte[] 后写出, 大响应可使用 renderJsonStream 通过 Jackson 字节生成器直接写入输出流; 固定内容(如缓存的错误响应)可预先编码为 byte[] / ByteBuffer 复用.
+ * 大响应可使用 renderJsonAsync 以 {@link WriteListener} 非阻塞写出, 容器不支持异步时退化为阻塞写出
+ *
  * @author Catch
  * @since 2022-03-04
  */
+@Slf4j
 public abstract class ResponseUtils {
 
-    @SneakyThrows
+    /**
+     * 非阻塞写出时每次写入的最大字节数
+     */
+    private static final int ASYNC_CHUNK_SIZE = 8192;
+
+    /**
+     * 先完整序列化再写出, 序列化失败时响应未提交, 仍可由异常处理输出错误响应
+     */
     public static void renderJson(ServletResponse response, Object object) {
-        renderJson(response, JsonUtils.toJson(object));
+        byte[] json = JsonUtils.toJsonBytes(object);
+        renderJson(response, json == null ? new byte[0] : json);
+    }
+
+    /**
+     * 边序列化边写出, 不占用整个响应大小的内存, 适合大响应
+     * <p>
+     * 成功后才 flush, 失败时不关闭输出流; 但响应超过容器缓冲区后已经提交, 此时序列化失败只能得到截断的响应, 状态码无法再修改
+     */
+    @SneakyThrows
+    public static void renderJsonStream(ServletResponse response, Object object) {
+        prepare(response);
+        OutputStream out = response.getOutputStream();
+        JsonUtils.writeTo(out, object);
+        out.flush();
     }
 
     @SneakyThrows
     public static void renderJson(ServletResponse response, String json) {
+        renderJson(response, json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 写出预先编码的 UTF-8 Json
+     */
+    @SneakyThrows
+    public static void renderJson(ServletResponse response, byte[] json) {
+        prepare(response);
+        response.setContentLength(json.length);
+        try (OutputStream out = response.getOutputStream()) {
+            out.write(json);
+        }
+    }
+
+    /**
+     * 写出预先编码的 UTF-8 Json, 只读取 buffer 的副本, 不改变其 position, 同一 buffer 可重复使用
+     */
+    @SneakyThrows
+    public static void renderJson(ServletResponse response, ByteBuffer json) {
+        ByteBuffer buffer = json.duplicate();
+        prepare(response);
+        response.setContentLength(buffer.remaining());
+        try (OutputStream out = response.getOutputStream()) {
+            if (buffer.hasArray()) {
+                out.write(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+            } else {
+                Channels.newChannel(out).write(buffer);
+            }
+        }
+    }
+
+    /**
+     * 非阻塞写出 Json, 对象先序列化为字节数组, 写出过程不占用请求线程
+     */
+    public static void renderJsonAsync(ServletRequest request, ServletResponse response, Object object) {
+        byte[] json = JsonUtils.toJsonBytes(object);
+        renderJsonAsync(request, response, ByteBuffer.wrap(json == null ? new byte[0] : json));
+    }
+
+    public static void renderJsonAsync(ServletRequest request, ServletResponse response, byte[] json) {
+        renderJsonAsync(request, response, ByteBuffer.wrap(json));
+    }
+
+    /**
+     * 非阻塞写出预先编码的 Json; 请求不支持异步或已处于异步状态时退化为阻塞写出
+     * <p>
+     * 调用后响应由 {@link WriteListener} 接管, 调用方不能再写入或修改响应. 异步超时沿用容器默认值.
+     * 这里直接调用 {@link ServletRequest#startAsync()}, 不经过 Spring 的 WebAsyncManager: 拦截器照常在处理器返回后收到
+     * postHandle / afterCompletion, 而不是 afterConcurrentHandlingStarted, 此时响应可能仍在写出.
+     * LoggingInterceptor 会等异步请求结束后再记录响应体, TraceIdInterceptor 的请求耗时只统计到处理器返回为止.
+     * 需要 Spring MVC 完整异步生命周期时应返回 StreamingResponseBody 或 DeferredResult
+     */
+    @SneakyThrows
+    public static void renderJsonAsync(ServletRequest request, ServletResponse response, ByteBuffer json) {
+        if (!request.isAsyncSupported() || request.isAsyncStarted()) {
+            renderJson(response, json);
+            return;
+        }
+        ByteBuffer buffer = json.duplicate();
+        prepare(response);
+        response.setContentLength(buffer.remaining());
+        AsyncContext asyncContext = request.startAsync();
+        ServletOutputStream out = response.getOutputStream();
+        out.setWriteListener(new BufferWriteListener(asyncContext, out, buffer));
+    }
+
+    private static void prepare(ServletResponse response) {
         response.setCharacterEncoding(StandardCharsets.UTF_8.name());
         response.setContentType(MediaType.APPLICATION_JSON_VALUE);
-        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
-        response.setContentLength(bytes.length);
-        try (OutputStream out = response.getOutputStream()) {
-            out.write(bytes);
+    }
+
+    /**
+     * 输出流可写时分块写出, 写完后结束异步请求
+     */
+    private record BufferWriteListener(AsyncContext asyncContext, ServletOutputStream out, ByteBuffer buffer) implements WriteListener {
+
+        @Override
+        public void onWritePossible() throws IOException {
+            byte[] chunk = buffer.hasArray() ? null : new byte[Math.min(ASYNC_CHUNK_SIZE, buffer.remaining())];
+            while (out.isReady()) {
+                if (!buffer.hasRemaining()) {
+                    asyncContext.complete();
+                    return;
+                }
+                int length = Math.min(ASYNC_CHUNK_SIZE, buffer.remaining());
+                if (chunk == null) {
+                    out.write(buffer.array(), buffer.arrayOffset() + buffer.position(), length);
+                    buffer.position(buffer.position() + length);
+                } else {
+                    buffer.get(chunk, 0, length);
+                    out.write(chunk, 0, length);
+                }
+            }
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            log.warn("Async response write error: {}", t.toString());
+            asyncContext.complete();
         }
+
     }
 
 }
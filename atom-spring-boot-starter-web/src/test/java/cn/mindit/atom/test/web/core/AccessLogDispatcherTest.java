@@ -0,0 +1,228 @@
+package cn.mindit.atom.test.web.core;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.AppenderBase;
+import cn.mindit.atom.core.metrics.Counter;
+import cn.mindit.atom.core.metrics.LocalMetricsRegistry;
+import cn.mindit.atom.core.metrics.MeterId;
+import cn.mindit.atom.core.metrics.MetricNames;
+import cn.mindit.atom.core.metrics.Metrics;
+import cn.mindit.atom.core.metrics.MetricsRegistry;
+import cn.mindit.atom.web.core.AccessLogDispatcher;
+import cn.mindit.atom.web.core.AccessLogEvent;
+import cn.mindit.atom.web.core.LoggingInterceptor;
+import cn.mindit.atom.web.core.LoggingProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.unit.DataSize;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AccessLogDispatcherTest {
+
+    private final Logger accessLog = (Logger) LoggerFactory.getLogger(LoggingInterceptor.class);
+
+    private final MetricsRegistry originalRegistry = Metrics.registry();
+
+    private final LocalMetricsRegistry registry = new LocalMetricsRegistry();
+
+    private final LoggingProperties properties = new LoggingProperties();
+
+    private BlockingAppender appender;
+
+    private AccessLogDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        Metrics.setRegistry(registry);
+        appender = new BlockingAppender();
+        appender.start();
+        accessLog.addAppender(appender);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        appender.release.countDown();
+        if (dispatcher != null) {
+            dispatcher.destroy();
+        }
+        accessLog.detachAppender(appender);
+        Metrics.setRegistry(originalRegistry);
+    }
+
+    @Test
+    void writesOnCallerThreadWhenNotAsync() {
+        properties.setAsync(false);
+        dispatcher = start();
+        appender.release.countDown();
+        dispatcher.dispatch(event("/sync", 0));
+        assertThat(appender.messages).containsExactly("REQUEST: GET /sync");
+        assertThat(appender.threads).containsExactly(Thread.currentThread().getName());
+    }
+
+    @Test
+    void writesOnWorkerThread() {
+        dispatcher = start();
+        appender.release.countDown();
+        dispatcher.dispatch(event("/async", 0));
+        awaitMessages(1);
+        assertThat(appender.messages).containsExactly("REQUEST: GET /async");
+        assertThat(appender.threads).containsExactly("atom-access-log");
+    }
+
+    @Test
+    void dropsWhenFull() throws InterruptedException {
+        properties.setBufferSize(2);
+        dispatcher = start();
+        blockWorker();
+        dispatcher.dispatch(event("/1", 0));
+        dispatcher.dispatch(event("/2", 0));
+        for (int i = 0; i < 3; i++) {
+            dispatcher.dispatch(event("/dropped", 0));
+        }
+        assertThat(droppedCount()).isEqualTo(3);
+        appender.release.countDown();
+        awaitMessages(3);
+        assertThat(appender.messages).containsExactly("REQUEST: GET /0", "REQUEST: GET /1", "REQUEST: GET /2");
+    }
+
+    @Test
+    void blocksWhenFullUntilSpaceIsAvailable() throws Exception {
+        properties.setBufferSize(2);
+        properties.setOverflowPolicy(LoggingProperties.OverflowPolicy.BLOCK);
+        dispatcher = start();
+        blockWorker();
+        dispatcher.dispatch(event("/1", 0));
+        dispatcher.dispatch(event("/2", 0));
+        CompletableFuture<Void> blocked = CompletableFuture.runAsync(() -> dispatcher.dispatch(event("/3", 0)));
+        Thread.sleep(100);
+        assertThat(blocked).isNotDone();
+        appender.release.countDown();
+        blocked.get(5, TimeUnit.SECONDS);
+        awaitMessages(4);
+        assertThat(appender.messages).containsExactly("REQUEST: GET /0", "REQUEST: GET /1", "REQUEST: GET /2", "REQUEST: GET /3");
+        assertThat(droppedCount()).isZero();
+    }
+
+    @Test
+    void boundsQueuedBodyBytes() {
+        properties.setBufferMaxSize(DataSize.ofBytes(100));
+        dispatcher = start();
+        blockWorker();
+        dispatcher.dispatch(event("/1", 60));
+        assertThat(dispatcher.getQueuedBytes()).isEqualTo(60);
+        dispatcher.dispatch(event("/dropped", 60));
+        dispatcher.dispatch(event("/2", 40));
+        assertThat(dispatcher.getQueuedBytes()).isEqualTo(100);
+        assertThat(droppedCount()).isEqualTo(1);
+        appender.release.countDown();
+        awaitMessages(3);
+        assertThat(appender.messages).extracting(message -> message.split(" ")[2]).containsExactly("/0", "/1", "/2");
+        assertThat(dispatcher.getQueuedBytes()).isZero();
+    }
+
+    @Test
+    void acceptsOversizedEventIntoEmptyQueue() {
+        properties.setBufferMaxSize(DataSize.ofBytes(10));
+        dispatcher = start();
+        appender.release.countDown();
+        dispatcher.dispatch(event("/large", 50));
+        awaitMessages(1);
+        assertThat(droppedCount()).isZero();
+    }
+
+    @Test
+    void destroyDrainsQueuedEvents() throws Exception {
+        properties.setBufferSize(16);
+        dispatcher = start();
+        blockWorker();
+        for (int i = 1; i <= 10; i++) {
+            dispatcher.dispatch(event("/" + i, 0));
+        }
+        CompletableFuture<Void> stopped = CompletableFuture.runAsync(() -> {
+            try {
+                dispatcher.destroy();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        Thread.sleep(50);
+        appender.release.countDown();
+        stopped.get(5, TimeUnit.SECONDS);
+        assertThat(appender.messages).hasSize(11);
+        // 关闭后在调用线程直接输出
+        dispatcher.dispatch(event("/after", 0));
+        assertThat(appender.messages).hasSize(12).last().isEqualTo("REQUEST: GET /after");
+    }
+
+    private AccessLogDispatcher start() {
+        AccessLogDispatcher accessLogDispatcher = new AccessLogDispatcher(properties);
+        accessLogDispatcher.afterPropertiesSet();
+        return accessLogDispatcher;
+    }
+
+    /**
+     * 投递第一条日志并等待后台线程阻塞在输出上, 之后投递的日志都留在队列中
+     */
+    private void blockWorker() {
+        dispatcher.dispatch(event("/0", 0));
+        try {
+            assertThat(appender.entered.await(5, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void awaitMessages(int count) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (appender.messages.size() < count && System.nanoTime() < deadline) {
+            Thread.yield();
+        }
+        assertThat(appender.messages).hasSize(count);
+    }
+
+    private long droppedCount() {
+        Counter counter = registry.counters().get(MeterId.of(MetricNames.WEB_ACCESS_LOG_DROPPED));
+        return counter == null ? 0 : counter.count();
+    }
+
+    private static AccessLogEvent event(String uri, int bodyLength) {
+        byte[] body = bodyLength == 0 ? null : new byte[bodyLength];
+        return AccessLogEvent.request(null, "GET", uri, Map.of(), body, bodyLength, false);
+    }
+
+    private static class BlockingAppender extends AppenderBase<ILoggingEvent> {
+
+        private final CountDownLatch entered = new CountDownLatch(1);
+
+        private final CountDownLatch release = new CountDownLatch(1);
+
+        private final List<String> messages = new CopyOnWriteArrayList<>();
+
+        private final List<String> threads = new CopyOnWriteArrayList<>();
+
+        @Override
+        protected void append(ILoggingEvent event) {
+            entered.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            messages.add(event.getFormattedMessage());
+            threads.add(event.getThreadName());
+        }
+
+    }
+
+}
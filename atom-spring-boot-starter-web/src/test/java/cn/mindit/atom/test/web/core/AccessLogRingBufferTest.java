@@ -0,0 +1,85 @@
+package cn.mindit.atom.test.web.core;
+
+import cn.mindit.atom.web.core.AccessLogRingBuffer;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AccessLogRingBufferTest {
+
+    @Test
+    void capacityRoundsUpToPowerOfTwo() {
+        assertThat(new AccessLogRingBuffer<>(1).capacity()).isEqualTo(2);
+        assertThat(new AccessLogRingBuffer<>(5).capacity()).isEqualTo(8);
+        assertThat(new AccessLogRingBuffer<>(8).capacity()).isEqualTo(8);
+    }
+
+    @Test
+    void offerFailsWhenFullAndPollFreesSlot() {
+        AccessLogRingBuffer<Integer> buffer = new AccessLogRingBuffer<>(4);
+        assertThat(buffer.isEmpty()).isTrue();
+        assertThat(buffer.poll()).isNull();
+        for (int i = 0; i < 4; i++) {
+            assertThat(buffer.offer(i)).isTrue();
+        }
+        assertThat(buffer.offer(4)).isFalse();
+        assertThat(buffer.poll()).isEqualTo(0);
+        assertThat(buffer.offer(4)).isTrue();
+        for (int i = 1; i <= 4; i++) {
+            assertThat(buffer.poll()).isEqualTo(i);
+        }
+        assertThat(buffer.isEmpty()).isTrue();
+        assertThat(buffer.poll()).isNull();
+    }
+
+    @Test
+    void concurrentProducersLoseNothingAndKeepPerProducerOrder() throws InterruptedException {
+        AccessLogRingBuffer<long[]> buffer = new AccessLogRingBuffer<>(1024);
+        int producers = 4;
+        int perProducer = 50_000;
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        CountDownLatch done = new CountDownLatch(producers);
+        for (int p = 0; p < producers; p++) {
+            long producer = p;
+            executor.execute(() -> {
+                for (long i = 0; i < perProducer; i++) {
+                    long[] element = {producer, i};
+                    while (!buffer.offer(element)) {
+                        Thread.yield();
+                    }
+                }
+                done.countDown();
+            });
+        }
+        long[] next = new long[producers];
+        List<String> errors = new ArrayList<>();
+        long received = 0;
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (received < (long) producers * perProducer && System.nanoTime() < deadline) {
+            long[] element = buffer.poll();
+            if (element == null) {
+                Thread.yield();
+                continue;
+            }
+            int producer = (int) element[0];
+            if (element[1] != next[producer]) {
+                errors.add("producer " + producer + " expected " + next[producer] + " but got " + element[1]);
+            }
+            next[producer] = element[1] + 1;
+            received++;
+        }
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+        assertThat(errors).isEmpty();
+        assertThat(received).isEqualTo((long) producers * perProducer);
+        assertThat(buffer.isEmpty()).isTrue();
+    }
+
+}
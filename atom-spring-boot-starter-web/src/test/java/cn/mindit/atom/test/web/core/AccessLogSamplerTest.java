@@ -0,0 +1,127 @@
+package cn.mindit.atom.test.web.core;
+
+import cn.mindit.atom.web.core.AccessLogSampler;
+import cn.mindit.atom.web.core.LoggingProperties;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AccessLogSamplerTest {
+
+    private final LoggingProperties properties = new LoggingProperties();
+
+    private final AtomicLong clock = new AtomicLong(TimeUnit.HOURS.toNanos(1));
+
+    @Test
+    void recordsEverythingByDefault() {
+        AccessLogSampler sampler = sampler();
+        assertThat(sampler.rate("/api/users")).isEqualTo(AccessLogSampler.DEFAULT_RATE);
+        assertThat(count(sampler, AccessLogSampler.DEFAULT_RATE, 1000)).isEqualTo(1000);
+        assertThat(sampler.sampleOnError()).isTrue();
+    }
+
+    @Test
+    void everyCountsAcrossAllPaths() {
+        properties.getSampling().setEvery(3);
+        AccessLogSampler sampler = sampler();
+        // 计数器全局共用, 交替出现的两个路径合计每 3 个记录 1 个
+        boolean[] hits = new boolean[6];
+        for (int i = 0; i < hits.length; i++) {
+            hits[i] = sampler.sample(sampler.rate(i % 2 == 0 ? "/a" : "/b"));
+        }
+        assertThat(hits).containsExactly(true, false, false, true, false, false);
+    }
+
+    @Test
+    void pathRatesTakePrecedenceInDeclarationOrder() {
+        properties.getSampling().setEvery(1000);
+        properties.getSampling().getPaths().put("/api/hot/cold", 1.0);
+        properties.getSampling().getPaths().put("/api/hot/**", 0.0);
+        AccessLogSampler sampler = sampler();
+        assertThat(sampler.rate("/api/hot/cold")).isEqualTo(1.0);
+        assertThat(sampler.rate("/api/hot/x")).isEqualTo(0.0);
+        assertThat(sampler.rate("/api/other")).isEqualTo(AccessLogSampler.DEFAULT_RATE);
+        assertThat(count(sampler, 1.0, 100)).isEqualTo(100);
+        assertThat(count(sampler, 0.0, 100)).isZero();
+    }
+
+    @Test
+    void zeroMaxPerSecondIsUnlimited() {
+        properties.getSampling().setMaxPerSecond(0);
+        AccessLogSampler sampler = sampler();
+        assertThat(count(sampler, 1.0, 100_000)).isEqualTo(100_000);
+    }
+
+    @Test
+    void maxPerSecondAllowsOneSecondBurstThenSteadyRate() {
+        properties.getSampling().setMaxPerSecond(10);
+        AccessLogSampler sampler = sampler();
+        assertThat(count(sampler, 1.0, 100)).isEqualTo(10);
+        advance(TimeUnit.MILLISECONDS.toNanos(99));
+        assertThat(sampler.sample(1.0)).isFalse();
+        advance(TimeUnit.MILLISECONDS.toNanos(1));
+        assertThat(sampler.sample(1.0)).isTrue();
+        assertThat(sampler.sample(1.0)).isFalse();
+        // 空闲足够久后最多恢复 1 秒的突发量
+        advance(TimeUnit.SECONDS.toNanos(10));
+        assertThat(count(sampler, 1.0, 100)).isEqualTo(10);
+    }
+
+    @Test
+    void maxPerSecondOfOneAllowsNoBurst() {
+        properties.getSampling().setMaxPerSecond(1);
+        AccessLogSampler sampler = sampler();
+        assertThat(count(sampler, 1.0, 10)).isEqualTo(1);
+        advance(TimeUnit.MILLISECONDS.toNanos(999));
+        assertThat(sampler.sample(1.0)).isFalse();
+        advance(TimeUnit.MILLISECONDS.toNanos(1));
+        assertThat(count(sampler, 1.0, 10)).isEqualTo(1);
+        advance(TimeUnit.SECONDS.toNanos(5));
+        assertThat(count(sampler, 1.0, 10)).isEqualTo(1);
+    }
+
+    @Test
+    void unsampledRequestsDoNotConsumeTokens() {
+        properties.getSampling().setMaxPerSecond(1);
+        AccessLogSampler sampler = sampler();
+        assertThat(count(sampler, 0.0, 10)).isZero();
+        assertThat(sampler.sample(1.0)).isTrue();
+    }
+
+    @Test
+    void errorsShareTheRateLimit() {
+        properties.getSampling().setMaxPerSecond(1);
+        AccessLogSampler sampler = sampler();
+        assertThat(sampler.sampleOnError()).isTrue();
+        assertThat(sampler.sample(1.0)).isFalse();
+        assertThat(sampler.sampleOnError()).isFalse();
+    }
+
+    @Test
+    void errorsAreSkippedWhenAlwaysOnErrorIsDisabled() {
+        properties.getSampling().setAlwaysOnError(false);
+        assertThat(sampler().sampleOnError()).isFalse();
+    }
+
+    private AccessLogSampler sampler() {
+        return new AccessLogSampler(properties, clock::get);
+    }
+
+    private void advance(long nanos) {
+        clock.addAndGet(nanos);
+    }
+
+    private static int count(AccessLogSampler sampler, double rate, int requests) {
+        int sampled = 0;
+        for (int i = 0; i < requests; i++) {
+            if (sampler.sample(rate)) {
+                sampled++;
+            }
+        }
+        return sampled;
+    }
+
+}
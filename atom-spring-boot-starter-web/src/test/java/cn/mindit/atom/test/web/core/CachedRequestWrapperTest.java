@@ -0,0 +1,93 @@
+package cn.mindit.atom.test.web.core;
+
+import cn.mindit.atom.web.core.CachedRequestWrapper;
+import jakarta.servlet.ServletInputStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CachedRequestWrapperTest {
+
+    @Test
+    void shortBodyIsCachedWhole() throws IOException {
+        CachedRequestWrapper wrapper = new CachedRequestWrapper(request("{\"a\":1}"), 100);
+        assertThat(wrapper.getContentAsByteArray()).asString(StandardCharsets.UTF_8).isEqualTo("{\"a\":1}");
+        assertThat(wrapper.isTruncated()).isFalse();
+        assertThat(wrapper.getInputStream().readAllBytes()).asString(StandardCharsets.UTF_8).isEqualTo("{\"a\":1}");
+    }
+
+    @Test
+    void bodyLongerThanMaxLengthIsReadInFull() throws IOException {
+        String body = "0123456789".repeat(100);
+        CachedRequestWrapper wrapper = new CachedRequestWrapper(request(body), 16);
+        assertThat(wrapper.getContentAsByteArray()).asString(StandardCharsets.UTF_8).isEqualTo(body.substring(0, 16));
+        assertThat(wrapper.isTruncated()).isTrue();
+        assertThat(wrapper.getInputStream().readAllBytes()).asString(StandardCharsets.UTF_8).isEqualTo(body);
+        assertThat(wrapper.getInputStream().read()).isEqualTo(-1);
+        assertThat(wrapper.getInputStream().isFinished()).isTrue();
+    }
+
+    @Test
+    void mixedSingleByteAndBulkReadsCrossThePrefixBoundary() throws IOException {
+        String body = "abcdefghij";
+        CachedRequestWrapper wrapper = new CachedRequestWrapper(request(body), 4);
+        ServletInputStream in = wrapper.getInputStream();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(in.read());
+        assertThat(in.available()).isEqualTo(9);
+        byte[] chunk = new byte[6];
+        // 第一次批量读取只返回剩余的预读字节, 之后转发到原始流
+        int n = in.read(chunk, 0, chunk.length);
+        assertThat(n).isEqualTo(3);
+        out.write(chunk, 0, n);
+        assertThat(in.read(chunk, 0, 0)).isZero();
+        out.write(in.read());
+        out.write(in.readAllBytes());
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(body);
+    }
+
+    @Test
+    void readerDecodesUtf8AcrossThePrefixBoundary() throws IOException {
+        String body = "{\"name\":\"你好世界\"}";
+        CachedRequestWrapper wrapper = new CachedRequestWrapper(request(body), 11);
+        assertThat(wrapper.isTruncated()).isTrue();
+        BufferedReader reader = wrapper.getReader();
+        assertThat(reader.readLine()).isEqualTo(body);
+        assertThat(wrapper.getReader()).isSameAs(reader);
+        assertThat(wrapper.getCharacterEncoding()).isEqualTo(StandardCharsets.UTF_8.name());
+    }
+
+    @Test
+    void streamAndReaderAreExclusive() throws IOException {
+        CachedRequestWrapper streamFirst = new CachedRequestWrapper(request("{}"), 10);
+        streamFirst.getInputStream();
+        assertThatThrownBy(streamFirst::getReader).isInstanceOf(IllegalStateException.class);
+
+        CachedRequestWrapper readerFirst = new CachedRequestWrapper(request("{}"), 10);
+        readerFirst.getReader();
+        assertThatThrownBy(readerFirst::getInputStream).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void emptyBodyIsNotTruncated() throws IOException {
+        CachedRequestWrapper wrapper = new CachedRequestWrapper(request(""), 10);
+        assertThat(wrapper.getContentAsByteArray()).isEmpty();
+        assertThat(wrapper.isTruncated()).isFalse();
+        assertThat(wrapper.getInputStream().read()).isEqualTo(-1);
+    }
+
+    private static MockHttpServletRequest request(String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api");
+        request.setContentType("application/json");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+
+}
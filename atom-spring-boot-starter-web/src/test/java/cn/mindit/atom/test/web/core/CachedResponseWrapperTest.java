@@ -0,0 +1,111 @@
+package cn.mindit.atom.test.web.core;
+
+import cn.mindit.atom.web.core.CachedResponseWrapper;
+import jakarta.servlet.ServletOutputStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CachedResponseWrapperTest {
+
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    @Test
+    void byteWritesPassThroughAndCapturePrefix() throws IOException {
+        CachedResponseWrapper wrapper = new CachedResponseWrapper(response, 5);
+        ServletOutputStream out = wrapper.getOutputStream();
+        out.write('a');
+        out.write("bcdefgh".getBytes(StandardCharsets.UTF_8));
+        out.write("xyz".getBytes(StandardCharsets.UTF_8), 1, 1);
+        assertThat(response.getContentAsString()).isEqualTo("abcdefghy");
+        assertThat(wrapper.getContentAsByteArray()).asString(StandardCharsets.UTF_8).isEqualTo("abcde");
+        assertThat(wrapper.getContentSize()).isEqualTo(9);
+        assertThat(wrapper.isTruncated()).isTrue();
+    }
+
+    @Test
+    void bodyOfExactlyMaxLengthIsNotTruncated() throws IOException {
+        CachedResponseWrapper wrapper = new CachedResponseWrapper(response, 5);
+        wrapper.getOutputStream().write("abcde".getBytes(StandardCharsets.UTF_8));
+        assertThat(wrapper.getContentAsByteArray()).asString(StandardCharsets.UTF_8).isEqualTo("abcde");
+        assertThat(wrapper.isTruncated()).isFalse();
+    }
+
+    @Test
+    void zeroMaxLengthCapturesNothing() throws IOException {
+        CachedResponseWrapper wrapper = new CachedResponseWrapper(response, 0);
+        wrapper.getOutputStream().write("abc".getBytes(StandardCharsets.UTF_8));
+        assertThat(response.getContentAsString()).isEqualTo("abc");
+        assertThat(wrapper.getContentAsByteArray()).isEmpty();
+        assertThat(wrapper.getContentSize()).isEqualTo(3);
+        assertThat(wrapper.isTruncated()).isTrue();
+    }
+
+    @Test
+    void writerEncodesCharsWithoutCommittingUntilFlush() throws IOException {
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        CachedResponseWrapper wrapper = new CachedResponseWrapper(response, 100);
+        PrintWriter writer = wrapper.getWriter();
+        writer.write("你好");
+        writer.write('!');
+        writer.write(new char[]{'a', 'b', 'c'}, 1, 2);
+        writer.print(42);
+        assertThat(response.isCommitted()).isFalse();
+        assertThat(response.getContentAsString()).isEqualTo("你好!bc42");
+        assertThat(wrapper.getContentAsByteArray()).asString(StandardCharsets.UTF_8).isEqualTo("你好!bc42");
+        assertThat(wrapper.getContentSize()).isEqualTo("你好!bc42".getBytes(StandardCharsets.UTF_8).length);
+        assertThat(wrapper.getWriter()).isSameAs(writer);
+        writer.flush();
+        assertThat(response.isCommitted()).isTrue();
+    }
+
+    @Test
+    void writerUsesResponseCharacterEncoding() throws IOException {
+        response.setCharacterEncoding(StandardCharsets.ISO_8859_1.name());
+        CachedResponseWrapper wrapper = new CachedResponseWrapper(response, 100);
+        wrapper.getWriter().write("é");
+        assertThat(wrapper.getContentAsByteArray()).containsExactly(0xE9);
+    }
+
+    @Test
+    void writerTruncatesCaptureOnByteBoundary() throws IOException {
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        CachedResponseWrapper wrapper = new CachedResponseWrapper(response, 4);
+        wrapper.getWriter().write("你好");
+        assertThat(response.getContentAsString()).isEqualTo("你好");
+        assertThat(wrapper.getContentAsByteArray()).hasSize(4);
+        assertThat(wrapper.getContentSize()).isEqualTo(6);
+        assertThat(wrapper.isTruncated()).isTrue();
+    }
+
+    @Test
+    void resetBufferResetsCapture() throws IOException {
+        CachedResponseWrapper wrapper = new CachedResponseWrapper(response, 3);
+        wrapper.getOutputStream().write("abcdef".getBytes(StandardCharsets.UTF_8));
+        wrapper.resetBuffer();
+        assertThat(wrapper.getContentAsByteArray()).isEmpty();
+        assertThat(wrapper.getContentSize()).isZero();
+        assertThat(wrapper.isTruncated()).isFalse();
+        wrapper.getOutputStream().write("xy".getBytes(StandardCharsets.UTF_8));
+        assertThat(response.getContentAsString()).isEqualTo("xy");
+        assertThat(wrapper.getContentAsByteArray()).asString(StandardCharsets.UTF_8).isEqualTo("xy");
+        assertThat(wrapper.isTruncated()).isFalse();
+    }
+
+    @Test
+    void resetResetsCapture() throws IOException {
+        CachedResponseWrapper wrapper = new CachedResponseWrapper(response, 3);
+        wrapper.setStatus(500);
+        wrapper.getOutputStream().write("abcdef".getBytes(StandardCharsets.UTF_8));
+        wrapper.reset();
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(wrapper.getContentAsByteArray()).isEmpty();
+        assertThat(wrapper.isTruncated()).isFalse();
+    }
+
+}
@@ -0,0 +1,98 @@
+package cn.mindit.atom.test.web.core;
+
+import cn.mindit.atom.web.core.AccessLogSampler;
+import cn.mindit.atom.web.core.CachedResponseWrapper;
+import cn.mindit.atom.web.core.CachedWrapperFilter;
+import cn.mindit.atom.web.core.LoggingProperties;
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CachedWrapperFilterTest {
+
+    @Test
+    void excludesNormalizedPaths() throws Exception {
+        CachedWrapperFilter filter = filter("");
+        assertThat(isFiltered(filter, request("", "/actuator/health"))).isFalse();
+        assertThat(isFiltered(filter, request("", "/actuator;jsessionid=1/health"))).isFalse();
+        assertThat(isFiltered(filter, request("", "//actuator/health"))).isFalse();
+        assertThat(isFiltered(filter, request("", "/act%75ator/health"))).isFalse();
+        assertThat(isFiltered(filter, request("", "/api/users"))).isTrue();
+        assertThat(isFiltered(filter, request("", "/api/users;jsessionid=1"))).isTrue();
+    }
+
+    @Test
+    void stripsContextAndServletPath() throws Exception {
+        CachedWrapperFilter filter = filter("/mvc");
+        assertThat(isFiltered(filter, request("/app", "/app/mvc/actuator/health"))).isFalse();
+        assertThat(isFiltered(filter, request("/app", "/app/mvc/api/users"))).isTrue();
+    }
+
+    @Test
+    void skipsWrappingWhenNotSampled() throws Exception {
+        LoggingProperties properties = new LoggingProperties();
+        properties.getSampling().getPaths().put("/api/hot/**", 0.0);
+        CachedWrapperFilter filter = filter(properties, "");
+        MockHttpServletRequest request = request("", "/api/hot/1");
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+        assertThat(request.getAttribute(AccessLogSampler.SAMPLED_ATTRIBUTE)).isEqualTo(false);
+        assertThat(chain.getResponse()).isNotInstanceOf(CachedResponseWrapper.class);
+    }
+
+    @Test
+    void resolvesPathOncePerRequest() throws Exception {
+        CachedWrapperFilter filter = filter("");
+        AtomicInteger lookups = new AtomicInteger();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/users") {
+
+            @Override
+            public String getRequestURI() {
+                lookups.incrementAndGet();
+                return super.getRequestURI();
+            }
+
+        };
+        assertThat(isFiltered(filter, request)).isTrue();
+        assertThat(lookups).hasValue(1);
+    }
+
+    private static CachedWrapperFilter filter(String servletPath) throws ServletException {
+        return filter(new LoggingProperties(), servletPath);
+    }
+
+    private static CachedWrapperFilter filter(LoggingProperties properties, String servletPath) throws ServletException {
+        CachedWrapperFilter filter = new CachedWrapperFilter();
+        ReflectionTestUtils.setField(filter, "loggingProperties", properties);
+        ReflectionTestUtils.setField(filter, "accessLogSampler", new AccessLogSampler(properties));
+        ReflectionTestUtils.setField(filter, "servletPath", servletPath);
+        filter.afterPropertiesSet();
+        return filter;
+    }
+
+    private static MockHttpServletRequest request(String contextPath, String requestUri) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", requestUri);
+        request.setContextPath(contextPath);
+        return request;
+    }
+
+    /**
+     * 过滤器处理过的请求会被写入采样标记, 响应被包装
+     */
+    private static boolean isFiltered(CachedWrapperFilter filter, MockHttpServletRequest request) throws ServletException, IOException {
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+        boolean filtered = request.getAttribute(AccessLogSampler.SAMPLED_ATTRIBUTE) != null;
+        assertThat(chain.getResponse() instanceof CachedResponseWrapper).isEqualTo(filtered);
+        return filtered;
+    }
+
+}
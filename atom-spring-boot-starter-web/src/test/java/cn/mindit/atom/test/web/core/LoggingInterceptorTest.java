@@ -0,0 +1,94 @@
+package cn.mindit.atom.test.web.core;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.AppenderBase;
+import cn.mindit.atom.web.core.AccessLogDispatcher;
+import cn.mindit.atom.web.core.AccessLogSampler;
+import cn.mindit.atom.web.core.CachedResponseWrapper;
+import cn.mindit.atom.web.core.LoggingInterceptor;
+import cn.mindit.atom.web.core.LoggingProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LoggingInterceptorTest {
+
+    private final Logger accessLog = (Logger) LoggerFactory.getLogger(LoggingInterceptor.class);
+
+    private final ListAppender appender = new ListAppender();
+
+    private final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/json");
+
+    private final CachedResponseWrapper response = new CachedResponseWrapper(new MockHttpServletResponse(), 100);
+
+    private AccessLogDispatcher dispatcher;
+
+    private LoggingInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        appender.start();
+        accessLog.addAppender(appender);
+        LoggingProperties properties = new LoggingProperties();
+        properties.setAsync(false);
+        dispatcher = new AccessLogDispatcher(properties);
+        dispatcher.afterPropertiesSet();
+        interceptor = new LoggingInterceptor(dispatcher, new AccessLogSampler(properties));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        dispatcher.destroy();
+        accessLog.detachAppender(appender);
+    }
+
+    @Test
+    void logsResponseOnCompletion() throws IOException {
+        interceptor.preHandle(request, response, new Object());
+        response.getOutputStream().write("{\"a\":1}".getBytes(StandardCharsets.UTF_8));
+        interceptor.afterCompletion(request, response, new Object(), null);
+        assertThat(appender.messages).hasSize(2);
+        assertThat(appender.messages.get(1)).startsWith("RESPONSE:").endsWith("200 {\"a\":1}");
+    }
+
+    @Test
+    void defersResponseLogUntilServletAsyncCompletes() throws IOException {
+        request.setAsyncSupported(true);
+        interceptor.preHandle(request, response, new Object());
+        request.startAsync();
+        response.getOutputStream().write("{\"a\":".getBytes(StandardCharsets.UTF_8));
+        interceptor.afterCompletion(request, response, new Object(), null);
+        // 处理器返回后响应仍在写出, 此时不应记录响应
+        assertThat(appender.messages).hasSize(1);
+
+        response.getOutputStream().write("1}".getBytes(StandardCharsets.UTF_8));
+        request.getAsyncContext().complete();
+        assertThat(appender.messages).hasSize(2);
+        assertThat(appender.messages.get(1)).startsWith("RESPONSE:").endsWith("200 {\"a\":1}");
+    }
+
+    private static class ListAppender extends AppenderBase<ILoggingEvent> {
+
+        private final List<String> messages = new CopyOnWriteArrayList<>();
+
+        @Override
+        protected void append(ILoggingEvent event) {
+            messages.add(event.getFormattedMessage());
+        }
+
+    }
+
+}
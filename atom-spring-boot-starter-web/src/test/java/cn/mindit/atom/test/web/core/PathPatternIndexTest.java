@@ -0,0 +1,82 @@
+package cn.mindit.atom.test.web.core;
+
+import cn.mindit.atom.web.core.LoggingProperties;
+import cn.mindit.atom.web.core.PathPatternIndex;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PathPatternIndexTest {
+
+    private static final AntPathMatcher ANT_PATH_MATCHER = new AntPathMatcher();
+
+    private static final String[] USER_PATTERNS = {
+        "/api/**", "/api/*/detail", "/user/{id}", "/user/{id}/orders/*", "/static/*.js", "/files/**/*.json",
+        "/**/health", "/*/admin/**", "/report?", "/docs", "/docs/", "*.html", "/v?/items/**"
+    };
+
+    private static final String[] PATHS = {
+        "/", "", "/favicon.ico", "/favicon.ico/x", "/error", "/error/500", "/actuator", "/actuator/health", "/actuator/metrics/jvm.memory.used",
+        "/v3/api-docs", "/v3/api-docs/swagger-config", "/swagger-ui.html", "/swagger-ui/index.html", "/swagger-ui-custom/index.html",
+        "/webjars/js/app.js", "/api", "/api/", "/api/users", "/api/users/detail", "/api/users/1/detail", "/user/1", "/user/1/",
+        "/user/1/orders/2", "/user/1/orders/2/items", "/static/app.js", "/static/lib/app.js", "/static/app.css",
+        "/files/a.json", "/files/a/b/c.json", "/files/a/b/c.txt", "/health", "/svc/health", "/a/b/health",
+        "/x/admin", "/x/admin/users", "/admin/users", "/report1", "/report", "/report12", "/docs", "/docs/", "index.html",
+        "/index.html", "/v1/items", "/v2/items/3", "/v10/items", "/API/users", "/api/用户/detail"
+    };
+
+    @Test
+    void matchesLikeAntPathMatcherForEachPattern() {
+        LoggingProperties properties = new LoggingProperties();
+        List<String> patterns = new ArrayList<>();
+        patterns.addAll(List.of(properties.getIncludePath()));
+        patterns.addAll(List.of(properties.getInternalExcludePath()));
+        patterns.addAll(List.of(USER_PATTERNS));
+        List<String> mismatches = new ArrayList<>();
+        for (String pattern : patterns) {
+            PathPatternIndex index = new PathPatternIndex(pattern);
+            for (String path : PATHS) {
+                boolean expected = ANT_PATH_MATCHER.match(pattern, path);
+                if (index.matches(path) != expected) {
+                    mismatches.add(pattern + " -> " + path + " expected " + expected);
+                }
+            }
+        }
+        assertThat(mismatches).isEmpty();
+    }
+
+    @Test
+    void matchesLikeAntPathMatcherForPatternSets() {
+        LoggingProperties properties = new LoggingProperties();
+        assertSameAsAntPathMatcher(properties.getIncludePath());
+        assertSameAsAntPathMatcher(properties.getInternalExcludePath());
+        assertSameAsAntPathMatcher(USER_PATTERNS);
+    }
+
+    @Test
+    void emptyIndexMatchesNothing() {
+        PathPatternIndex index = new PathPatternIndex();
+        assertThat(index.isEmpty()).isTrue();
+        assertThat(index.matches("/")).isFalse();
+        assertThat(index.matches("/api")).isFalse();
+    }
+
+    private static void assertSameAsAntPathMatcher(String... patterns) {
+        PathPatternIndex index = new PathPatternIndex(patterns);
+        for (String path : PATHS) {
+            boolean expected = false;
+            for (String pattern : patterns) {
+                if (ANT_PATH_MATCHER.match(pattern, path)) {
+                    expected = true;
+                    break;
+                }
+            }
+            assertThat(index.matches(path)).as(path).isEqualTo(expected);
+        }
+    }
+
+}
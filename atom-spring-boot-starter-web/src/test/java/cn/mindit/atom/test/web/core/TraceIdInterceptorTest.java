@@ -0,0 +1,92 @@
+package cn.mindit.atom.test.web.core;
+
+import cn.mindit.atom.core.core.CoreConstants;
+import cn.mindit.atom.core.core.TraceContext;
+import cn.mindit.atom.core.metrics.LocalMetricsRegistry;
+import cn.mindit.atom.core.metrics.MeterId;
+import cn.mindit.atom.core.metrics.MetricNames;
+import cn.mindit.atom.core.metrics.Metrics;
+import cn.mindit.atom.core.metrics.MetricsRegistry;
+import cn.mindit.atom.web.core.TraceIdInterceptor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TraceIdInterceptorTest {
+
+    private final TraceIdInterceptor interceptor = new TraceIdInterceptor();
+
+    private final MetricsRegistry originalRegistry = Metrics.registry();
+
+    private final LocalMetricsRegistry registry = new LocalMetricsRegistry();
+
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    @BeforeEach
+    void setUp() {
+        Metrics.setRegistry(registry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        Metrics.setRegistry(originalRegistry);
+        TraceContext.clear();
+        MDC.clear();
+    }
+
+    @Test
+    void propagatesTraceIdToContextMdcAndResponse() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api");
+        request.addHeader(CoreConstants.TRACE_ID, "trace-1");
+        interceptor.preHandle(request, response, new Object());
+        assertThat(TraceContext.currentTraceId()).isEqualTo("trace-1");
+        assertThat(MDC.get(CoreConstants.TRACE_ID)).isEqualTo("trace-1");
+        assertThat(response.getHeader(CoreConstants.TRACE_ID)).isEqualTo("trace-1");
+
+        interceptor.afterCompletion(request, response, new Object(), null);
+        assertThat(TraceContext.current()).isNull();
+        assertThat(MDC.get(CoreConstants.TRACE_ID)).isNull();
+        assertThat(registry.timers().get(MeterId.of(MetricNames.WEB_REQUEST, "method", "GET", "outcome", "SUCCESSFUL")).count()).isEqualTo(1);
+    }
+
+    @Test
+    void generatesTraceIdWhenHeaderIsMissing() {
+        interceptor.preHandle(new MockHttpServletRequest("GET", "/api"), response, new Object());
+        assertThat(TraceContext.currentTraceId()).isNotBlank().isEqualTo(response.getHeader(CoreConstants.TRACE_ID));
+    }
+
+    @Test
+    void tagsUnknownMethodsAndStatusesWithBoundedValues() {
+        for (String method : new String[]{"PROPFIND", "get", "X-RANDOM-1"}) {
+            MockHttpServletRequest request = new MockHttpServletRequest(method, "/api");
+            interceptor.preHandle(request, response, new Object());
+            interceptor.afterCompletion(request, response, new Object(), null);
+        }
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api");
+        MockHttpServletResponse unknownStatus = new MockHttpServletResponse();
+        unknownStatus.setStatus(999);
+        interceptor.preHandle(request, unknownStatus, new Object());
+        interceptor.afterCompletion(request, unknownStatus, new Object(), null);
+
+        assertThat(registry.timers()).containsOnlyKeys(
+            MeterId.of(MetricNames.WEB_REQUEST, "method", "OTHER", "outcome", "SUCCESSFUL"),
+            MeterId.of(MetricNames.WEB_REQUEST, "method", "POST", "outcome", "UNKNOWN"));
+        assertThat(registry.timers().get(MeterId.of(MetricNames.WEB_REQUEST, "method", "OTHER", "outcome", "SUCCESSFUL")).count()).isEqualTo(3);
+    }
+
+    @Test
+    void clearsContextWhenHandlingTurnsAsync() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api");
+        interceptor.preHandle(request, response, new Object());
+        interceptor.afterConcurrentHandlingStarted(request, response, new Object());
+        assertThat(TraceContext.current()).isNull();
+        assertThat(MDC.get(CoreConstants.TRACE_ID)).isNull();
+        assertThat(registry.timers()).isEmpty();
+    }
+
+}
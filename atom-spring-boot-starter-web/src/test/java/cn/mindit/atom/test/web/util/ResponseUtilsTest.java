@@ -0,0 +1,175 @@
+package cn.mindit.atom.test.web.util;
+
+import cn.mindit.atom.web.util.ResponseUtils;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResponseUtilsTest {
+
+    private static final byte[] JSON = "{\"name\":\"atom\"}".getBytes(StandardCharsets.UTF_8);
+
+    private final MockHttpServletRequest request = new MockHttpServletRequest();
+
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    @Test
+    void rendersObject() throws IOException {
+        ResponseUtils.renderJson(response, Map.of("name", "atom"));
+        assertJsonResponse();
+    }
+
+    @Test
+    void rendersBytes() throws IOException {
+        ResponseUtils.renderJson(response, JSON);
+        assertJsonResponse();
+        assertThat(response.getContentLength()).isEqualTo(JSON.length);
+    }
+
+    @Test
+    void rendersHeapBufferWithoutMovingPosition() throws IOException {
+        byte[] padded = new byte[JSON.length + 4];
+        System.arraycopy(JSON, 0, padded, 2, JSON.length);
+        ByteBuffer buffer = ByteBuffer.wrap(padded, 2, JSON.length).slice();
+        ResponseUtils.renderJson(response, buffer);
+        assertJsonResponse();
+        assertThat(response.getContentLength()).isEqualTo(JSON.length);
+        assertThat(buffer.position()).isZero();
+        assertThat(buffer.remaining()).isEqualTo(JSON.length);
+    }
+
+    @Test
+    void rendersDirectBufferWithoutMovingPosition() throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(JSON.length).put(JSON).flip();
+        ResponseUtils.renderJson(response, buffer);
+        assertJsonResponse();
+        assertThat(buffer.position()).isZero();
+
+        MockHttpServletResponse again = new MockHttpServletResponse();
+        ResponseUtils.renderJson(again, buffer);
+        assertThat(again.getContentAsByteArray()).isEqualTo(JSON);
+    }
+
+    @Test
+    void rendersStream() throws IOException {
+        ResponseUtils.renderJsonStream(response, Map.of("name", "atom"));
+        assertJsonResponse();
+    }
+
+    @Test
+    void asyncFallsBackToBlockingWhenNotSupported() throws IOException {
+        request.setAsyncSupported(false);
+        ResponseUtils.renderJsonAsync(request, response, JSON);
+        assertThat(request.isAsyncStarted()).isFalse();
+        assertJsonResponse();
+    }
+
+    @Test
+    void asyncWritesChunksWhenReadyAndCompletes() {
+        byte[] json = new byte[20000];
+        Arrays.fill(json, (byte) '1');
+        ControlledOutputStream out = new ControlledOutputStream();
+        request.setAsyncSupported(true);
+        ByteBuffer buffer = ByteBuffer.wrap(json);
+
+        ResponseUtils.renderJsonAsync(request, new ControlledResponse(response, out), buffer);
+        assertThat(request.isAsyncStarted()).isTrue();
+        assertThat(out.listener).isNotNull();
+        assertThat(response.getContentType()).startsWith(MediaType.APPLICATION_JSON_VALUE);
+        assertThat(response.getContentLength()).isEqualTo(json.length);
+
+        // 每次可写时只写出一块, 写完后下一次回调结束异步请求
+        int callbacks = 0;
+        while (request.isAsyncStarted() && callbacks < 10) {
+            out.ready = true;
+            out.onWritePossible();
+            callbacks++;
+        }
+        assertThat(callbacks).isEqualTo(4);
+        assertThat(out.writes).isEqualTo(3);
+        assertThat(out.content.toByteArray()).isEqualTo(json);
+        assertThat(buffer.position()).isZero();
+    }
+
+    private void assertJsonResponse() throws IOException {
+        assertThat(response.getContentType()).startsWith(MediaType.APPLICATION_JSON_VALUE);
+        assertThat(response.getCharacterEncoding()).isEqualTo(StandardCharsets.UTF_8.name());
+        assertThat(response.getContentAsString()).isEqualTo(new String(JSON, StandardCharsets.UTF_8));
+    }
+
+    private static class ControlledResponse extends HttpServletResponseWrapper {
+
+        private final ServletOutputStream out;
+
+        ControlledResponse(MockHttpServletResponse response, ServletOutputStream out) {
+            super(response);
+            this.out = out;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() {
+            return out;
+        }
+
+    }
+
+    /**
+     * 每次写入后变为不可写, 由测试模拟容器再次回调 onWritePossible
+     */
+    private static class ControlledOutputStream extends ServletOutputStream {
+
+        private final ByteArrayOutputStream content = new ByteArrayOutputStream();
+
+        private WriteListener listener;
+
+        private boolean ready;
+
+        private int writes;
+
+        @Override
+        public void write(int b) {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            assertThat(ready).isTrue();
+            content.write(b, off, len);
+            writes++;
+            ready = false;
+        }
+
+        @Override
+        public boolean isReady() {
+            return ready;
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            this.listener = writeListener;
+        }
+
+        void onWritePossible() {
+            try {
+                listener.onWritePossible();
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+    }
+
+}
@@ -2,6 +2,9 @@ package cn.mindit.atom.kafka;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import cn.mindit.atom.core.metrics.MetricNames;
+import cn.mindit.atom.core.metrics.Metrics;
+import cn.mindit.atom.core.metrics.Timer;
 import cn.mindit.atom.core.util.JsonUtils;
 import org.apache.kafka.clients.producer.ProducerRecord;
 import org.springframework.kafka.core.KafkaTemplate;
@@ -17,6 +20,9 @@ import java.util.concurrent.CompletableFuture;
 @Slf4j
 public class KafkaService {
 
+    private static final Timer SUCCESS_TIMER = Metrics.lazyTimer(MetricNames.KAFKA_SEND, MetricNames.TAG_RESULT, MetricNames.RESULT_SUCCESS);
+    private static final Timer ERROR_TIMER = Metrics.lazyTimer(MetricNames.KAFKA_SEND, MetricNames.TAG_RESULT, MetricNames.RESULT_ERROR);
+
     private final KafkaTemplate<String, String> kafkaTemplate;
 
     public void send(String topic, Object message) {
@@ -26,8 +32,10 @@ public class KafkaService {
     public void send(String topic, String key, Object message) {
         String json = JsonUtils.toJson(message);
         ProducerRecord<String, String> producerRecord = new ProducerRecord<>(topic, null, System.currentTimeMillis(), key, json);
+        long start = System.nanoTime();
         CompletableFuture<SendResult<String, String>> future = kafkaTemplate.send(producerRecord);
         future.whenComplete((result, ex) -> {
+            (ex == null ? SUCCESS_TIMER : ERROR_TIMER).record(System.nanoTime() - start);
             if (ex != null) {
                 log.error("Kafka send error: {}", ex.getMessage());
             }